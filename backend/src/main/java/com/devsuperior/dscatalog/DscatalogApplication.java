@@ -2,8 +2,11 @@ package com.devsuperior.dscatalog;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+// 2026-10-18 - Tarefas periódicas (@Scheduled), como a limpeza do registro de alterações
+@EnableScheduling
 public class DscatalogApplication {
 
 	public static void main(String[] args) {
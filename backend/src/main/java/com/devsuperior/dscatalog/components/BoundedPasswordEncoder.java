@@ -0,0 +1,137 @@
+package com.devsuperior.dscatalog.components;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.devsuperior.dscatalog.services.exceptions.ServiceBusyException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// 2026-10-18 - Executa o hash de senhas (BCrypt) em um pool próprio e
+// limitado: uma rajada de logins ocupa no máximo "threads" núcleos.
+// A thread do Tomcat continua bloqueada esperando o próprio hash. O que
+// limita as threads de requisição presas é a fila e o tempo de espera: no
+// máximo "threads" + "queueSize" requisições esperam, cada uma por até
+// "timeoutMillis". Com a fila cheia a chamada falha na hora e, passado o
+// tempo de espera, o hash é cancelado; nos dois casos com
+// ServiceBusyException (503), e as demais threads seguem livres para os GET
+// do catálogo.
+//
+// Métricas: catalog.password.hash (tempo do hash, por operação),
+// catalog.password.wait (tempo na fila), catalog.password.queue,
+// catalog.password.active, catalog.password.rejected e
+// catalog.password.timeouts.
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+	private final PasswordEncoder delegate;
+	private final ThreadPoolExecutor executor;
+
+	private final Timer encodeTimer;
+	private final Timer matchesTimer;
+	private final Timer waitTimer;
+	private final Counter rejected;
+	private final Counter timeouts;
+
+	// Espera máxima da requisição (fila + hash)
+	private final long timeoutMillis;
+
+	public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueSize, long timeoutMillis,
+			MeterRegistry registry) {
+
+		this.delegate = delegate;
+		this.timeoutMillis = timeoutMillis;
+
+		AtomicLong count = new AtomicLong();
+
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueSize), runnable -> {
+					Thread thread = new Thread(runnable, "password-hash-" + count.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}, new ThreadPoolExecutor.AbortPolicy());
+
+		encodeTimer = Timer.builder("catalog.password.hash").tag("operation", "encode")
+				.description("Tempo do hash de senha").register(registry);
+		matchesTimer = Timer.builder("catalog.password.hash").tag("operation", "matches")
+				.description("Tempo do hash de senha").register(registry);
+		waitTimer = Timer.builder("catalog.password.wait").description("Tempo na fila do hash de senha")
+				.register(registry);
+		rejected = Counter.builder("catalog.password.rejected").description("Hashes recusados por fila cheia")
+				.register(registry);
+		timeouts = Counter.builder("catalog.password.timeouts")
+				.description("Hashes cancelados por passar do tempo de espera").register(registry);
+
+		Gauge.builder("catalog.password.queue", executor, pool -> pool.getQueue().size())
+				.description("Hashes aguardando na fila").register(registry);
+		Gauge.builder("catalog.password.active", executor, ThreadPoolExecutor::getActiveCount)
+				.description("Hashes em execução").register(registry);
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return execute(encodeTimer, () -> delegate.encode(rawPassword));
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return execute(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+	}
+
+	// Só lê o custo gravado no hash, não precisa do pool
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	private <T> T execute(Timer timer, Callable<T> hash) {
+
+		long queuedAt = System.nanoTime();
+		Future<T> future;
+
+		try {
+			future = executor.submit(() -> {
+				waitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+				return timer.recordCallable(hash);
+			});
+		} catch (RejectedExecutionException e) {
+			rejected.increment();
+			throw new ServiceBusyException("Muitas autenticações simultâneas. Tente novamente em instantes");
+		}
+
+		try {
+			return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			// Ainda na fila, o hash não chega a rodar. Já em execução, o BCrypt vai
+			// até o fim (não atende interrupção), mas a requisição é liberada
+			future.cancel(true);
+			timeouts.increment();
+			throw new ServiceBusyException("Muitas autenticações simultâneas. Tente novamente em instantes");
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new ServiceBusyException("Hash de senha interrompido");
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+}
@@ -0,0 +1,236 @@
+package com.devsuperior.dscatalog.components;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+
+import org.springframework.security.jwt.JwtHelper;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.common.OAuth2RefreshToken;
+import org.springframework.security.oauth2.common.exceptions.InvalidGrantException;
+import org.springframework.security.oauth2.common.exceptions.InvalidTokenException;
+import org.springframework.security.oauth2.common.util.JsonParserFactory;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.token.AccessTokenConverter;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
+import org.springframework.security.oauth2.provider.token.store.JwtTokenStore;
+
+import com.devsuperior.dscatalog.services.cache.BoundedCache;
+import com.devsuperior.dscatalog.services.exceptions.ValidationException;
+import com.devsuperior.dscatalog.services.revocation.TokenRevocationService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 2026-10-18 - JwtTokenStore com cache dos tokens já verificados.
+// Sem o cache, cada requisição autenticada decodifica o JWT, confere a
+// assinatura HMAC e monta o OAuth2Authentication com os perfis, e isso duas
+// vezes (readAccessToken e readAuthentication). Com o cache, só a primeira
+// requisição de cada token faz esse trabalho.
+//
+// A chave é o SHA-256 do token (o token em si não fica guardado) e a
+// entrada vale até o "exp" do token, limitada ao TTL do cache. Tokens
+// inválidos não entram no cache: a exceção da verificação segue normalmente.
+//
+// 2026-10-18 - Revogação: o "jti" de cada token lido, em cache ou não, é
+// conferido no TokenRevocationService (memória, sem acesso ao banco).
+// O refresh token usado na renovação é revogado (reuseRefreshTokens(false)
+// passa a valer de fato) e o logout revoga o token de acesso e o refresh token.
+// A revogação na renovação é atômica (INSERT pelo "jti"): de duas renovações
+// simultâneas com o mesmo refresh token, só uma recebe tokens novos.
+public class CachingJwtTokenStore extends JwtTokenStore {
+
+	private final BoundedCache<String, Verified> cache;
+
+	// Nulo: sem revogação
+	private final TokenRevocationService revocationService;
+
+	public CachingJwtTokenStore(JwtAccessTokenConverter converter, int maxSize, long ttlMillis,
+			MeterRegistry registry) {
+		this(converter, maxSize, ttlMillis, registry, null);
+	}
+
+	public CachingJwtTokenStore(JwtAccessTokenConverter converter, int maxSize, long ttlMillis,
+			MeterRegistry registry, TokenRevocationService revocationService) {
+
+		super(converter);
+
+		this.revocationService = revocationService;
+
+		cache = new BoundedCache<>("jwt", maxSize, ttlMillis);
+		cache.bindTo(registry);
+	}
+
+	@Override
+	public OAuth2AccessToken readAccessToken(String tokenValue) {
+		return verified(tokenValue).accessToken;
+	}
+
+	// Cópia por leitura: o Spring Security grava os detalhes da requisição
+	// (IP, sessão) no OAuth2Authentication, que não pode ser compartilhado
+	@Override
+	public OAuth2Authentication readAuthentication(String token) {
+
+		OAuth2Authentication authentication = verified(token).authentication;
+
+		return new OAuth2Authentication(authentication.getOAuth2Request(), authentication.getUserAuthentication());
+	}
+
+	@Override
+	public void removeAccessToken(OAuth2AccessToken token) {
+		evict(token.getValue());
+		super.removeAccessToken(token);
+	}
+
+	// Refresh token revogado é tratado como inexistente: o token endpoint
+	// responde invalid_grant
+	@Override
+	public OAuth2RefreshToken readRefreshToken(String tokenValue) {
+
+		OAuth2RefreshToken refreshToken = super.readRefreshToken(tokenValue);
+
+		if (refreshToken != null && revocationService != null
+				&& revocationService.isRevoked((String) claims(tokenValue).get(AccessTokenConverter.JTI))) {
+			return null;
+		}
+
+		return refreshToken;
+	}
+
+	// O JwtTokenStore lê o refresh token por readAuthentication, que aqui passa
+	// pelo cache de tokens de acesso e recusaria o refresh token
+	@Override
+	public OAuth2Authentication readAuthenticationForRefreshToken(OAuth2RefreshToken token) {
+		return super.readAuthentication(token.getValue());
+	}
+
+	// Chamado pelo token endpoint antes de emitir os tokens novos da renovação.
+	// Se outra requisição já revogou o refresh token, esta responde invalid_grant
+	@Override
+	public void removeRefreshToken(OAuth2RefreshToken token) {
+
+		if (!revoke(token.getValue())) {
+			throw new InvalidGrantException("Refresh token já utilizado");
+		}
+
+		super.removeRefreshToken(token);
+	}
+
+	// Logout: revoga o token de acesso da requisição
+	public void revokeAccessToken(String tokenValue) {
+		revoke(tokenValue);
+		evict(tokenValue);
+	}
+
+	// Logout: revoga o refresh token, que deve ser do mesmo usuário
+	public void revokeRefreshToken(String tokenValue, String username) {
+
+		OAuth2RefreshToken refreshToken;
+
+		try {
+			refreshToken = readRefreshToken(tokenValue);
+		} catch (InvalidTokenException e) {
+			throw new ValidationException("refresh_token", "Refresh token inválido");
+		}
+
+		// Já revogado
+		if (refreshToken == null) {
+			return;
+		}
+
+		if (!readAuthenticationForRefreshToken(refreshToken).getName().equals(username)) {
+			throw new ValidationException("refresh_token", "O refresh token não pertence ao usuário autenticado");
+		}
+
+		// Revogado ao mesmo tempo por outra requisição: o resultado é o mesmo
+		revoke(tokenValue);
+	}
+
+	// Retira um token do cache (ex.: token revogado)
+	public void evict(String tokenValue) {
+		cache.invalidate(digest(tokenValue));
+	}
+
+	private Verified verified(String tokenValue) {
+
+		String key = digest(tokenValue);
+		Verified verified = cache.get(key);
+
+		if (verified == null || verified.isExpired()) {
+
+			long generation = cache.generation();
+
+			OAuth2AccessToken accessToken = super.readAccessToken(tokenValue);
+			verified = new Verified(accessToken, super.readAuthentication(tokenValue));
+
+			// Token já expirado não entra: quem chamou recusa o token
+			if (!verified.isExpired()) {
+				cache.put(key, verified, generation);
+			}
+		}
+
+		if (revocationService != null && revocationService.isRevoked(verified.jti)) {
+			throw new InvalidTokenException("Token revogado");
+		}
+
+		return verified;
+	}
+
+	// O token já passou pela verificação da assinatura: aqui só são lidos o
+	// "jti" e o "exp". Devolve false se o token já estava revogado
+	private boolean revoke(String tokenValue) {
+
+		if (revocationService == null) {
+			return true;
+		}
+
+		Map<String, Object> claims = claims(tokenValue);
+		Object jti = claims.get(AccessTokenConverter.JTI);
+		Object exp = claims.get(AccessTokenConverter.EXP);
+
+		if (jti == null) {
+			return true;
+		}
+
+		return revocationService.revoke(jti.toString(),
+				exp instanceof Number ? Instant.ofEpochSecond(((Number) exp).longValue()) : null);
+	}
+
+	private static Map<String, Object> claims(String tokenValue) {
+		return JsonParserFactory.create().parseMap(JwtHelper.decode(tokenValue).getClaims());
+	}
+
+	private static String digest(String tokenValue) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(tokenValue.getBytes(StandardCharsets.UTF_8));
+			return Base64.getEncoder().encodeToString(hash);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static class Verified {
+
+		final OAuth2AccessToken accessToken;
+		final OAuth2Authentication authentication;
+		final String jti;
+
+		// Tokens sem "exp" ficam até o TTL do cache
+		final long expiresAt;
+
+		Verified(OAuth2AccessToken accessToken, OAuth2Authentication authentication) {
+			this.accessToken = accessToken;
+			this.authentication = authentication;
+			this.jti = (String) accessToken.getAdditionalInformation().get(AccessTokenConverter.JTI);
+			this.expiresAt = accessToken.getExpiration() == null ? Long.MAX_VALUE
+					: accessToken.getExpiration().getTime();
+		}
+
+		boolean isExpired() {
+			return expiresAt <= System.currentTimeMillis();
+		}
+	}
+
+}
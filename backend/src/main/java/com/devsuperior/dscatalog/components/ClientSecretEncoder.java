@@ -0,0 +1,45 @@
+package com.devsuperior.dscatalog.components;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+// 2026-10-18 - Codificador do segredo do cliente OAuth (client secret).
+// Toda chamada a /oauth/token autentica o cliente, inclusive o refresh: com
+// o BCrypt, cada renovação de token custaria um hash lento. O segredo do
+// cliente vem da configuração (CLIENT_SECRET), não é escolhido por pessoas
+// e fica só em memória, então um SHA-256 com comparação em tempo constante
+// basta. Senhas de usuários continuam com o BCrypt.
+//
+// Não é um @Bean de propósito: um segundo PasswordEncoder no contexto
+// deixaria o Spring Security sem saber qual usar nas senhas dos usuários.
+public class ClientSecretEncoder implements PasswordEncoder {
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return Base64.getEncoder().encodeToString(digest(rawPassword));
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+
+		if (rawPassword == null || encodedPassword == null) {
+			return false;
+		}
+
+		return MessageDigest.isEqual(encode(rawPassword).getBytes(StandardCharsets.US_ASCII),
+				encodedPassword.getBytes(StandardCharsets.US_ASCII));
+	}
+
+	private static byte[] digest(CharSequence value) {
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(value.toString().getBytes(StandardCharsets.UTF_8));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
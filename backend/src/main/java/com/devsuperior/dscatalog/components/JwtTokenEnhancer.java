@@ -4,6 +4,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
 import org.springframework.security.oauth2.common.OAuth2AccessToken;
 import org.springframework.security.oauth2.provider.OAuth2Authentication;
@@ -22,10 +23,15 @@ public class JwtTokenEnhancer implements TokenEnhancer {
 	@Override
 	public OAuth2AccessToken enhance(OAuth2AccessToken accessToken, OAuth2Authentication authentication) {
 
+		// 2026-10-18 - O usuário já autenticado (senha ou refresh token) é o
+		// principal: reaproveitado sem nova consulta ao banco.
 		// Os dados do usuário serão obtidos através do e-mail que está instanciado
-		// na classe OAuth2Authentication, método getName(). Isso foi definido na classe
-		// User.
-		User user = userRepository.findByEmail(authentication.getName());
+		// na classe OAuth2Authentication, método getName(), somente quando o
+		// principal não for um User. Isso foi definido na classe User.
+		Authentication userAuthentication = authentication.getUserAuthentication();
+		Object principal = userAuthentication == null ? null : userAuthentication.getPrincipal();
+
+		User user = principal instanceof User ? (User) principal : userRepository.findByEmail(authentication.getName());
 
 		Map<String, Object> map = new HashMap<>();
 		map.put("userFirstName", user.getFirstName());
@@ -0,0 +1,49 @@
+package com.devsuperior.dscatalog.components;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.oauth2.common.exceptions.OAuth2Exception;
+import org.springframework.security.oauth2.provider.error.DefaultWebResponseExceptionTranslator;
+
+import com.devsuperior.dscatalog.services.exceptions.ServiceBusyException;
+
+// 2026-10-18 - Erros do /oauth/token. O endpoint trata as próprias exceções
+// (o ResourceExceptionHandler não é chamado) e devolveria 500 para a fila
+// cheia do hash de senhas: aqui ela vira 503 "temporarily_unavailable"
+// (RFC 6749) com Retry-After. O restante segue o tradutor padrão.
+public class OAuthExceptionTranslator extends DefaultWebResponseExceptionTranslator {
+
+	@Override
+	public ResponseEntity<OAuth2Exception> translate(Exception e) throws Exception {
+
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+			if (cause instanceof ServiceBusyException) {
+				return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1")
+						.header(HttpHeaders.CACHE_CONTROL, "no-store").body(new TemporarilyUnavailable(cause.getMessage()));
+			}
+		}
+
+		return super.translate(e);
+	}
+
+	private static class TemporarilyUnavailable extends OAuth2Exception {
+
+		private static final long serialVersionUID = 1L;
+
+		TemporarilyUnavailable(String msg) {
+			super(msg);
+		}
+
+		@Override
+		public String getOAuth2ErrorCode() {
+			return "temporarily_unavailable";
+		}
+
+		@Override
+		public int getHttpErrorCode() {
+			return HttpStatus.SERVICE_UNAVAILABLE.value();
+		}
+	}
+
+}
@@ -4,8 +4,14 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
-import org.springframework.security.oauth2.provider.token.store.JwtTokenStore;
+
+import com.devsuperior.dscatalog.components.BoundedPasswordEncoder;
+import com.devsuperior.dscatalog.components.CachingJwtTokenStore;
+import com.devsuperior.dscatalog.services.revocation.TokenRevocationService;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Configuration
 public class AppConfig {
@@ -13,14 +19,43 @@ public class AppConfig {
 	//Obtém a palavra secreta do arquivo application.properties
 	@Value("${jwt.secret}")
 	private String jwtSecret;
+
+	// 2026-10-18 - Validade do token, usada como TTL máximo do cache de tokens verificados
+	@Value("${jwt.duration}")
+	private Integer jwtDuration;
+
+	// Quantidade máxima de tokens verificados em cache
+	@Value("${catalog.cache.jwt.max-size:10000}")
+	private Integer jwtCacheMaxSize;
+
+	// 2026-10-18 - Custo do BCrypt. Ao aumentar, as senhas gravadas com custo
+	// menor são refeitas no próximo login (UserService.updatePassword)
+	@Value("${catalog.password.bcrypt-strength:10}")
+	private Integer bcryptStrength;
+
+	// Threads do hash de senhas. Zero usa a quantidade de processadores
+	@Value("${catalog.password.hash-threads:0}")
+	private Integer hashThreads;
+
+	// Hashes aguardando thread. Acima disso a requisição recebe 503
+	@Value("${catalog.password.queue-size:50}")
+	private Integer hashQueueSize;
+
+	// Espera máxima pelo hash (fila + execução). Depois disso a requisição recebe 503
+	@Value("${catalog.password.timeout-millis:2000}")
+	private Long hashTimeoutMillis;
 	
 	
 	// Anotação @Bean serve para definir métodos
 	// que serão injetados em outras classes
-	@Bean
-	public BCryptPasswordEncoder passwordEncoder() {
+	// 2026-10-18 - BCrypt executado no pool limitado do BoundedPasswordEncoder
+	@Bean(destroyMethod = "shutdown")
+	public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+
+		int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
 
-		return new BCryptPasswordEncoder();
+		return new BoundedPasswordEncoder(new BCryptPasswordEncoder(bcryptStrength), threads, hashQueueSize,
+				hashTimeoutMillis, meterRegistry);
 
 	}
 
@@ -31,9 +66,12 @@ public class AppConfig {
 		return tokenConverter;
 	}
 
+	// 2026-10-18 - Tokens já verificados ficam em cache até o "exp" (CachingJwtTokenStore)
+	// e cada leitura confere se o token foi revogado
 	@Bean
-	public JwtTokenStore tokenStore() {
-		return new JwtTokenStore(accessTokenConverter());
+	public CachingJwtTokenStore tokenStore(MeterRegistry meterRegistry, TokenRevocationService revocationService) {
+		return new CachingJwtTokenStore(accessTokenConverter(), jwtCacheMaxSize, jwtDuration * 1000L, meterRegistry,
+				revocationService);
 	}
 
 }
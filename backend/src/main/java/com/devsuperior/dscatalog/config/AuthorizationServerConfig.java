@@ -6,7 +6,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.oauth2.config.annotation.configurers.ClientDetailsServiceConfigurer;
 import org.springframework.security.oauth2.config.annotation.web.configuration.AuthorizationServerConfigurerAdapter;
 import org.springframework.security.oauth2.config.annotation.web.configuration.EnableAuthorizationServer;
@@ -16,7 +16,9 @@ import org.springframework.security.oauth2.provider.token.TokenEnhancerChain;
 import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
 import org.springframework.security.oauth2.provider.token.store.JwtTokenStore;
 
+import com.devsuperior.dscatalog.components.ClientSecretEncoder;
 import com.devsuperior.dscatalog.components.JwtTokenEnhancer;
+import com.devsuperior.dscatalog.components.OAuthExceptionTranslator;
 
 @Configuration
 @EnableAuthorizationServer
@@ -31,10 +33,15 @@ public class AuthorizationServerConfig extends AuthorizationServerConfigurerAdap
 	
 	@Value("${jwt.duration}")
 	private Integer jwtDuration;
+
+	// 2026-10-18 - Validade do refresh token em segundos
+	@Value("${jwt.refresh-duration}")
+	private Integer jwtRefreshDuration;
 	
 	
-	@Autowired
-	private BCryptPasswordEncoder passwordEncoder;
+	// 2026-10-18 - Segredo do cliente com SHA-256 no lugar do BCrypt: o refresh
+	// token não passa por nenhum hash lento (ver ClientSecretEncoder)
+	private final ClientSecretEncoder clientSecretEncoder = new ClientSecretEncoder();
 
 	@Autowired
 	private JwtAccessTokenConverter accessTokenConverter;
@@ -48,12 +55,18 @@ public class AuthorizationServerConfig extends AuthorizationServerConfigurerAdap
 	
 	@Autowired
 	private JwtTokenEnhancer jwtTokenEnhancer;
+
+	// 2026-10-18 - Recarrega o usuário no refresh (conta removida ou perfis
+	// alterados), sem conferir senha
+	@Autowired
+	private UserDetailsService userDetailsService;
 	
 	
 	@Override
 	public void configure(AuthorizationServerSecurityConfigurer security) throws Exception {
 
-		security.tokenKeyAccess("permitAll()").checkTokenAccess("isAuthenticated()");
+		security.tokenKeyAccess("permitAll()").checkTokenAccess("isAuthenticated()")
+				.passwordEncoder(clientSecretEncoder);
 
 	}
 
@@ -61,10 +74,11 @@ public class AuthorizationServerConfig extends AuthorizationServerConfigurerAdap
 	public void configure(ClientDetailsServiceConfigurer clients) throws Exception {
 
 		clients.inMemory().withClient(clientId) /* Nome da aplicação */
-				.secret(passwordEncoder.encode(clientSecret)) /*Senha da aplicação criptografada. Temporariamente fixa*/
+				.secret(clientSecretEncoder.encode(clientSecret)) /*Senha da aplicação criptografada. Temporariamente fixa*/
 				.scopes("read", "write") /* Escopo de acesso. Leitura e Escrita */
-				.authorizedGrantTypes("password") /* Tipo de autorização = password */
-				.accessTokenValiditySeconds(jwtDuration); /* Tempo de validade do token em segundos */
+				.authorizedGrantTypes("password", "refresh_token") /* Tipo de autorização = password e refresh token */
+				.accessTokenValiditySeconds(jwtDuration) /* Tempo de validade do token em segundos */
+				.refreshTokenValiditySeconds(jwtRefreshDuration); /* Tempo de validade do refresh token em segundos */
 
 	}
 
@@ -81,7 +95,16 @@ public class AuthorizationServerConfig extends AuthorizationServerConfigurerAdap
 		endpoints.authenticationManager(autenticationManager).tokenStore(tokenStore)
 				.accessTokenConverter(accessTokenConverter)
 				//Adicionando mais informações do usuário com token enhancer
-				.tokenEnhancer(chain);
+				.tokenEnhancer(chain)
+				// 2026-10-18 - Refresh token: cada renovação devolve um novo refresh token (rotação).
+				// O JWT não tem estado no servidor: a rotação sozinha não invalida o token
+				// anterior. Quem recusa o token já usado é a revogação do
+				// CachingJwtTokenStore (removeRefreshToken grava o "jti" na lista de revogados);
+				// sem o TokenRevocationService o token antigo vale até expirar
+				.userDetailsService(userDetailsService)
+				.reuseRefreshTokens(false)
+				// 2026-10-18 - Fila do hash de senhas cheia responde 503
+				.exceptionTranslator(new OAuthExceptionTranslator());
 	}
 
 }
@@ -31,11 +31,11 @@ public class ResourceServerConfig extends ResourceServerConfigurerAdapter {
 	@Autowired
 	private Environment env;
 	
-	private static final String[] PUBLIC = { "/oauth/token", "/h2-console/**" };
+	private static final String[] PUBLIC = { "/oauth/token", "/h2-console/**", "/actuator/health" };
 
 	private static final String[] OPERATOR_OR_ADMIN = { "/products/**", "/categories/**" };
 
-	private static final String[] ADMIN = { "/users/**" };
+	private static final String[] ADMIN = { "/users/**", "/actuator/**", "/products/bulk/**" };
 
 
 	// Esse método é responsável por decodificar o token e analisar
@@ -64,8 +64,9 @@ public class ResourceServerConfig extends ResourceServerConfigurerAdapter {
 		http.authorizeRequests()
 			.antMatchers(PUBLIC).permitAll()
 			.antMatchers(HttpMethod.GET, OPERATOR_OR_ADMIN).permitAll()
-			.antMatchers(OPERATOR_OR_ADMIN).hasAnyRole("OPERATOR", "ADMIN")
+			// 2026-10-18 - ADMIN antes de OPERATOR_OR_ADMIN: /products/bulk/** é só do ADMIN
 			.antMatchers(ADMIN).hasRole("ADMIN")
+			.antMatchers(OPERATOR_OR_ADMIN).hasAnyRole("OPERATOR", "ADMIN")
 			.anyRequest().authenticated();
 		
 		//28/02/2022 - Adicionada chamada ao método corsConfigurationSource()
@@ -87,7 +88,10 @@ public class ResourceServerConfig extends ResourceServerConfigurerAdapter {
 
 		corsConfig.setAllowedMethods(Arrays.asList("POST", "GET", "PUT", "DELETE", "PATCH"));
 		corsConfig.setAllowCredentials(true);
-		corsConfig.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type"));
+		corsConfig.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "If-None-Match"));
+
+		// 2026-10-18 - ETag visível para o front-end fazer GET condicional
+		corsConfig.setExposedHeaders(Arrays.asList("ETag"));
 
 		UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
 		source.registerCorsConfiguration("/**", corsConfig);
@@ -9,7 +9,8 @@ import org.springframework.security.config.annotation.web.builders.WebSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
 @EnableWebSecurity
@@ -18,22 +19,29 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
 	// Refatorado em 11/02/2022
 
 	// 11/02/2022 - Injetado Bean BCryptPasswordEncoder
+	// 2026-10-18 - BCrypt no pool limitado (AppConfig)
 	@Autowired
-	private BCryptPasswordEncoder passwordEncoder;
+	private PasswordEncoder passwordEncoder;
 
 	// 11/02/2022 - Injetado UserDetailsService
 	@Autowired
 	private UserDetailsService userDetailsService;
 
+	// 2026-10-18 - Regrava a senha quando o custo do BCrypt aumentar
+	@Autowired
+	private UserDetailsPasswordService userDetailsPasswordService;
+
 	// @Override
 	// public void configure(WebSecurity web) throws Exception {
 	// web.ignoring().antMatchers("/**");
 	// }
 
 	// 11/02/2022 - Inclusão da biblioteca actuator utilizada pelo OAuth
+	// 2026-10-18 - Só o health fica fora da segurança: os demais endpoints
+	// (/actuator/metrics) passam pelo ResourceServerConfig e exigem ADMIN
 	@Override
 	public void configure(WebSecurity web) throws Exception {
-		web.ignoring().antMatchers("/actuator/**");
+		web.ignoring().antMatchers("/actuator/health");
 	}
 
 	// Inclusão do método AuthenticationManagerBuilder - Source Override
@@ -43,7 +51,8 @@ public class WebSecurityConfig extends WebSecurityConfigurerAdapter {
 
 		// Agora o Spring Security vai saber obter o usuário por e-mail e analisar a
 		// senha criptografada.
-		auth.userDetailsService(userDetailsService).passwordEncoder(passwordEncoder);
+		auth.userDetailsService(userDetailsService).passwordEncoder(passwordEncoder)
+				.userDetailsPasswordManager(userDetailsPasswordService);
 
 	}
 
@@ -0,0 +1,32 @@
+package com.devsuperior.dscatalog.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.devsuperior.dscatalog.services.AuthService;
+
+@RestController
+@RequestMapping(value = "/auth")
+public class AuthController {
+
+	@Autowired
+	private AuthService authService;
+
+	// 2026-10-18 - Logout com o token de acesso no cabeçalho Authorization.
+	// O refresh_token é opcional (mesmo nome do parâmetro do /oauth/token)
+	@PostMapping(value = "/logout")
+	public ResponseEntity<Void> logout(OAuth2Authentication authentication,
+			@RequestParam(value = "refresh_token", required = false) String refreshToken) {
+
+		authService.logout(authentication, refreshToken);
+
+		return ResponseEntity.noContent().build();
+
+	}
+
+}
@@ -7,6 +7,7 @@ import javax.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,7 +20,9 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import com.devsuperior.dscatalog.dto.CategoryDTO;
+import com.devsuperior.dscatalog.dto.SliceDTO;
 import com.devsuperior.dscatalog.services.CategoryService;
+import com.devsuperior.dscatalog.services.etag.EntityTags;
 
 @RestController
 @RequestMapping(value = "/categories")
@@ -48,11 +51,31 @@ public class CategoryController {
 	// }
 
 	// 2022-02-01 - Refatoracao da paginacao utilizando um objeto pageable
+	// 2026-10-18 - ETag fraco da página: com If-None-Match igual o Spring devolve
+	// 304 sem serializar o JSON
 	@GetMapping
 	public ResponseEntity<Page<CategoryDTO>> findAll(Pageable pageable) {
 
 		Page<CategoryDTO> pageDto = categoryService.findAllPaged(pageable);
 
+		return ResponseEntity.ok().eTag(EntityTags.collection(pageDto, EntityTags::category)).body(pageDto);
+	}
+
+	// 2026-10-18 - count=none devolve a página sem total (hasNext) e
+	// count=approx devolve o total aproximado, marcado com "approximate"
+	@GetMapping(params = "count=none")
+	public ResponseEntity<SliceDTO<CategoryDTO>> findAllSliced(Pageable pageable) {
+
+		Slice<CategoryDTO> slice = categoryService.findAllSliced(pageable);
+
+		return ResponseEntity.ok().body(new SliceDTO<>(slice));
+	}
+
+	@GetMapping(params = "count=approx")
+	public ResponseEntity<Page<CategoryDTO>> findAllApproximate(Pageable pageable) {
+
+		Page<CategoryDTO> pageDto = categoryService.findAllApproximate(pageable);
+
 		return ResponseEntity.ok().body(pageDto);
 	}
 
@@ -61,7 +84,9 @@ public class CategoryController {
 
 		CategoryDTO categoryDto = categoryService.findById(id);
 
-		return ResponseEntity.ok().body(categoryDto);
+		// 2026-10-18 - A categoria vem da cópia em memória: o ETag forte basta
+		// para o Spring devolver 304 sem serializar o JSON
+		return ResponseEntity.ok().eTag(EntityTags.category(categoryDto)).body(categoryDto);
 
 	}
 
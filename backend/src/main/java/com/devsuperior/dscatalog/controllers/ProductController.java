@@ -1,26 +1,56 @@
 package com.devsuperior.dscatalog.controllers;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.devsuperior.dscatalog.dto.BulkOperationResultDTO;
+import com.devsuperior.dscatalog.dto.CategoryFacetDTO;
+import com.devsuperior.dscatalog.dto.CategoryReassignmentDTO;
+import com.devsuperior.dscatalog.dto.CursorPageDTO;
 import com.devsuperior.dscatalog.dto.ProductDTO;
+import com.devsuperior.dscatalog.dto.PriceAdjustmentDTO;
+import com.devsuperior.dscatalog.dto.ProductChangeFeedDTO;
+import com.devsuperior.dscatalog.dto.ProductBulkDeleteDTO;
+import com.devsuperior.dscatalog.dto.ProductImportReportDTO;
+import com.devsuperior.dscatalog.dto.SliceDTO;
+import com.devsuperior.dscatalog.services.ProductBulkService;
 import com.devsuperior.dscatalog.services.ProductService;
+import com.devsuperior.dscatalog.services.changes.ProductChangeFeedService;
+import com.devsuperior.dscatalog.services.etag.EntityTags;
+import com.devsuperior.dscatalog.services.export.ProductExportService;
+import com.devsuperior.dscatalog.services.stream.CatalogEventStream;
+import com.devsuperior.dscatalog.services.importer.ProductImportService;
+import com.fasterxml.jackson.databind.JsonNode;
 
 @RestController
 @RequestMapping(value = "/products")
@@ -29,6 +59,21 @@ public class ProductController {
 	@Autowired
 	private ProductService productService;
 
+	@Autowired
+	private ProductImportService productImportService;
+
+	@Autowired
+	private ProductBulkService productBulkService;
+
+	@Autowired
+	private ProductExportService productExportService;
+
+	@Autowired
+	private ProductChangeFeedService productChangeFeedService;
+
+	@Autowired
+	private CatalogEventStream catalogEventStream;
+
 	// 2022-02-01 - Refatoracao da paginacao utilizando um objeto pageable
 	//	@GetMapping
 	//	public ResponseEntity<Page<ProductDTO>> findAll(
@@ -47,6 +92,8 @@ public class ProductController {
 
 
 	// 2022-02-01 - Refatoracao da paginacao utilizando um objeto pageable
+	// 2026-10-18 - ETag fraco da página: com If-None-Match igual o Spring devolve
+	// 304 sem serializar o JSON
 	@GetMapping
 	public ResponseEntity<Page<ProductDTO>> findAll(Pageable pageable, 
 			@RequestParam(value = "categoryId", defaultValue = "0") Long categoryId,
@@ -55,17 +102,149 @@ public class ProductController {
 
 		Page<ProductDTO> pageDto = productService.findAllPaged(pageable, categoryId, name.trim());
 
-		return ResponseEntity.ok().body(pageDto);
+		return ResponseEntity.ok().eTag(EntityTags.collection(pageDto, EntityTags::product)).body(pageDto);
+	}
+
+	// 2026-10-18 - count=none devolve a página sem total (hasNext) e
+	// count=approx devolve o total aproximado, marcado com "approximate"
+	@GetMapping(params = "count=none")
+	public ResponseEntity<SliceDTO<ProductDTO>> findAllSliced(Pageable pageable, 
+			@RequestParam(value = "categoryId", defaultValue = "0") Long categoryId,
+			@RequestParam(value = "name", defaultValue = "") String name)
+	{
+
+		Slice<ProductDTO> slice = productService.findAllSliced(pageable, categoryId, name.trim());
+
+		return ResponseEntity.ok().body(new SliceDTO<>(slice));
+	}
+
+	@GetMapping(params = "count=approx")
+	public ResponseEntity<Page<ProductDTO>> findAllApproximate(Pageable pageable, 
+			@RequestParam(value = "categoryId", defaultValue = "0") Long categoryId,
+			@RequestParam(value = "name", defaultValue = "") String name)
+	{
+
+		Page<ProductDTO> page = productService.findAllApproximate(pageable, categoryId, name.trim());
+
+		return ResponseEntity.ok().body(page);
+	}
+
+	// 2026-10-18 - Paginação por cursor. Exemplo: /products?after=&size=12&sort=name
+	// O primeiro acesso envia "after" vazio e os seguintes enviam o nextCursor recebido
+	@GetMapping(params = "after")
+	public ResponseEntity<CursorPageDTO<ProductDTO>> findAllByCursor(Pageable pageable,
+			@RequestParam(value = "after") String after,
+			@RequestParam(value = "categoryId", defaultValue = "0") Long categoryId,
+			@RequestParam(value = "name", defaultValue = "") String name)
+	{
+
+		CursorPageDTO<ProductDTO> cursorPageDto = productService.findAllByCursor(after, pageable, categoryId, name.trim());
+
+		return ResponseEntity.ok().body(cursorPageDto);
 	}
 
 
 
+	// 2026-10-18 - Facetas por categoria do resultado da listagem (mesmos filtros)
+	@GetMapping(value = "/facets")
+	public ResponseEntity<List<CategoryFacetDTO>> findCategoryFacets(
+			@RequestParam(value = "categoryId", defaultValue = "0") Long categoryId,
+			@RequestParam(value = "name", defaultValue = "") String name)
+	{
+
+		List<CategoryFacetDTO> facets = productService.findCategoryFacets(categoryId, name.trim());
+
+		return ResponseEntity.ok().body(facets);
+	}
+
+
+
+	// 2026-10-18 - Autocomplete do campo de busca. Exemplo: /products/suggest?prefix=gam&limit=10
+	@GetMapping(value = "/suggest")
+	public ResponseEntity<List<String>> suggest(
+			@RequestParam(value = "prefix", defaultValue = "") String prefix,
+			@RequestParam(value = "limit", defaultValue = "10") Integer limit)
+	{
+
+		List<String> suggestions = productService.suggest(prefix, limit);
+
+		return ResponseEntity.ok().body(suggestions);
+	}
+
+
+
+	// 2026-10-18 - Catálogo completo em NDJSON, escrito conforme é lido do banco.
+	// Compactado com gzip quando o cliente aceita. Exemplo:
+	// curl -H "Accept-Encoding: gzip" /products/export | gunzip > produtos.ndjson
+	@GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> export(
+			@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, defaultValue = "") String acceptEncoding){
+
+		boolean gzip = acceptEncoding.toLowerCase().contains("gzip");
+
+		StreamingResponseBody body = output -> {
+			try (OutputStream target = gzip ? new GZIPOutputStream(output, 64 * 1024) : output) {
+				productExportService.exportNdjson(target);
+			}
+		};
+
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok().header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+		if (gzip) {
+			response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+		}
+
+		return response.contentType(MediaType.APPLICATION_NDJSON).body(body);
+	}
+
+	// 2026-10-18 - Alterações depois da marca d'água (watermark da resposta anterior).
+	// Primeira chamada com since=0. Exemplo: GET /products/changes?since=1520&size=500
+	@GetMapping(value = "/changes")
+	public ResponseEntity<ProductChangeFeedDTO> findChanges(
+			@RequestParam(value = "since", defaultValue = "0") Long since,
+			@RequestParam(value = "size", defaultValue = "100") Integer size){
+
+		ProductChangeFeedDTO feed = productChangeFeedService.findChanges(since, size);
+
+		return ResponseEntity.ok().body(feed);
+	}
+
+	// 2026-10-18 - Alterações de produtos e categorias em tempo real (Server-Sent
+	// Events), filtradas pelas categorias informadas (nenhuma = todas). Exemplo:
+	// curl -N "/products/stream?categoryId=1&categoryId=3"
+	// O limite de conexões por cliente usa o IP de origem da requisição
+	@GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public ResponseEntity<SseEmitter> stream(
+			@RequestParam(value = "categoryId", required = false) List<Long> categoryIds,
+			HttpServletRequest request){
+
+		SseEmitter emitter = catalogEventStream.subscribe(categoryIds == null ? List.of() : categoryIds,
+				request.getRemoteAddr());
+
+		if (emitter == null) {
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "30").build();
+		}
+
+		return ResponseEntity.ok().body(emitter);
+	}
+
+	// 2026-10-18 - ETag forte pela versão. Com If-None-Match, a versão é
+	// comparada antes de montar o produto e o 304 sai sem corpo
 	@GetMapping(value = "/{id}")
-	public ResponseEntity<ProductDTO> findById(@PathVariable Long id){
+	public ResponseEntity<ProductDTO> findById(@PathVariable Long id, WebRequest request){
+
+		if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+
+			String eTag = productService.findETag(id);
+
+			if (request.checkNotModified(eTag)) {
+				return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+			}
+		}
 
 		ProductDTO ProductDTO = productService.findById(id);
 
-		return ResponseEntity.ok().body(ProductDTO);
+		return ResponseEntity.ok().eTag(EntityTags.product(ProductDTO)).body(ProductDTO);
 
 	}
 
@@ -86,6 +265,56 @@ public class ProductController {
 
 	}
 
+	// 2026-10-18 - Importação em lote. O corpo é lido como fluxo, sem ser
+	// carregado em memória. Exemplos:
+	// curl -H "Content-Type: application/x-ndjson" --data-binary @produtos.ndjson /products/import
+	// curl -H "Content-Type: text/csv" --data-binary @produtos.csv /products/import
+	@PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<ProductImportReportDTO> importNdjson(InputStream body){
+
+		ProductImportReportDTO report = productImportService.importNdjson(body);
+
+		return ResponseEntity.ok().body(report);
+	}
+
+	@PostMapping(value = "/import", consumes = "text/csv")
+	public ResponseEntity<ProductImportReportDTO> importCsv(InputStream body){
+
+		ProductImportReportDTO report = productImportService.importCsv(body);
+
+		return ResponseEntity.ok().body(report);
+	}
+
+	// 2026-10-18 - Reajuste de preço por categoria (somente ADMIN). Exemplo:
+	// POST /products/bulk/price {"categoryIds": [1, 3], "type": "PERCENT", "value": 10}
+	@PostMapping(value = "/bulk/price")
+	public ResponseEntity<BulkOperationResultDTO> adjustPrices(@Valid @RequestBody PriceAdjustmentDTO adjustment){
+
+		BulkOperationResultDTO result = productBulkService.adjustPrices(adjustment);
+
+		return ResponseEntity.ok().body(result);
+	}
+
+	// 2026-10-18 - Exclusão de vários produtos em uma requisição (somente ADMIN).
+	// Exemplo: POST /products/bulk/delete {"ids": [1, 2, 3]}
+	@PostMapping(value = "/bulk/delete")
+	public ResponseEntity<BulkOperationResultDTO> deleteProducts(@Valid @RequestBody ProductBulkDeleteDTO request){
+
+		BulkOperationResultDTO result = productBulkService.deleteProducts(request);
+
+		return ResponseEntity.ok().body(result);
+	}
+
+	// 2026-10-18 - Move os produtos de uma categoria para outra (somente ADMIN).
+	// Exemplo: POST /products/bulk/reassign-category {"fromCategoryId": 2, "toCategoryId": 3}
+	@PostMapping(value = "/bulk/reassign-category")
+	public ResponseEntity<BulkOperationResultDTO> reassignCategory(@Valid @RequestBody CategoryReassignmentDTO request){
+
+		BulkOperationResultDTO result = productBulkService.reassignCategory(request);
+
+		return ResponseEntity.ok().body(result);
+	}
+
 	@PutMapping(value = "/{id}")
 	public ResponseEntity<ProductDTO> update(@Valid @PathVariable Long id, @RequestBody ProductDTO productDTO){
 
@@ -94,6 +323,16 @@ public class ProductController {
 		return ResponseEntity.ok().body(productDTO);
 	}
 
+	// 2026-10-18 - Alteração parcial (JSON Merge Patch, RFC 7396): somente os
+	// campos enviados são alterados. Exemplo: PATCH /products/1 {"price": 99.9}
+	@PatchMapping(value = "/{id}", consumes = { "application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE })
+	public ResponseEntity<ProductDTO> patch(@PathVariable Long id, @RequestBody JsonNode patch){
+
+		ProductDTO productDTO = productService.patch(id, patch);
+
+		return ResponseEntity.ok().body(productDTO);
+	}
+
 	@DeleteMapping(value = "/{id}")
 	public ResponseEntity<Void> delete(@PathVariable Long id){
 
@@ -7,21 +7,28 @@ import javax.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.devsuperior.dscatalog.dto.CursorPageDTO;
+import com.devsuperior.dscatalog.dto.SliceDTO;
 import com.devsuperior.dscatalog.dto.UserDTO;
 import com.devsuperior.dscatalog.dto.UserInsertDTO;
 import com.devsuperior.dscatalog.dto.UserUpdateDTO;
 import com.devsuperior.dscatalog.services.UserService;
+import com.fasterxml.jackson.databind.JsonNode;
 
 @RestController
 @RequestMapping(value = "/users")
@@ -39,6 +46,37 @@ public class UserController {
 
 	}
 
+	// 2026-10-18 - count=none devolve a página sem total (hasNext) e
+	// count=approx devolve o total aproximado, marcado com "approximate"
+	@GetMapping(params = "count=none")
+	public ResponseEntity<SliceDTO<UserDTO>> findAllSliced(Pageable pageable) {
+
+		Slice<UserDTO> sliceUserDTO = userService.findAllSliced(pageable);
+
+		return ResponseEntity.ok().body(new SliceDTO<>(sliceUserDTO));
+
+	}
+
+	@GetMapping(params = "count=approx")
+	public ResponseEntity<Page<UserDTO>> findAllApproximate(Pageable pageable) {
+
+		Page<UserDTO> pageUserDTO = userService.findAllApproximate(pageable);
+
+		return ResponseEntity.ok().body(pageUserDTO);
+
+	}
+
+	// 2026-10-18 - Paginação por cursor. Exemplo: /users?after=&size=20&sort=email
+	@GetMapping(params = "after")
+	public ResponseEntity<CursorPageDTO<UserDTO>> findAllByCursor(Pageable pageable,
+			@RequestParam(value = "after") String after) {
+
+		CursorPageDTO<UserDTO> cursorPageUserDTO = userService.findAllByCursor(after, pageable);
+
+		return ResponseEntity.ok().body(cursorPageUserDTO);
+
+	}
+
 	@GetMapping(value = "/{id}")
 	public ResponseEntity<UserDTO> findById(@PathVariable Long id) {
 
@@ -66,6 +104,16 @@ public class UserController {
 		return ResponseEntity.ok().body(userDTO);
 	}
 
+	// 2026-10-18 - Alteração parcial (JSON Merge Patch, RFC 7396): somente os
+	// campos enviados são alterados. Exemplo: PATCH /users/1 {"lastName": "Silva"}
+	@PatchMapping(value = "/{id}", consumes = { "application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE })
+	public ResponseEntity<UserDTO> patch(@PathVariable Long id, @RequestBody JsonNode patch) {
+
+		UserDTO userDTO = userService.patch(id, patch);
+
+		return ResponseEntity.ok().body(userDTO);
+	}
+
 	@DeleteMapping(value = "/{id}")
 	public ResponseEntity<Void> delete(@PathVariable Long id) {
 
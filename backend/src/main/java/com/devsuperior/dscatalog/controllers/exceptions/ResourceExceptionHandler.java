@@ -4,6 +4,7 @@ import java.time.Instant;
 
 import javax.servlet.http.HttpServletRequest;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -12,7 +13,11 @@ import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
 import com.devsuperior.dscatalog.services.exceptions.DatabaseException;
+import com.devsuperior.dscatalog.services.exceptions.InvalidCursorException;
 import com.devsuperior.dscatalog.services.exceptions.ResourceNotFoundException;
+import com.devsuperior.dscatalog.services.exceptions.ServiceBusyException;
+import com.devsuperior.dscatalog.services.exceptions.TooManyRequestsException;
+import com.devsuperior.dscatalog.services.exceptions.ValidationException;
 
 @ControllerAdvice
 public class ResourceExceptionHandler {
@@ -47,6 +52,53 @@ public class ResourceExceptionHandler {
 		return ResponseEntity.status(status).body(stdError);
 	}
 
+	@ExceptionHandler(InvalidCursorException.class)
+	public ResponseEntity<StandardError> invalidCursor(InvalidCursorException e, HttpServletRequest request) {
+		String error = "Cursor de paginação inválido.";
+		HttpStatus status = HttpStatus.BAD_REQUEST;
+		StandardError stdError = new StandardError();
+
+		stdError.setTimestampUTC(Instant.now());
+		stdError.setStatus(status.value());
+		stdError.setError(error);
+		stdError.setMessage(e.getMessage());
+		stdError.setPath(request.getRequestURI());
+
+		return ResponseEntity.status(status).body(stdError);
+	}
+
+	// 2026-10-18 - Capacidade esgotada (ex.: fila do hash de senhas cheia)
+	@ExceptionHandler(ServiceBusyException.class)
+	public ResponseEntity<StandardError> serviceBusy(ServiceBusyException e, HttpServletRequest request) {
+		String error = "Serviço temporariamente indisponível.";
+		HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+		StandardError stdError = new StandardError();
+
+		stdError.setTimestampUTC(Instant.now());
+		stdError.setStatus(status.value());
+		stdError.setError(error);
+		stdError.setMessage(e.getMessage());
+		stdError.setPath(request.getRequestURI());
+
+		return ResponseEntity.status(status).header(HttpHeaders.RETRY_AFTER, "1").body(stdError);
+	}
+
+	// 2026-10-18 - Limite do cliente atingido (ex.: conexões no stream de alterações)
+	@ExceptionHandler(TooManyRequestsException.class)
+	public ResponseEntity<StandardError> tooManyRequests(TooManyRequestsException e, HttpServletRequest request) {
+		String error = "Muitas requisições.";
+		HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+		StandardError stdError = new StandardError();
+
+		stdError.setTimestampUTC(Instant.now());
+		stdError.setStatus(status.value());
+		stdError.setError(error);
+		stdError.setMessage(e.getMessage());
+		stdError.setPath(request.getRequestURI());
+
+		return ResponseEntity.status(status).header(HttpHeaders.RETRY_AFTER, "30").body(stdError);
+	}
+
 	// Personaliza o tratamento de erros do Bean Validation
 	// Criada a classe ValidationError para tratar a lista de erros
 	@ExceptionHandler(MethodArgumentNotValidException.class)
@@ -69,4 +121,24 @@ public class ResourceExceptionHandler {
 
 		return ResponseEntity.status(status).body(stdError);
 	}
+
+	// Validações feitas no Service, no mesmo formato do Bean Validation
+	@ExceptionHandler(ValidationException.class)
+	public ResponseEntity<ValidationError> serviceValidation(ValidationException e, HttpServletRequest request) {
+		String error = "Erro de validação.";
+		HttpStatus status = HttpStatus.UNPROCESSABLE_ENTITY;
+		ValidationError stdError = new ValidationError();
+
+		stdError.setTimestampUTC(Instant.now());
+		stdError.setStatus(status.value());
+		stdError.setError(error);
+		stdError.setMessage(e.getMessage());
+		stdError.setPath(request.getRequestURI());
+
+		for (FieldMessage fm : e.getErrors()) {
+			stdError.addError(fm.getFieldName(), fm.getMessage());
+		}
+
+		return ResponseEntity.status(status).body(stdError);
+	}
 }
\ No newline at end of file
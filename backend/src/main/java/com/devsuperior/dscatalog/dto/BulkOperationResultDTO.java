@@ -0,0 +1,36 @@
+package com.devsuperior.dscatalog.dto;
+
+import java.io.Serializable;
+
+// Resultado de uma operação em lote: linhas alteradas, linhas ignoradas
+// (ex.: preço que ficaria zerado ou negativo, id inexistente) e tempo total
+public class BulkOperationResultDTO implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private long affected;
+	private long skipped;
+	private long elapsedMillis;
+
+	public BulkOperationResultDTO() {
+	}
+
+	public BulkOperationResultDTO(long affected, long skipped, long elapsedMillis) {
+		this.affected = affected;
+		this.skipped = skipped;
+		this.elapsedMillis = elapsedMillis;
+	}
+
+	public long getAffected() {
+		return affected;
+	}
+
+	public long getSkipped() {
+		return skipped;
+	}
+
+	public long getElapsedMillis() {
+		return elapsedMillis;
+	}
+
+}
@@ -0,0 +1,37 @@
+package com.devsuperior.dscatalog.dto;
+
+import java.io.Serializable;
+
+// Evento do stream /products/stream: tipo (UPSERT ou DELETE), id do produto
+// ou da categoria e o estado após a escrita (nulo no DELETE). O nome do
+// evento SSE ("product" ou "category") indica o que é o id.
+public class CatalogEventDTO<T> implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private String type;
+	private Long id;
+	private T data;
+
+	public CatalogEventDTO() {
+	}
+
+	public CatalogEventDTO(String type, Long id, T data) {
+		this.type = type;
+		this.id = id;
+		this.data = data;
+	}
+
+	public String getType() {
+		return type;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public T getData() {
+		return data;
+	}
+
+}
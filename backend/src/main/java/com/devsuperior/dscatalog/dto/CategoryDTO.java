@@ -14,6 +14,9 @@ public class CategoryDTO implements Serializable{
 	
 	@NotBlank(message = "O nome da categoria é um campo obrigatório")
 	private String name;
+
+	// 2026-10-18 - Versão da entidade, usada no ETag. Ignorada nas escritas
+	private Long version;
 	
 	public CategoryDTO() {
 	}
@@ -22,10 +25,16 @@ public class CategoryDTO implements Serializable{
 		this.id = id;
 		this.name = name;
 	}
+
+	public CategoryDTO(Long id, String name, Long version) {
+		this(id, name);
+		this.version = version;
+	}
 	
 	public CategoryDTO(Category entity) {
 		this.id = entity.getId();
 		this.name = entity.getName();
+		this.version = entity.getVersion();
 	}
 
 	public Long getId() {
@@ -44,4 +53,12 @@ public class CategoryDTO implements Serializable{
 		this.name = name;
 	}
 
+	public Long getVersion() {
+		return version;
+	}
+
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+
 }
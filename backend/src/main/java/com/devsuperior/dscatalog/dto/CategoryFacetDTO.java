@@ -0,0 +1,29 @@
+package com.devsuperior.dscatalog.dto;
+
+import java.io.Serializable;
+
+// Quantidade de produtos do resultado da consulta em uma categoria
+public class CategoryFacetDTO implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private Long categoryId;
+	private Long count;
+
+	public CategoryFacetDTO() {
+	}
+
+	public CategoryFacetDTO(Long categoryId, Long count) {
+		this.categoryId = categoryId;
+		this.count = count;
+	}
+
+	public Long getCategoryId() {
+		return categoryId;
+	}
+
+	public Long getCount() {
+		return count;
+	}
+
+}
@@ -0,0 +1,38 @@
+package com.devsuperior.dscatalog.dto;
+
+import java.io.Serializable;
+
+import javax.validation.constraints.NotNull;
+
+// Troca de categoria em lote: todos os produtos de fromCategoryId passam
+// para toCategoryId (produtos que já estão nas duas ficam só na nova)
+public class CategoryReassignmentDTO implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	@NotNull(message = "Informe a categoria de origem")
+	private Long fromCategoryId;
+
+	@NotNull(message = "Informe a categoria de destino")
+	private Long toCategoryId;
+
+	public CategoryReassignmentDTO() {
+	}
+
+	public Long getFromCategoryId() {
+		return fromCategoryId;
+	}
+
+	public void setFromCategoryId(Long fromCategoryId) {
+		this.fromCategoryId = fromCategoryId;
+	}
+
+	public Long getToCategoryId() {
+		return toCategoryId;
+	}
+
+	public void setToCategoryId(Long toCategoryId) {
+		this.toCategoryId = toCategoryId;
+	}
+
+}
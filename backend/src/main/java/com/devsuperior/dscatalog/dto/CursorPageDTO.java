@@ -0,0 +1,41 @@
+package com.devsuperior.dscatalog.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+// Página da paginação por cursor. Não tem totalElements, pois não há COUNT.
+// nextCursor nulo indica que não existem mais registros.
+public class CursorPageDTO<T> implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private List<T> content;
+	private Integer size;
+	private String nextCursor;
+
+	public CursorPageDTO() {
+	}
+
+	public CursorPageDTO(List<T> content, Integer size, String nextCursor) {
+		this.content = content;
+		this.size = size;
+		this.nextCursor = nextCursor;
+	}
+
+	public List<T> getContent() {
+		return content;
+	}
+
+	public Integer getSize() {
+		return size;
+	}
+
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	public boolean isHasNext() {
+		return nextCursor != null;
+	}
+
+}
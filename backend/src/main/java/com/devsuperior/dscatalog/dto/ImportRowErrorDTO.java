@@ -0,0 +1,29 @@
+package com.devsuperior.dscatalog.dto;
+
+import java.io.Serializable;
+
+// Linha rejeitada na importação em lote (número da linha no arquivo e motivo)
+public class ImportRowErrorDTO implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private Long row;
+	private String message;
+
+	public ImportRowErrorDTO() {
+	}
+
+	public ImportRowErrorDTO(Long row, String message) {
+		this.row = row;
+		this.message = message;
+	}
+
+	public Long getRow() {
+		return row;
+	}
+
+	public String getMessage() {
+		return message;
+	}
+
+}
@@ -0,0 +1,57 @@
+package com.devsuperior.dscatalog.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+
+// Reajuste de preço em lote dos produtos das categorias informadas.
+// PERCENT: value é o percentual (10 = +10%, -5 = -5%).
+// ABSOLUTE: value é somado ao preço (pode ser negativo).
+public class PriceAdjustmentDTO implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	public enum Type {
+		PERCENT, ABSOLUTE
+	}
+
+	@NotEmpty(message = "Informe ao menos uma categoria")
+	private List<Long> categoryIds = new ArrayList<>();
+
+	@NotNull(message = "Informe o tipo do reajuste (PERCENT ou ABSOLUTE)")
+	private Type type;
+
+	@NotNull(message = "Informe o valor do reajuste")
+	private Double value;
+
+	public PriceAdjustmentDTO() {
+	}
+
+	public List<Long> getCategoryIds() {
+		return categoryIds;
+	}
+
+	public void setCategoryIds(List<Long> categoryIds) {
+		this.categoryIds = categoryIds;
+	}
+
+	public Type getType() {
+		return type;
+	}
+
+	public void setType(Type type) {
+		this.type = type;
+	}
+
+	public Double getValue() {
+		return value;
+	}
+
+	public void setValue(Double value) {
+		this.value = value;
+	}
+
+}
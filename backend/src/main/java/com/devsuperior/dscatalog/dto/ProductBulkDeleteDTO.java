@@ -0,0 +1,28 @@
+package com.devsuperior.dscatalog.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.validation.constraints.NotEmpty;
+
+// Exclusão em lote: ids dos produtos. Ids inexistentes são ignorados
+public class ProductBulkDeleteDTO implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	@NotEmpty(message = "Informe ao menos um produto")
+	private List<Long> ids = new ArrayList<>();
+
+	public ProductBulkDeleteDTO() {
+	}
+
+	public List<Long> getIds() {
+		return ids;
+	}
+
+	public void setIds(List<Long> ids) {
+		this.ids = ids;
+	}
+
+}
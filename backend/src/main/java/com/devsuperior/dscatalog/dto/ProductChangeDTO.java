@@ -0,0 +1,52 @@
+package com.devsuperior.dscatalog.dto;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+import com.devsuperior.dscatalog.entities.ProductChange;
+
+// Item do feed de alterações: UPSERT traz o estado atual do produto,
+// DELETE (lápide) traz somente o id
+public class ProductChangeDTO implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private Long changeId;
+	private Long productId;
+	private ProductChange.Type type;
+	private Instant changedAt;
+	private ProductDTO product;
+
+	public ProductChangeDTO() {
+	}
+
+	public ProductChangeDTO(Long changeId, Long productId, ProductChange.Type type, Instant changedAt,
+			ProductDTO product) {
+		this.changeId = changeId;
+		this.productId = productId;
+		this.type = type;
+		this.changedAt = changedAt;
+		this.product = product;
+	}
+
+	public Long getChangeId() {
+		return changeId;
+	}
+
+	public Long getProductId() {
+		return productId;
+	}
+
+	public ProductChange.Type getType() {
+		return type;
+	}
+
+	public Instant getChangedAt() {
+		return changedAt;
+	}
+
+	public ProductDTO getProduct() {
+		return product;
+	}
+
+}
@@ -0,0 +1,38 @@
+package com.devsuperior.dscatalog.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+// Página do feed de alterações. watermark é o "since" da próxima chamada e
+// vem sempre preenchido (sem alterações, repete o informado): quem sincroniza
+// guarda o valor e retoma dali. hasMore indica que vale chamar de novo já.
+public class ProductChangeFeedDTO implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private List<ProductChangeDTO> changes;
+	private Long watermark;
+	private boolean hasMore;
+
+	public ProductChangeFeedDTO() {
+	}
+
+	public ProductChangeFeedDTO(List<ProductChangeDTO> changes, Long watermark, boolean hasMore) {
+		this.changes = changes;
+		this.watermark = watermark;
+		this.hasMore = hasMore;
+	}
+
+	public List<ProductChangeDTO> getChanges() {
+		return changes;
+	}
+
+	public Long getWatermark() {
+		return watermark;
+	}
+
+	public boolean isHasMore() {
+		return hasMore;
+	}
+
+}
@@ -34,6 +34,9 @@ public class ProductDTO implements Serializable{
 	
 	@PastOrPresent(message = "A data do produto não pode ser maior que a data de hoje")
 	private Instant moment;
+
+	// 2026-10-18 - Versão da entidade, usada no ETag. Ignorada nas escritas
+	private Long version;
 	
 	private List<CategoryDTO> categories = new ArrayList<>();
 
@@ -56,6 +59,15 @@ public class ProductDTO implements Serializable{
 		this.price = entity.getPrice();
 		this.imgUrl = entity.getImgUrl();
 		this.moment = entity.getMoment();
+		this.version = entity.getVersion();
+	}
+
+	// 2026-10-18 - Cópia independente, inclusive das categorias (ProductCache)
+	public ProductDTO(ProductDTO source) {
+		this(source.id, source.name, source.description, source.price, source.imgUrl, source.moment);
+		this.version = source.version;
+		source.categories.forEach(category -> this.categories
+				.add(new CategoryDTO(category.getId(), category.getName(), category.getVersion())));
 	}
 
 	public ProductDTO(Product entity, Set<Category> categories) {
@@ -114,6 +126,14 @@ public class ProductDTO implements Serializable{
 		this.moment = moment;
 	}
 
+	public Long getVersion() {
+		return version;
+	}
+
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+
 	public List<CategoryDTO> getCategories() {
 		return categories;
 	}
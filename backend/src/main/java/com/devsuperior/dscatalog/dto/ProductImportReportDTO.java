@@ -0,0 +1,74 @@
+package com.devsuperior.dscatalog.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+// Resultado da importação em lote: contagens, vazão e as linhas rejeitadas.
+// A lista de erros é limitada; rejected traz o total de linhas rejeitadas.
+public class ProductImportReportDTO implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private long rows;
+	private long imported;
+	private long rejected;
+	private long elapsedMillis;
+	private long rowsPerSecond;
+	private boolean errorsTruncated;
+
+	private List<ImportRowErrorDTO> errors = new ArrayList<>();
+
+	public long getRows() {
+		return rows;
+	}
+
+	public void setRows(long rows) {
+		this.rows = rows;
+	}
+
+	public long getImported() {
+		return imported;
+	}
+
+	public void setImported(long imported) {
+		this.imported = imported;
+	}
+
+	public long getRejected() {
+		return rejected;
+	}
+
+	public void setRejected(long rejected) {
+		this.rejected = rejected;
+	}
+
+	public long getElapsedMillis() {
+		return elapsedMillis;
+	}
+
+	public void setElapsedMillis(long elapsedMillis) {
+		this.elapsedMillis = elapsedMillis;
+	}
+
+	public long getRowsPerSecond() {
+		return rowsPerSecond;
+	}
+
+	public void setRowsPerSecond(long rowsPerSecond) {
+		this.rowsPerSecond = rowsPerSecond;
+	}
+
+	public boolean isErrorsTruncated() {
+		return errorsTruncated;
+	}
+
+	public void setErrorsTruncated(boolean errorsTruncated) {
+		this.errorsTruncated = errorsTruncated;
+	}
+
+	public List<ImportRowErrorDTO> getErrors() {
+		return errors;
+	}
+
+}
@@ -0,0 +1,44 @@
+package com.devsuperior.dscatalog.dto;
+
+import java.io.Serializable;
+import java.util.List;
+
+import org.springframework.data.domain.Slice;
+
+// Página sem total (count=none). hasNext indica se existe próxima página.
+public class SliceDTO<T> implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private List<T> content;
+	private Integer number;
+	private Integer size;
+	private boolean hasNext;
+
+	public SliceDTO() {
+	}
+
+	public SliceDTO(Slice<T> slice) {
+		this.content = slice.getContent();
+		this.number = slice.getNumber();
+		this.size = slice.getSize();
+		this.hasNext = slice.hasNext();
+	}
+
+	public List<T> getContent() {
+		return content;
+	}
+
+	public Integer getNumber() {
+		return number;
+	}
+
+	public Integer getSize() {
+		return size;
+	}
+
+	public boolean isHasNext() {
+		return hasNext;
+	}
+
+}
@@ -14,6 +14,10 @@ import javax.persistence.ManyToMany;
 import javax.persistence.PrePersist;
 import javax.persistence.PreUpdate;
 import javax.persistence.Table;
+import javax.persistence.Version;
+
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
@@ -24,7 +28,9 @@ public class Category implements Serializable{
 	private static final long serialVersionUID = 1L;
 	
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sq_category")
+	@GenericGenerator(name = "sq_category", strategy = "com.devsuperior.dscatalog.entities.PooledSequenceGenerator",
+			parameters = @Parameter(name = "sequence_name", value = "sq_category"))
 	@Column(name = "id_category")
 	private Long id;
 	
@@ -37,6 +43,11 @@ public class Category implements Serializable{
 	@Column(name= "updated_at", columnDefinition = "TIMESTAMP WITHOUT TIME ZONE")
 	private Instant updatedAt;
 
+	// 2026-10-18 - Incrementada pelo Hibernate a cada alteração. Base do ETag
+	@Version
+	@Column(name = "nr_version", columnDefinition = "BIGINT DEFAULT 0 NOT NULL")
+	private Long version;
+
 	@JsonIgnore
 	@ManyToMany(mappedBy = "categories")
 	private Set<Product> products = new HashSet<>();
@@ -73,6 +84,10 @@ public class Category implements Serializable{
 	public Instant getUpdatedAt() {
 		return updatedAt;
 	}
+
+	public Long getVersion() {
+		return version;
+	}
 	
 	@PrePersist
 	public void prePersist() {
@@ -0,0 +1,37 @@
+package com.devsuperior.dscatalog.entities;
+
+import java.util.Properties;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+// 2026-10-18 - Ids vindos de sequence com o otimizador pooled-lo: cada
+// nextval reserva um bloco de "allocation-size" ids, distribuídos em memória.
+// Assim a inclusão não precisa de uma ida ao banco por linha para obter o id
+// (como no IDENTITY) e o Hibernate consegue agrupar os INSERT em lote.
+//
+// O tamanho do bloco vem de spring.jpa.properties.catalog.id.allocation-size
+// e deve ser igual ao INCREMENT BY das sequences no banco (db/04_id_sequences.sql)
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+
+	public static final String ALLOCATION_SIZE_SETTING = "catalog.id.allocation-size";
+
+	private static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+	@Override
+	public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+
+		Integer allocationSize = serviceRegistry.getService(ConfigurationService.class)
+				.getSetting(ALLOCATION_SIZE_SETTING, value -> Integer.valueOf(value.toString()), DEFAULT_ALLOCATION_SIZE);
+
+		params.setProperty(INCREMENT_PARAM, String.valueOf(allocationSize));
+		params.setProperty(OPT_PARAM, StandardOptimizerDescriptor.POOLED_LO.getExternalName());
+
+		super.configure(type, params, serviceRegistry);
+	}
+
+}
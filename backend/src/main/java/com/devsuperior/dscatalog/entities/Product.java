@@ -10,26 +10,45 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.JoinTable;
 import javax.persistence.ManyToMany;
 import javax.persistence.PrePersist;
 import javax.persistence.PreUpdate;
 import javax.persistence.Table;
+import javax.persistence.Version;
+
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
+import com.devsuperior.dscatalog.services.search.SearchNormalizer;
 
 @Entity
-@Table(name = "tb_product")
+// 2026-10-18 - UPDATE somente com as colunas alteradas (PATCH altera poucos campos)
+@DynamicUpdate
+// Índice (nome, id) atende a paginação por cursor ordenada por nome
+@Table(name = "tb_product", indexes = @Index(name = "ix_product_name_id", columnList = "nm_product, id_product"))
 public class Product implements Serializable{
 	
 	private static final long serialVersionUID = 1L;
 	
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	// 2026-10-18 - Sequence com blocos de ids (PooledSequenceGenerator) no lugar do IDENTITY
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sq_product")
+	@GenericGenerator(name = "sq_product", strategy = "com.devsuperior.dscatalog.entities.PooledSequenceGenerator",
+			parameters = @Parameter(name = "sequence_name", value = "sq_product"))
 	@Column(name = "id_product")
 	private Long id;
 
 	@Column(name = "nm_product")
 	private String name;
+
+	// 2026-10-18 - Nome normalizado (minúsculas, sem acentos) usado nas buscas
+	// Mantido pelos hooks de persistência, não tem setter
+	@Column(name = "nm_product_search")
+	private String searchName;
 	
 	@Column(name = "ds_product", columnDefinition = "TEXT")
 	private String description;
@@ -48,6 +67,12 @@ public class Product implements Serializable{
 
 	@Column(name= "updated_at", columnDefinition = "TIMESTAMP WITHOUT TIME ZONE")
 	private Instant updatedAt;
+
+	// 2026-10-18 - Incrementada pelo Hibernate a cada alteração, inclusive das
+	// categorias do produto. Base do ETag do detalhe
+	@Version
+	@Column(name = "nr_version", columnDefinition = "BIGINT DEFAULT 0 NOT NULL")
+	private Long version;
 	
 	@ManyToMany
 	@JoinTable(name = "tb_product_category",
@@ -83,6 +108,10 @@ public class Product implements Serializable{
 		this.name = name;
 	}
 
+	public String getSearchName() {
+		return searchName;
+	}
+
 	public String getDescription() {
 		return description;
 	}
@@ -122,15 +151,21 @@ public class Product implements Serializable{
 	public Instant getUpdatedAt() {
 		return updatedAt;
 	}
+
+	public Long getVersion() {
+		return version;
+	}
 	
 	@PrePersist
 	public void prePersist() {
 		this.createdAt = Instant.now();
+		this.searchName = SearchNormalizer.normalize(name);
 	}
 
 	@PreUpdate
 	public void preUpdate() {
 		this.updatedAt = Instant.now();
+		this.searchName = SearchNormalizer.normalize(name);
 	}
 
 	public Set<Category> getCategories() {
@@ -0,0 +1,106 @@
+package com.devsuperior.dscatalog.entities;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+// 2026-10-18 - Registro de alterações de produtos (GET /products/changes).
+// Uma linha por inclusão/alteração (UPSERT) ou exclusão (DELETE, a lápide
+// que garante que a exclusão chegue a quem sincroniza). O id é a marca
+// d'água do feed e a chave primária atende a leitura em ordem.
+//
+// As linhas são gravadas em lote via JDBC (ProductChangeRepositoryCustom),
+// sem precisar do id de volta: por isso o IDENTITY, que aqui não impede o
+// INSERT em lote e mantém os ids em ordem de gravação mesmo com várias
+// instâncias da aplicação (blocos de sequence não manteriam).
+@Entity
+@Table(name = "tb_product_change", indexes = {
+		@Index(name = "ix_product_change_product", columnList = "id_product, id_change") })
+public class ProductChange implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	public enum Type {
+		UPSERT, DELETE
+	}
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "id_change")
+	private Long id;
+
+	@Column(name = "id_product", nullable = false)
+	private Long productId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "tp_change", length = 10, nullable = false)
+	private Type type;
+
+	@Column(name = "changed_at", columnDefinition = "TIMESTAMP WITHOUT TIME ZONE", nullable = false)
+	private Instant changedAt;
+
+	public ProductChange() {
+	}
+
+	public ProductChange(Long id, Long productId, Type type, Instant changedAt) {
+		this.id = id;
+		this.productId = productId;
+		this.type = type;
+		this.changedAt = changedAt;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public Long getProductId() {
+		return productId;
+	}
+
+	public Type getType() {
+		return type;
+	}
+
+	public Instant getChangedAt() {
+		return changedAt;
+	}
+
+	public void setChangedAt(Instant changedAt) {
+		this.changedAt = changedAt;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((id == null) ? 0 : id.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		ProductChange other = (ProductChange) obj;
+		if (id == null) {
+			if (other.id != null)
+				return false;
+		} else if (!id.equals(other.id))
+			return false;
+		return true;
+	}
+
+}
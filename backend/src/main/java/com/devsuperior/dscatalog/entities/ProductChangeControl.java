@@ -0,0 +1,70 @@
+package com.devsuperior.dscatalog.entities;
+
+import java.io.Serializable;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+// 2026-10-18 - Linha única (id 1) de controle do registro de alterações.
+// É atualizada por quem grava em tb_product_change logo antes do commit:
+// o bloqueio da linha vai até o commit e faz os ids saírem na ordem dos
+// commits (ProductChangeLog). purged_until é o maior id de lápide apagada
+// pela limpeza (ProductChangeRetention): marcas d'água menores perderam
+// exclusões e precisam sincronizar de novo desde o início.
+@Entity
+@Table(name = "tb_product_change_control")
+public class ProductChangeControl implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	@Id
+	@Column(name = "id_control")
+	private Long id;
+
+	@Column(name = "purged_until", nullable = false)
+	private Long purgedUntil;
+
+	public ProductChangeControl() {
+	}
+
+	public ProductChangeControl(Long id, Long purgedUntil) {
+		this.id = id;
+		this.purgedUntil = purgedUntil;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public Long getPurgedUntil() {
+		return purgedUntil;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((id == null) ? 0 : id.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		ProductChangeControl other = (ProductChangeControl) obj;
+		if (id == null) {
+			if (other.id != null)
+				return false;
+		} else if (!id.equals(other.id))
+			return false;
+		return true;
+	}
+
+}
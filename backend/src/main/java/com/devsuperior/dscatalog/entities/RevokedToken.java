@@ -0,0 +1,79 @@
+package com.devsuperior.dscatalog.entities;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+// 2026-10-18 - Token JWT revogado (logout ou refresh token já usado),
+// identificado pelo "jti". Fica na tabela até o token expirar: depois disso
+// o próprio JWT é recusado e a linha é apagada pela limpeza periódica.
+@Entity
+@Table(name = "tb_revoked_token", indexes = {
+		@Index(name = "ix_revoked_token_expires_at", columnList = "expires_at"),
+		@Index(name = "ix_revoked_token_revoked_at", columnList = "revoked_at") })
+public class RevokedToken implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	@Id
+	@Column(name = "id_token", length = 64)
+	private String id;
+
+	@Column(name = "expires_at", columnDefinition = "TIMESTAMP WITHOUT TIME ZONE", nullable = false)
+	private Instant expiresAt;
+
+	@Column(name = "revoked_at", columnDefinition = "TIMESTAMP WITHOUT TIME ZONE", nullable = false)
+	private Instant revokedAt;
+
+	public RevokedToken() {
+	}
+
+	public RevokedToken(String id, Instant expiresAt, Instant revokedAt) {
+		this.id = id;
+		this.expiresAt = expiresAt;
+		this.revokedAt = revokedAt;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public Instant getExpiresAt() {
+		return expiresAt;
+	}
+
+	public Instant getRevokedAt() {
+		return revokedAt;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + ((id == null) ? 0 : id.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		RevokedToken other = (RevokedToken) obj;
+		if (id == null) {
+			if (other.id != null)
+				return false;
+		} else if (!id.equals(other.id))
+			return false;
+		return true;
+	}
+
+}
@@ -9,6 +9,9 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
 @Entity
 @Table(name = "tb_role")
 public class Role implements Serializable {
@@ -16,7 +19,9 @@ public class Role implements Serializable {
 	private static final long serialVersionUID = 1L;
 	
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sq_role")
+	@GenericGenerator(name = "sq_role", strategy = "com.devsuperior.dscatalog.entities.PooledSequenceGenerator",
+			parameters = @Parameter(name = "sequence_name", value = "sq_role"))
 	@Column(name = "id_role")
 	private Long id;
 	
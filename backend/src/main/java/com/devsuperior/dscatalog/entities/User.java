@@ -17,18 +17,25 @@ import javax.persistence.JoinTable;
 import javax.persistence.ManyToMany;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 @Entity
+// 2026-10-18 - UPDATE somente com as colunas alteradas (PATCH altera poucos campos)
+@DynamicUpdate
 @Table(name = "tb_user")
 public class User implements UserDetails, Serializable {
 
 	private static final long serialVersionUID = 1L;
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sq_user")
+	@GenericGenerator(name = "sq_user", strategy = "com.devsuperior.dscatalog.entities.PooledSequenceGenerator",
+			parameters = @Parameter(name = "sequence_name", value = "sq_user"))
 	@Column(name = "id_user")
 	private Long id;
 
@@ -1,5 +1,7 @@
 package com.devsuperior.dscatalog.repositories;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -8,5 +10,7 @@ import com.devsuperior.dscatalog.entities.Category;
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long>{
 	
+	// Listagem paginada sem COUNT (Slice)
+	Slice<Category> findAllBy(Pageable pageable);
 
 }
@@ -0,0 +1,59 @@
+package com.devsuperior.dscatalog.repositories;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.devsuperior.dscatalog.entities.ProductChange;
+
+@Repository
+public interface ProductChangeRepository extends JpaRepository<ProductChange, Long>, ProductChangeRepositoryCustom {
+
+	// Alterações depois da marca d'água, em ordem (chave primária, sem ordenação extra)
+	@Query(value = "SELECT obj FROM ProductChange obj WHERE obj.id > :since ORDER BY obj.id")
+	List<ProductChange> findChangesAfter(Long since, Pageable pageable);
+
+	// Renomear categorias altera o JSON dos produtos delas: um UPSERT por produto, em um único comando
+	@Modifying
+	@Query(nativeQuery = true, value = "INSERT INTO tb_product_change (id_product, tp_change, changed_at) "
+			+ " SELECT DISTINCT pc.id_product, 'UPSERT', :now FROM tb_product_category pc "
+			+ " WHERE pc.id_category IN :categoryIds")
+	int insertCategoryChanges(Collection<Long> categoryIds, Instant now);
+
+	// Bloqueia a linha de controle até o fim da transação (ordem dos ids = ordem dos commits).
+	// Retorna zero se a linha não existir
+	@Modifying
+	@Query(nativeQuery = true, value = "UPDATE tb_product_change_control SET purged_until = purged_until "
+			+ " WHERE id_control = 1")
+	int lockForWrite();
+
+	// Maior id de lápide já apagada pela limpeza
+	@Query(nativeQuery = true, value = "SELECT purged_until FROM tb_product_change_control WHERE id_control = 1")
+	Long findPurgedUntil();
+
+	// Maior id das lápides que a limpeza vai apagar (nulo se nenhuma)
+	@Query(nativeQuery = true, value = "SELECT MAX(id_change) FROM tb_product_change "
+			+ " WHERE tp_change = 'DELETE' AND changed_at < :before")
+	Long findLastTombstoneBefore(Instant before);
+
+	// Limpeza: apaga as lápides antigas e as alterações antigas que já têm outra
+	// mais nova do mesmo produto. A última alteração de cada produto existente fica,
+	// para a sincronização desde o início (since=0) continuar trazendo o catálogo todo
+	@Modifying
+	@Query(nativeQuery = true, value = "DELETE FROM tb_product_change c WHERE c.changed_at < :before "
+			+ " AND (c.tp_change = 'DELETE' OR EXISTS (SELECT 1 FROM tb_product_change n "
+			+ " WHERE n.id_product = c.id_product AND n.id_change > c.id_change))")
+	int deleteObsoleteBefore(Instant before);
+
+	@Modifying
+	@Query(nativeQuery = true, value = "UPDATE tb_product_change_control SET purged_until = :purgedUntil "
+			+ " WHERE id_control = 1 AND purged_until < :purgedUntil")
+	int updatePurgedUntil(Long purgedUntil);
+
+}
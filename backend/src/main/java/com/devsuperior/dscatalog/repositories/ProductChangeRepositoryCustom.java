@@ -0,0 +1,13 @@
+package com.devsuperior.dscatalog.repositories;
+
+import java.util.List;
+
+import com.devsuperior.dscatalog.entities.ProductChange;
+
+// Consultas do ProductChangeRepository escritas à mão (implementação em ProductChangeRepositoryCustomImpl)
+public interface ProductChangeRepositoryCustom {
+
+	// Inclusão em lote via JDBC (addBatch/executeBatch). O id vem do IDENTITY e não é lido de volta
+	void insertChanges(List<ProductChange> changes);
+
+}
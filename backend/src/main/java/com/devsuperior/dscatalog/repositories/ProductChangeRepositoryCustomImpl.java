@@ -0,0 +1,49 @@
+package com.devsuperior.dscatalog.repositories;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.hibernate.Session;
+
+import com.devsuperior.dscatalog.entities.ProductChange;
+
+public class ProductChangeRepositoryCustomImpl implements ProductChangeRepositoryCustom {
+
+	private static final String INSERT_CHANGE = "INSERT INTO tb_product_change (id_product, tp_change, changed_at) "
+			+ " VALUES (?, ?, ?)";
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public void insertChanges(List<ProductChange> changes) {
+
+		if (changes.isEmpty()) {
+			return;
+		}
+
+		entityManager.unwrap(Session.class).doWork(connection -> {
+
+			try (PreparedStatement insert = connection.prepareStatement(INSERT_CHANGE)) {
+
+				for (ProductChange change : changes) {
+					insert.setLong(1, change.getProductId());
+					insert.setString(2, change.getType().name());
+					// Gravado em UTC, como o Hibernate (hibernate.jdbc.time_zone)
+					insert.setTimestamp(3, Timestamp.from(change.getChangedAt()),
+							Calendar.getInstance(TimeZone.getTimeZone("UTC")));
+					insert.addBatch();
+				}
+
+				insert.executeBatch();
+			}
+		});
+	}
+
+}
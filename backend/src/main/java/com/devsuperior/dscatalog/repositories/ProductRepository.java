@@ -1,10 +1,17 @@
 package com.devsuperior.dscatalog.repositories;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
+import javax.persistence.LockModeType;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -12,19 +19,64 @@ import com.devsuperior.dscatalog.entities.Category;
 import com.devsuperior.dscatalog.entities.Product;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long>{
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
 
 //	Faz a consulta com JPQL para selecionar produtos por categoria
 //	Utiliza JOIN explicito com categoria e filtra com cláusula WHERE e IN
 
 //	Refatorado em 27/02/2022 com a solução do erro: ERROR: operator does not exist: bytea = bigint	
+//	2026-10-18 - Busca pela coluna normalizada nm_product_search (índice trigram no PostgreSQL)
+//	O nome informado precisa ser normalizado com SearchNormalizer.normalize
 	@Query(value = "SELECT DISTINCT obj FROM Product obj INNER JOIN obj.categories cats WHERE "
 			+ " (COALESCE(:categories) IS NULL OR cats IN :categories) "
-			+ " AND (LOWER(obj.name) LIKE CONCAT('%',LOWER(:name),'%')"
+			+ " AND (obj.searchName LIKE CONCAT('%',:name,'%')"
 			+ " )"
 			)
 	Page<Product> findProductCategory(Pageable pageable, List<Category> categories, String name);
 	
+	// Mesma consulta devolvendo Slice: sem o COUNT, busca uma linha a mais para saber se há próxima página
+	@Query(value = "SELECT DISTINCT obj FROM Product obj INNER JOIN obj.categories cats WHERE "
+			+ " (COALESCE(:categories) IS NULL OR cats IN :categories) "
+			+ " AND (obj.searchName LIKE CONCAT('%',:name,'%')"
+			+ " )"
+			)
+	Slice<Product> findProductCategorySliced(Pageable pageable, List<Category> categories, String name);
+	
+	// Facetas por categoria quando o índice em memória ainda não foi carregado
+	// Cada linha traz o id da categoria e a quantidade de produtos do resultado
+	@Query(value = "SELECT cats.id, COUNT(obj) FROM Product obj INNER JOIN obj.categories cats WHERE "
+			+ " (COALESCE(:categories) IS NULL OR obj IN "
+			+ " (SELECT p FROM Product p INNER JOIN p.categories c WHERE c IN :categories)) "
+			+ " AND (obj.searchName LIKE CONCAT('%',:name,'%')) "
+			+ " GROUP BY cats.id ORDER BY cats.id"
+			)
+	List<Object[]> countProductsByCategory(List<Category> categories, String name);
+	
+	// Paginação keyset (seek): busca os registros depois do último id entregue, sem OFFSET e sem COUNT
+	// O Pageable informado deve trazer apenas o limite de linhas
+	// 2026-10-18 - EXISTS no lugar de INNER JOIN + DISTINCT (como no ProductRepositoryCustomImpl):
+	// sem o DISTINCT o banco pode percorrer o índice na ordem do ORDER BY e parar no limite.
+	// Produtos sem categoria continuam de fora
+	@Query(value = "SELECT obj FROM Product obj WHERE "
+			+ " EXISTS (SELECT 1 FROM obj.categories cats WHERE "
+			+ " (COALESCE(:categories) IS NULL OR cats IN :categories)) "
+			+ " AND (obj.searchName LIKE CONCAT('%',:name,'%')) "
+			+ " AND obj.id > :lastId "
+			+ " ORDER BY obj.id"
+			)
+	List<Product> findProductCategoryAfterId(List<Category> categories, String name, Long lastId, Pageable pageable);
+	
+	// Paginação keyset ordenada por nome. O id desempata produtos com o mesmo nome
+	@Query(value = "SELECT obj FROM Product obj WHERE "
+			+ " EXISTS (SELECT 1 FROM obj.categories cats WHERE "
+			+ " (COALESCE(:categories) IS NULL OR cats IN :categories)) "
+			+ " AND (obj.searchName LIKE CONCAT('%',:name,'%')) "
+			+ " AND (obj.name > :lastName OR (obj.name = :lastName AND obj.id > :lastId)) "
+			+ " ORDER BY obj.name, obj.id"
+			)
+	List<Product> findProductCategoryAfterName(List<Category> categories, String name, String lastName, Long lastId,
+			Pageable pageable);
+	
 	
 	//Acrescentada consulta para buscar Categorias e resolver o problema das N+1 Consultas
 	//As categorias ficarão em memória e o JPA vai orquestrar a utilização delas
@@ -32,6 +84,85 @@ public interface ProductRepository extends JpaRepository<Product, Long>{
 	@Query(value = "SELECT obj FROM Product obj JOIN FETCH obj.categories WHERE obj IN :products")
 	List<Product> findProductsWithCategories(List<Product> products);
 	
+	// Hidrata no banco somente os produtos da página encontrada pelo índice de busca
+	// LEFT JOIN para não perder produtos sem categoria
+	@Query(value = "SELECT DISTINCT obj FROM Product obj LEFT JOIN FETCH obj.categories WHERE obj.id IN :ids")
+	List<Product> findProductsWithCategoriesByIds(List<Long> ids);
+	
+	// Percorre os ids em ordem crescente a partir do último id lido (carga dos índices em memória)
+	@Query(value = "SELECT obj.id FROM Product obj WHERE obj.id > :lastId ORDER BY obj.id")
+	List<Long> findIdsAfter(Long lastId, Pageable pageable);
+	
+	// Backfill de nm_product_search: próximos produtos ainda sem a chave normalizada
+	@Query(value = "SELECT obj.id, obj.name FROM Product obj WHERE obj.searchName IS NULL ORDER BY obj.id")
+	List<Object[]> findWithoutSearchName(Pageable pageable);
+	
+	// Atualiza somente a chave normalizada, sem passar pelo @PreUpdate (não altera updated_at)
+	@Modifying
+	@Query(value = "UPDATE Product obj SET obj.searchName = :searchName WHERE obj.id = :id")
+	int updateSearchName(Long id, String searchName);
+	
+	// Somente os números do ETag do detalhe: versão do produto, quantidade de
+	// categorias e soma das versões delas. Não carrega a entidade
+	@Query(value = "SELECT obj.version, COUNT(cat), COALESCE(SUM(cat.version), 0) FROM Product obj "
+			+ " LEFT JOIN obj.categories cat WHERE obj.id = :id GROUP BY obj.id, obj.version")
+	List<Object[]> findVersions(Long id);
+	
+	// Operações em lote: próximos ids (em ordem) dos produtos das categorias
+	@Query(value = "SELECT DISTINCT obj.id FROM Product obj JOIN obj.categories cat "
+			+ " WHERE cat.id IN :categoryIds AND obj.id > :lastId ORDER BY obj.id")
+	List<Long> findIdsByCategoriesAfter(Collection<Long> categoryIds, Long lastId, Pageable pageable);
+	
+	// Ids do bloco cujo preço o reajuste vai alterar (mesmo critério do
+	// adjustPrices). As linhas ficam travadas até o commit: o UPDATE em seguida
+	// altera exatamente esses produtos
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query(value = "SELECT obj.id FROM Product obj WHERE obj.id IN :ids AND obj.price * :factor + :delta > 0 "
+			+ " ORDER BY obj.id")
+	List<Long> findAdjustableIds(Collection<Long> ids, Double factor, Double delta);
+	
+	// Reajuste de preço em um bloco de ids, em um único UPDATE.
+	// Mantém updated_at e a versão (ETag) coerentes; preços que ficariam
+	// zerados ou negativos não são alterados
+	@Modifying
+	@Query(value = "UPDATE Product obj SET obj.price = obj.price * :factor + :delta, obj.updatedAt = :now, "
+			+ " obj.version = obj.version + 1 WHERE obj.id IN :ids AND obj.price * :factor + :delta > 0")
+	int adjustPrices(Collection<Long> ids, Double factor, Double delta, Instant now);
+	
+	// Exclusão em lote: ids do bloco que existem de fato
+	@Query(value = "SELECT obj.id FROM Product obj WHERE obj.id IN :ids ORDER BY obj.id")
+	List<Long> findExistingIds(Collection<Long> ids);
+	
+	// Ligações com categorias saem antes dos produtos (tb_product_category não tem ON DELETE CASCADE).
+	// clearAutomatically descarta do contexto as entidades dos blocos anteriores
+	@Modifying(clearAutomatically = true)
+	@Query(nativeQuery = true, value = "DELETE FROM tb_product_category WHERE id_product IN :ids")
+	int deleteCategoryLinks(Collection<Long> ids);
+	
+	@Modifying
+	@Query(nativeQuery = true, value = "DELETE FROM tb_product WHERE id_product IN :ids")
+	int deleteByIds(Collection<Long> ids);
+	
+	// Troca de categoria em um bloco de ids: liga à nova categoria (se ainda
+	// não estiver ligado) e desliga da antiga, em dois comandos por bloco
+	@Modifying(clearAutomatically = true)
+	@Query(nativeQuery = true, value = "INSERT INTO tb_product_category (id_product, id_category) "
+			+ " SELECT pc.id_product, :toCategoryId FROM tb_product_category pc "
+			+ " WHERE pc.id_category = :fromCategoryId AND pc.id_product IN :ids "
+			+ " AND NOT EXISTS (SELECT 1 FROM tb_product_category x "
+			+ " WHERE x.id_product = pc.id_product AND x.id_category = :toCategoryId)")
+	int linkCategory(Collection<Long> ids, Long fromCategoryId, Long toCategoryId);
+	
+	@Modifying
+	@Query(nativeQuery = true, value = "DELETE FROM tb_product_category WHERE id_category = :categoryId "
+			+ " AND id_product IN :ids")
+	int unlinkCategory(Collection<Long> ids, Long categoryId);
+	
+	// Produtos alterados por comandos em lote: nova versão (ETag) e updated_at
+	@Modifying
+	@Query(value = "UPDATE Product obj SET obj.updatedAt = :now, obj.version = obj.version + 1 WHERE obj.id IN :ids")
+	int touch(Collection<Long> ids, Instant now);
+	
 
 // 27/02/2022 - Essa solução não funciona no PostgreSQL, por isso a solução acima foi implementada.
 // Ocorre o erro: ERROR: operator does not exist: bytea = bigint
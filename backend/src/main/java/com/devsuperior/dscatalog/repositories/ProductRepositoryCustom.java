@@ -0,0 +1,60 @@
+package com.devsuperior.dscatalog.repositories;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import com.devsuperior.dscatalog.dto.ProductDTO;
+
+// Consultas do ProductRepository escritas à mão (implementação em ProductRepositoryCustomImpl)
+public interface ProductRepositoryCustom {
+
+	// Campos de ordenação aceitos pela listagem e a coluna correspondente
+	Map<String, String> LISTING_SORT_COLUMNS = Map.of("id", "id_product", "name", "nm_product", "price", "vl_price",
+			"moment", "dt_moment");
+
+	// Listagem de produtos montada direto em DTO, em uma única ida ao banco:
+	// página, total (COUNT(*) OVER()) e categorias vêm na mesma consulta.
+	// searchName deve estar normalizado e categoryId igual a zero não filtra.
+	Page<ProductDTO> findProductListing(Pageable pageable, Long categoryId, String searchName);
+
+	// Mesma listagem sem total: busca uma linha a mais só para saber se há próxima página
+	Slice<ProductDTO> findProductListingSlice(Pageable pageable, Long categoryId, String searchName);
+
+	// Total exato da listagem com os mesmos filtros
+	long countProductListing(Long categoryId, String searchName);
+
+	// Inclusão em lote via JDBC (addBatch/executeBatch) dos produtos e das
+	// ligações com as categorias, sem passar pelo contexto de persistência.
+	// Os ids vêm da sequence da entidade e são gravados nos próprios DTOs.
+	void insertProducts(List<ProductDTO> products);
+
+	// Percorre todo o catálogo em ordem de id com um cursor JDBC somente
+	// leitura e avanço (fetchSize linhas por ida ao banco), entregando um
+	// produto completo por vez, com as categorias. Nenhuma entidade entra no
+	// contexto de persistência. No PostgreSQL o cursor só respeita o
+	// fetchSize dentro de uma transação (autocommit desligado).
+	void streamProducts(int fetchSize, Consumer<ProductDTO> action);
+
+	// 2026-10-18 - Estado atual dos produtos informados, com as categorias, em
+	// uma única consulta nativa montada direto em DTO (operações em lote).
+	// Nenhuma entidade é carregada e as alterações feitas pela própria
+	// transação são enxergadas. Ids inexistentes não aparecem no resultado.
+	List<ProductDTO> findProductDTOsByIds(Collection<Long> ids);
+
+	static boolean isListingSortSupported(Sort sort) {
+		for (Sort.Order order : sort) {
+			if (!LISTING_SORT_COLUMNS.containsKey(order.getProperty())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
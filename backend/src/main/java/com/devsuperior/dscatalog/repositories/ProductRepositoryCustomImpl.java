@@ -0,0 +1,342 @@
+package com.devsuperior.dscatalog.repositories;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.function.Consumer;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import com.devsuperior.dscatalog.dto.CategoryDTO;
+import com.devsuperior.dscatalog.dto.ProductDTO;
+import com.devsuperior.dscatalog.entities.Product;
+import com.devsuperior.dscatalog.services.search.SearchNormalizer;
+
+public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+
+	// Mesmo filtro do findProductCategory: o EXISTS substitui o INNER JOIN + DISTINCT
+	// e mantém de fora produtos sem categoria
+	private static final String WHERE = " WHERE p.nm_product_search LIKE :pattern "
+			+ " AND EXISTS (SELECT 1 FROM tb_product_category pc WHERE pc.id_product = p.id_product "
+			+ " AND (:categoryId = 0 OR pc.id_category = :categoryId)) ";
+
+	// Inclusão em lote (insertProducts)
+	private static final String INSERT_PRODUCT = "INSERT INTO tb_product (id_product, nm_product, nm_product_search, "
+			+ " ds_product, vl_price, nm_imgurl, dt_moment, created_at, nr_version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+	private static final String INSERT_PRODUCT_CATEGORY = "INSERT INTO tb_product_category (id_product, id_category) "
+			+ " VALUES (?, ?)";
+
+	// Exportação (streamProducts): uma linha por produto e categoria, em ordem de id
+	private static final String EXPORT = "SELECT p.id_product, p.nm_product, p.ds_product, p.vl_price, p.nm_imgurl, "
+			+ " p.dt_moment, p.nr_version, c.id_category, c.nm_category, c.nr_version FROM tb_product p "
+			+ " LEFT JOIN tb_product_category pc ON pc.id_product = p.id_product "
+			+ " LEFT JOIN tb_category c ON c.id_category = pc.id_category "
+			+ " ORDER BY p.id_product, c.id_category";
+
+	// Produtos por id (findProductDTOsByIds), uma linha por produto e categoria
+	private static final String BY_IDS = "SELECT p.id_product, p.nm_product, "
+			+ " CAST(p.ds_product AS VARCHAR) AS ds_product, p.vl_price, p.nm_imgurl, p.dt_moment, p.nr_version AS nr_product_version, c.id_category, "
+			+ " c.nm_category, c.nr_version AS nr_category_version FROM tb_product p "
+			+ " LEFT JOIN tb_product_category pc ON pc.id_product = p.id_product "
+			+ " LEFT JOIN tb_category c ON c.id_category = pc.id_category "
+			+ " WHERE p.id_product IN :ids ORDER BY p.id_product, c.id_category";
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	// 2026-10-18 - As colunas TIMESTAMP WITHOUT TIME ZONE guardam o horário em UTC,
+	// como o Hibernate (hibernate.jdbc.time_zone). Sem o Calendar o driver usaria
+	// o fuso da JVM. Calendar não é thread-safe, um por chamada.
+	private static Calendar utc() {
+		return Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+	}
+
+	@Override
+	public Page<ProductDTO> findProductListing(Pageable pageable, Long categoryId, String searchName) {
+
+		long[] total = { 0L };
+		List<ProductDTO> content = listing(pageable, pageable.getPageSize(), categoryId, searchName, total);
+
+		// Página depois da última não traz linhas e, portanto, nem o total
+		if (content.isEmpty() && pageable.getOffset() > 0) {
+			total[0] = countProductListing(categoryId, searchName);
+		}
+
+		return new PageImpl<>(content, pageable, total[0]);
+	}
+
+	@Override
+	public Slice<ProductDTO> findProductListingSlice(Pageable pageable, Long categoryId, String searchName) {
+
+		List<ProductDTO> content = listing(pageable, pageable.getPageSize() + 1, categoryId, searchName, null);
+		boolean hasNext = content.size() > pageable.getPageSize();
+
+		if (hasNext) {
+			content = content.subList(0, pageable.getPageSize());
+		}
+
+		return new SliceImpl<>(content, pageable, hasNext);
+	}
+
+	@Override
+	public long countProductListing(Long categoryId, String searchName) {
+
+		Query query = entityManager.createNativeQuery("SELECT COUNT(*) FROM tb_product p " + WHERE);
+		setFilter(query, categoryId, searchName);
+
+		return ((Number) query.getSingleResult()).longValue();
+	}
+
+	@Override
+	public void insertProducts(List<ProductDTO> products) {
+
+		if (products.isEmpty()) {
+			return;
+		}
+
+		// Mesmos valores que o @PrePersist grava: chave de busca e created_at
+		Timestamp now = Timestamp.from(Instant.now());
+
+		SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+
+		// Ids do mesmo gerador da entidade (blocos da sq_product), sem consulta por linha
+		IdentifierGenerator ids = session.getFactory().getMetamodel().entityPersister(Product.class)
+				.getIdentifierGenerator();
+
+		for (ProductDTO product : products) {
+			product.setId((Long) ids.generate(session, null));
+			product.setVersion(0L);
+		}
+
+		session.doWork(connection -> {
+
+			try (PreparedStatement insert = connection.prepareStatement(INSERT_PRODUCT)) {
+
+				for (ProductDTO product : products) {
+					insert.setLong(1, product.getId());
+					insert.setString(2, product.getName());
+					insert.setString(3, SearchNormalizer.normalize(product.getName()));
+					insert.setString(4, product.getDescription());
+					insert.setObject(5, product.getPrice(), Types.DOUBLE);
+					insert.setString(6, product.getImgUrl());
+					insert.setTimestamp(7, product.getMoment() == null ? null : Timestamp.from(product.getMoment()), utc());
+					insert.setTimestamp(8, now, utc());
+					insert.addBatch();
+				}
+
+				insert.executeBatch();
+			}
+
+			try (PreparedStatement link = connection.prepareStatement(INSERT_PRODUCT_CATEGORY)) {
+
+				for (ProductDTO product : products) {
+					for (CategoryDTO category : product.getCategories()) {
+						link.setLong(1, product.getId());
+						link.setLong(2, category.getId());
+						link.addBatch();
+					}
+				}
+
+				link.executeBatch();
+			}
+		});
+	}
+
+	@Override
+	public void streamProducts(int fetchSize, Consumer<ProductDTO> action) {
+
+		SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+
+		session.doWork(connection -> {
+
+			try (PreparedStatement select = connection.prepareStatement(EXPORT, ResultSet.TYPE_FORWARD_ONLY,
+					ResultSet.CONCUR_READ_ONLY)) {
+
+				select.setFetchSize(fetchSize);
+
+				try (ResultSet rows = select.executeQuery()) {
+
+					// As linhas de um produto chegam juntas: o produto é entregue
+					// quando aparece o próximo id (ou no fim do cursor)
+					ProductDTO current = null;
+
+					while (rows.next()) {
+
+						long id = rows.getLong(1);
+
+						if (current == null || current.getId() != id) {
+
+							if (current != null) {
+								action.accept(current);
+							}
+
+							Timestamp moment = rows.getTimestamp(6, utc());
+
+							current = new ProductDTO(id, rows.getString(2), rows.getString(3),
+									rows.getObject(4) == null ? null : rows.getDouble(4), rows.getString(5),
+									moment == null ? null : moment.toInstant());
+							current.setVersion(rows.getLong(7));
+						}
+
+						long categoryId = rows.getLong(8);
+
+						if (!rows.wasNull()) {
+							current.getCategories().add(new CategoryDTO(categoryId, rows.getString(9), rows.getLong(10)));
+						}
+					}
+
+					if (current != null) {
+						action.accept(current);
+					}
+				}
+			}
+		});
+	}
+
+	@Override
+	public List<ProductDTO> findProductDTOsByIds(Collection<Long> ids) {
+
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+
+		Query query = entityManager.createNativeQuery(BY_IDS);
+		query.setParameter("ids", ids);
+
+		@SuppressWarnings("unchecked")
+		List<Object[]> rows = query.getResultList();
+
+		Map<Long, ProductDTO> products = new LinkedHashMap<>();
+
+		for (Object[] row : rows) {
+
+			Long id = ((Number) row[0]).longValue();
+			ProductDTO dto = products.get(id);
+
+			// O Hibernate lê dt_moment em UTC (hibernate.jdbc.time_zone)
+			if (dto == null) {
+				dto = new ProductDTO(id, (String) row[1], (String) row[2],
+						row[3] == null ? null : ((Number) row[3]).doubleValue(), (String) row[4],
+						row[5] == null ? null : ((Timestamp) row[5]).toInstant());
+				dto.setVersion(((Number) row[6]).longValue());
+				products.put(id, dto);
+			}
+
+			if (row[7] != null) {
+				dto.getCategories().add(new CategoryDTO(((Number) row[7]).longValue(), (String) row[8],
+						((Number) row[9]).longValue()));
+			}
+		}
+
+		return new ArrayList<>(products.values());
+	}
+
+	// Sem o array total a consulta não calcula o COUNT(*) OVER()
+	private List<ProductDTO> listing(Pageable pageable, int limit, Long categoryId, String searchName, long[] total) {
+
+		String orderBy = orderBy(pageable.getSort());
+		String totalColumn = total == null ? "CAST(NULL AS BIGINT)" : "COUNT(*) OVER()";
+
+		// A subconsulta pagina os produtos e o JOIN externo traz as categorias,
+		// cada produto ocupa uma linha por categoria. ds_product (TEXT) volta como
+		// VARCHAR para o driver entregar String e não Clob
+		String sql = "SELECT p.id_product, p.nm_product, p.vl_price, p.nm_imgurl, p.dt_moment, p.total, "
+				+ " c.id_category, c.nm_category, p.nr_version AS nr_product_version, "
+				+ " c.nr_version AS nr_category_version, CAST(p.ds_product AS VARCHAR) AS ds_product FROM ("
+				+ " SELECT p.id_product, p.nm_product, p.vl_price, p.nm_imgurl, p.dt_moment, p.nr_version, p.ds_product, "
+				+ totalColumn + " AS total "
+				+ " FROM tb_product p " + WHERE + orderBy + " LIMIT :limit OFFSET :offset) p "
+				+ " LEFT JOIN tb_product_category pc ON pc.id_product = p.id_product "
+				+ " LEFT JOIN tb_category c ON c.id_category = pc.id_category " + orderBy + ", c.id_category";
+
+		Query query = entityManager.createNativeQuery(sql);
+		setFilter(query, categoryId, searchName);
+		query.setParameter("limit", limit);
+		query.setParameter("offset", pageable.getOffset());
+
+		@SuppressWarnings("unchecked")
+		List<Object[]> rows = query.getResultList();
+
+		Map<Long, ProductDTO> products = new LinkedHashMap<>();
+
+		for (Object[] row : rows) {
+
+			Long id = ((Number) row[0]).longValue();
+			ProductDTO dto = products.get(id);
+
+			// O Hibernate lê dt_moment em UTC (hibernate.jdbc.time_zone)
+			if (dto == null) {
+				dto = new ProductDTO(id, (String) row[1], (String) row[10],
+						row[2] == null ? null : ((Number) row[2]).doubleValue(), (String) row[3],
+						row[4] == null ? null : ((Timestamp) row[4]).toInstant());
+				dto.setVersion(((Number) row[8]).longValue());
+				products.put(id, dto);
+
+				if (total != null) {
+					total[0] = ((Number) row[5]).longValue();
+				}
+			}
+
+			if (row[6] != null) {
+				dto.getCategories().add(new CategoryDTO(((Number) row[6]).longValue(), (String) row[7],
+						((Number) row[9]).longValue()));
+			}
+		}
+
+		return new ArrayList<>(products.values());
+	}
+
+	private static void setFilter(Query query, Long categoryId, String searchName) {
+		query.setParameter("pattern", "%" + searchName + "%");
+		query.setParameter("categoryId", categoryId);
+	}
+
+	// Somente colunas da lista LISTING_SORT_COLUMNS entram no SQL.
+	// O id desempata para a paginação ser estável.
+	private static String orderBy(Sort sort) {
+
+		StringBuilder orderBy = new StringBuilder(" ORDER BY ");
+		boolean hasId = false;
+
+		for (Sort.Order order : sort) {
+
+			String column = LISTING_SORT_COLUMNS.get(order.getProperty());
+
+			if (column == null) {
+				throw new IllegalArgumentException("Ordenação não suportada: " + order.getProperty());
+			}
+
+			orderBy.append("p.").append(column).append(order.isDescending() ? " DESC" : " ASC").append(", ");
+			hasId |= column.equals("id_product");
+		}
+
+		if (!hasId) {
+			orderBy.append("p.id_product ASC, ");
+		}
+
+		return orderBy.substring(0, orderBy.length() - 2);
+	}
+
+}
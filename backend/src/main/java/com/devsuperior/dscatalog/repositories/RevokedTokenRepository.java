@@ -0,0 +1,35 @@
+package com.devsuperior.dscatalog.repositories;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.devsuperior.dscatalog.entities.RevokedToken;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+	// Revogações ainda válidas (carga inicial da lista em memória)
+	@Query(value = "SELECT obj FROM RevokedToken obj WHERE obj.expiresAt > :now")
+	List<RevokedToken> findActive(Instant now);
+
+	// Revogações feitas por qualquer instância da aplicação desde o instante informado
+	@Query(value = "SELECT obj FROM RevokedToken obj WHERE obj.revokedAt >= :since AND obj.expiresAt > :now")
+	List<RevokedToken> findRevokedSince(Instant since, Instant now);
+
+	// Revogação com um único INSERT (o save faria SELECT + INSERT pelo merge).
+	// Token já revogado viola a chave primária (DataIntegrityViolationException)
+	@Modifying
+	@Query(nativeQuery = true, value = "INSERT INTO tb_revoked_token (id_token, expires_at, revoked_at) "
+			+ " VALUES (:id, :expiresAt, :revokedAt)")
+	int insert(String id, Instant expiresAt, Instant revokedAt);
+
+	@Modifying
+	@Query(value = "DELETE FROM RevokedToken obj WHERE obj.expiresAt <= :now")
+	int deleteExpired(Instant now);
+
+}
@@ -2,7 +2,12 @@ package com.devsuperior.dscatalog.repositories;
 
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.devsuperior.dscatalog.entities.User;
@@ -10,8 +15,27 @@ import com.devsuperior.dscatalog.entities.User;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+	// 2026-10-18 - Perfis na mesma consulta (LEFT JOIN): sem o SELECT extra do EAGER
+	@EntityGraph(attributePaths = "roles")
 	User findByEmail(String email);
+
+	// 2026-10-18 - Regravação da senha com o custo atual do BCrypt
+	@Modifying
+	@Query(value = "UPDATE User obj SET obj.password = :password WHERE obj.email = :email")
+	int updatePassword(String email, String password);
 	
 	List<User> findByFirstName(String firstName);
 
+	// Listagem paginada sem COUNT (Slice)
+	Slice<User> findAllBy(Pageable pageable);
+
+	// Paginação keyset (seek): sem OFFSET e sem COUNT
+	// O Pageable informado deve trazer apenas o limite de linhas
+	@Query(value = "SELECT obj FROM User obj WHERE obj.id > :lastId ORDER BY obj.id")
+	List<User> findAllAfterId(Long lastId, Pageable pageable);
+
+	@Query(value = "SELECT obj FROM User obj WHERE obj.email > :lastEmail "
+			+ " OR (obj.email = :lastEmail AND obj.id > :lastId) ORDER BY obj.email, obj.id")
+	List<User> findAllAfterEmail(String lastEmail, Long lastId, Pageable pageable);
+
 }
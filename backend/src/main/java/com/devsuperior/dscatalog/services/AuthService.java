@@ -0,0 +1,30 @@
+package com.devsuperior.dscatalog.services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.authentication.OAuth2AuthenticationDetails;
+import org.springframework.stereotype.Service;
+
+import com.devsuperior.dscatalog.components.CachingJwtTokenStore;
+
+// 2026-10-18 - Logout: revoga o token de acesso usado na requisição e, se
+// informado, o refresh token do mesmo usuário. Os tokens continuam válidos
+// como JWT, mas passam a ser recusados até expirarem (TokenRevocationService)
+@Service
+public class AuthService {
+
+	@Autowired
+	private CachingJwtTokenStore tokenStore;
+
+	public void logout(OAuth2Authentication authentication, String refreshToken) {
+
+		if (refreshToken != null && !refreshToken.isBlank()) {
+			tokenStore.revokeRefreshToken(refreshToken, authentication.getName());
+		}
+
+		OAuth2AuthenticationDetails details = (OAuth2AuthenticationDetails) authentication.getDetails();
+
+		tokenStore.revokeAccessToken(details.getTokenValue());
+	}
+
+}
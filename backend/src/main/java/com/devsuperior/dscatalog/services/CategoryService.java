@@ -1,22 +1,30 @@
 package com.devsuperior.dscatalog.services;
 
-import java.util.Optional;
+import java.util.List;
 
 import javax.persistence.EntityNotFoundException;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.devsuperior.dscatalog.dto.CategoryDTO;
 import com.devsuperior.dscatalog.entities.Category;
 import com.devsuperior.dscatalog.repositories.CategoryRepository;
+import com.devsuperior.dscatalog.services.cache.CategorySnapshot;
+import com.devsuperior.dscatalog.services.events.CategoryChangedEvent;
 import com.devsuperior.dscatalog.services.exceptions.DatabaseException;
 import com.devsuperior.dscatalog.services.exceptions.ResourceNotFoundException;
+import com.devsuperior.dscatalog.services.pagination.ApproximateCounter;
+import com.devsuperior.dscatalog.services.pagination.ApproximatePage;
 
 @Service
 public class CategoryService {
@@ -24,6 +32,17 @@ public class CategoryService {
 	@Autowired
 	private CategoryRepository categoryRepository;
 
+	@Autowired
+	private ApproximateCounter approximateCounter;
+
+	// 2026-10-18 - Leituras de categoria servidas pela cópia em memória
+	@Autowired
+	private CategorySnapshot categorySnapshot;
+
+	// Publica as escritas em Category para os caches
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
 	// 2022-02-01 - Refatoracao da paginacao utilizando um objeto pageable
 	// @Transactional(readOnly = true)
 	// public Page<CategoryDTO> findAllPaged(PageRequest pageRequest) {
@@ -36,27 +55,76 @@ public class CategoryService {
 	// }
 
 	// 2022-02-01 - Refatoracao da paginacao utilizando um objeto pageable
-	@Transactional(readOnly = true)
+	// 2026-10-18 - As leituras não são @Transactional: a cópia em memória
+	// responde sem conexão e as consultas do repositório abrem a própria transação
 	public Page<CategoryDTO> findAllPaged(Pageable pageable) {
 
+		if (CategorySnapshot.isSortSupported(pageable.getSort())) {
+			List<CategoryDTO> all = categorySnapshot.findAll(pageable.getSort());
+			return new PageImpl<>(pageOf(all, pageable), pageable, all.size());
+		}
+
 		Page<Category> page = categoryRepository.findAll(pageable);
 
 		Page<CategoryDTO> pageDto = page.map(elementoList -> new CategoryDTO(elementoList));
 		return pageDto;
 	}
 
-	@Transactional(readOnly = true)
+	// 2026-10-18 - Listagem sem COUNT para rolagem infinita (count=none)
+	public Slice<CategoryDTO> findAllSliced(Pageable pageable) {
+
+		if (CategorySnapshot.isSortSupported(pageable.getSort())) {
+			List<CategoryDTO> all = categorySnapshot.findAll(pageable.getSort());
+			boolean hasNext = pageable.isPaged() && pageable.getOffset() + pageable.getPageSize() < all.size();
+			return new SliceImpl<>(pageOf(all, pageable), pageable, hasNext);
+		}
+
+		Slice<Category> slice = categoryRepository.findAllBy(pageable);
+
+		return slice.map(elementoList -> new CategoryDTO(elementoList));
+	}
+
+	// 2026-10-18 - Listagem com total aproximado (count=approx)
+	public Page<CategoryDTO> findAllApproximate(Pageable pageable) {
+
+		// Em memória o total exato não custa nada
+		if (CategorySnapshot.isSortSupported(pageable.getSort())) {
+			Page<CategoryDTO> page = findAllPaged(pageable);
+			return ApproximatePage.exact(page.getContent(), pageable, page.getTotalElements());
+		}
+
+		Slice<CategoryDTO> slice = findAllSliced(pageable);
+
+		// Na última página o total sai do próprio Slice
+		long estimate = ApproximatePage.isExact(slice) ? 0L
+				: approximateCounter.count("tb_category", "", () -> categoryRepository.count());
+
+		return ApproximatePage.of(slice, estimate);
+	}
+
+	// 2026-10-18 - Sem ida ao banco: a categoria vem da cópia em memória
 	public CategoryDTO findById(Long id) {
 
-		Optional<Category> objOptional = categoryRepository.findById(id);
+		CategoryDTO categoryDto = categorySnapshot.findById(id);
 
-		if (!objOptional.isPresent()) {
+		if (categoryDto == null) {
 			throw new ResourceNotFoundException("Categoria " + id + " não encontrada");
 		}
 
-		Category entity = objOptional.get();
+		return categoryDto;
+	}
+
+	// Recorte da página dentro da lista completa
+	private List<CategoryDTO> pageOf(List<CategoryDTO> all, Pageable pageable) {
+
+		if (pageable.isUnpaged()) {
+			return all;
+		}
+
+		int from = (int) Math.min(pageable.getOffset(), all.size());
+		int to = Math.min(from + pageable.getPageSize(), all.size());
 
-		return new CategoryDTO(entity);
+		return all.subList(from, to);
 	}
 
 	@Transactional
@@ -66,7 +134,11 @@ public class CategoryService {
 		entity.setName(categoryDto.getName());
 		entity = categoryRepository.save(entity);
 
-		return new CategoryDTO(entity);
+		CategoryDTO dto = new CategoryDTO(entity);
+
+		eventPublisher.publishEvent(CategoryChangedEvent.upsert(dto));
+
+		return dto;
 	}
 
 	@Transactional
@@ -76,7 +148,16 @@ public class CategoryService {
 			Category entity = categoryRepository.getById(id);
 			updateData(entity, updatedCategoryDto);
 			entity = categoryRepository.save(entity);
-			return new CategoryDTO(entity);
+
+			// O flush incrementa a versão antes de montar o DTO (ETag)
+			categoryRepository.flush();
+
+			CategoryDTO dto = new CategoryDTO(entity);
+
+			// Renomear a categoria invalida o cache dos produtos dela após o commit
+			eventPublisher.publishEvent(CategoryChangedEvent.upsert(dto));
+
+			return dto;
 		} catch (EntityNotFoundException e) {
 			throw new ResourceNotFoundException("Categoria " + id + " não encontrada");
 		}
@@ -90,6 +171,7 @@ public class CategoryService {
 
 		try {
 			categoryRepository.deleteById(id);
+			eventPublisher.publishEvent(CategoryChangedEvent.delete(id));
 		} catch (EmptyResultDataAccessException e) {
 			throw new ResourceNotFoundException("Categoria " + id + " não encontrada");
 		} catch (DataIntegrityViolationException e) {
@@ -0,0 +1,240 @@
+package com.devsuperior.dscatalog.services;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.devsuperior.dscatalog.dto.BulkOperationResultDTO;
+import com.devsuperior.dscatalog.dto.CategoryReassignmentDTO;
+import com.devsuperior.dscatalog.dto.PriceAdjustmentDTO;
+import com.devsuperior.dscatalog.dto.ProductBulkDeleteDTO;
+import com.devsuperior.dscatalog.dto.ProductDTO;
+import com.devsuperior.dscatalog.repositories.ProductRepository;
+import com.devsuperior.dscatalog.services.cache.CategorySnapshot;
+import com.devsuperior.dscatalog.services.events.ProductChangedEvent;
+import com.devsuperior.dscatalog.services.exceptions.DatabaseException;
+import com.devsuperior.dscatalog.services.exceptions.ValidationException;
+
+// 2026-10-18 - Operações administrativas sobre muitos produtos de uma vez.
+// O trabalho é feito em blocos de ids (catalog.bulk.chunk-size) com um
+// UPDATE/DELETE por bloco, e não uma ida ao banco por produto.
+// O reajuste de preço confirma bloco a bloco: os locks duram pouco e uma
+// falha no meio não desfaz os blocos já confirmados. Exclusão e troca de
+// categoria rodam em uma única transação: tudo ou nada.
+@Service
+public class ProductBulkService {
+
+	private static Logger logger = LoggerFactory.getLogger(ProductBulkService.class);
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private CategorySnapshot categorySnapshot;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Value("${catalog.bulk.chunk-size:1000}")
+	private Integer chunkSize;
+
+	// Reajuste percentual ou absoluto do preço dos produtos das categorias
+	public BulkOperationResultDTO adjustPrices(PriceAdjustmentDTO adjustment) {
+
+		validateCategories(adjustment.getCategoryIds());
+
+		if (adjustment.getType() == PriceAdjustmentDTO.Type.PERCENT && adjustment.getValue() <= -100) {
+			throw new ValidationException("value", "O reajuste percentual deve ser maior que -100");
+		}
+
+		// novo preço = preço * factor + delta
+		double factor = adjustment.getType() == PriceAdjustmentDTO.Type.PERCENT ? 1 + adjustment.getValue() / 100 : 1;
+		double delta = adjustment.getType() == PriceAdjustmentDTO.Type.ABSOLUTE ? adjustment.getValue() : 0;
+
+		long start = System.currentTimeMillis();
+		long affected = 0L;
+		long skipped = 0L;
+		Long lastId = 0L;
+
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+		while (true) {
+
+			Long afterId = lastId;
+
+			List<Long> ids = productRepository.findIdsByCategoriesAfter(adjustment.getCategoryIds(), afterId,
+					PageRequest.of(0, chunkSize));
+
+			if (ids.isEmpty()) {
+				break;
+			}
+
+			int updated = transactionTemplate.execute(status -> {
+
+				// Só os produtos alterados vão para índices, caches e registro de
+				// alterações; os ignorados continuam como estavam
+				List<Long> changed = productRepository.findAdjustableIds(ids, factor, delta);
+
+				if (changed.isEmpty()) {
+					return 0;
+				}
+
+				int count = productRepository.adjustPrices(changed, factor, delta, Instant.now());
+
+				publishChanges(changed, Set.of());
+
+				return count;
+			});
+
+			affected += updated;
+			skipped += ids.size() - updated;
+			lastId = ids.get(ids.size() - 1);
+
+			if (ids.size() < chunkSize) {
+				break;
+			}
+		}
+
+		long elapsed = System.currentTimeMillis() - start;
+
+		logger.info("Reajuste de preços: " + affected + " produtos alterados em " + elapsed + " ms");
+
+		return new BulkOperationResultDTO(affected, skipped, elapsed);
+	}
+
+	// 2026-10-18 - Exclusão de vários produtos. Ids inexistentes entram como ignorados
+	public BulkOperationResultDTO deleteProducts(ProductBulkDeleteDTO request) {
+
+		// Sem repetidos e em ordem, para os blocos travarem as linhas sempre na mesma ordem
+		List<Long> ids = request.getIds().stream().filter(Objects::nonNull).distinct().sorted()
+				.collect(Collectors.toList());
+
+		long start = System.currentTimeMillis();
+
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+		long affected;
+
+		try {
+			affected = transactionTemplate.execute(status -> {
+
+				long deleted = 0L;
+
+				for (int from = 0; from < ids.size(); from += chunkSize) {
+
+					List<Long> existing = productRepository
+							.findExistingIds(ids.subList(from, Math.min(from + chunkSize, ids.size())));
+
+					if (existing.isEmpty()) {
+						continue;
+					}
+
+					productRepository.deleteCategoryLinks(existing);
+					deleted += productRepository.deleteByIds(existing);
+
+					existing.forEach(id -> eventPublisher.publishEvent(ProductChangedEvent.delete(id)));
+				}
+
+				return deleted;
+			});
+		} catch (DataIntegrityViolationException e) {
+			throw new DatabaseException(e.getMessage());
+		}
+
+		long elapsed = System.currentTimeMillis() - start;
+
+		logger.info("Exclusão em lote: " + affected + " produtos excluídos em " + elapsed + " ms");
+
+		return new BulkOperationResultDTO(affected, ids.size() - affected, elapsed);
+	}
+
+	// 2026-10-18 - Move todos os produtos de uma categoria para outra. Depois
+	// disso a categoria de origem pode ser excluída sem DatabaseException
+	public BulkOperationResultDTO reassignCategory(CategoryReassignmentDTO request) {
+
+		Long fromCategoryId = request.getFromCategoryId();
+		Long toCategoryId = request.getToCategoryId();
+
+		validateCategories(List.of(fromCategoryId, toCategoryId));
+
+		if (fromCategoryId.equals(toCategoryId)) {
+			throw new ValidationException("toCategoryId", "A categoria de destino deve ser diferente da origem");
+		}
+
+		long start = System.currentTimeMillis();
+
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+		long affected = transactionTemplate.execute(status -> {
+
+			long moved = 0L;
+			Long lastId = 0L;
+
+			while (true) {
+
+				List<Long> ids = productRepository.findIdsByCategoriesAfter(List.of(fromCategoryId), lastId,
+						PageRequest.of(0, chunkSize));
+
+				if (ids.isEmpty()) {
+					break;
+				}
+
+				productRepository.linkCategory(ids, fromCategoryId, toCategoryId);
+				productRepository.unlinkCategory(ids, fromCategoryId);
+				productRepository.touch(ids, Instant.now());
+
+				publishChanges(ids, Set.of(fromCategoryId));
+
+				moved += ids.size();
+				lastId = ids.get(ids.size() - 1);
+
+				if (ids.size() < chunkSize) {
+					break;
+				}
+			}
+
+			return moved;
+		});
+
+		long elapsed = System.currentTimeMillis() - start;
+
+		logger.info("Troca de categoria " + fromCategoryId + " -> " + toCategoryId + ": " + affected
+				+ " produtos em " + elapsed + " ms");
+
+		return new BulkOperationResultDTO(affected, 0L, elapsed);
+	}
+
+	// Índices em memória e caches recebem o estado novo após o commit.
+	// 2026-10-18 - Lido direto em DTO, em uma consulta por bloco, sem carregar
+	// as entidades no contexto de persistência
+	private void publishChanges(List<Long> ids, Set<Long> previousCategoryIds) {
+		for (ProductDTO product : productRepository.findProductDTOsByIds(ids)) {
+			eventPublisher.publishEvent(ProductChangedEvent.upsert(product, previousCategoryIds));
+		}
+	}
+
+	private void validateCategories(List<Long> categoryIds) {
+		for (Long categoryId : categoryIds) {
+			if (categoryId == null || !categorySnapshot.contains(categoryId)) {
+				throw new ValidationException("categoryIds", "Categoria " + categoryId + " não encontrada");
+			}
+		}
+	}
+
+}
@@ -1,37 +1,105 @@
 package com.devsuperior.dscatalog.services;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import javax.persistence.EntityNotFoundException;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.devsuperior.dscatalog.dto.CategoryDTO;
+import com.devsuperior.dscatalog.dto.CategoryFacetDTO;
+import com.devsuperior.dscatalog.dto.CursorPageDTO;
 import com.devsuperior.dscatalog.dto.ProductDTO;
 import com.devsuperior.dscatalog.entities.Category;
 import com.devsuperior.dscatalog.entities.Product;
 import com.devsuperior.dscatalog.repositories.CategoryRepository;
 import com.devsuperior.dscatalog.repositories.ProductRepository;
+import com.devsuperior.dscatalog.repositories.ProductRepositoryCustom;
+import com.devsuperior.dscatalog.services.cache.CategorySnapshot;
+import com.devsuperior.dscatalog.services.cache.ProductCache;
+import com.devsuperior.dscatalog.services.cache.ProductSearchCache;
+import com.devsuperior.dscatalog.services.etag.EntityTags;
+import com.devsuperior.dscatalog.services.events.ProductChangedEvent;
 import com.devsuperior.dscatalog.services.exceptions.DatabaseException;
 import com.devsuperior.dscatalog.services.exceptions.ResourceNotFoundException;
+import com.devsuperior.dscatalog.services.exceptions.ValidationException;
+import com.devsuperior.dscatalog.services.pagination.ApproximateCounter;
+import com.devsuperior.dscatalog.services.pagination.ApproximatePage;
+import com.devsuperior.dscatalog.services.pagination.KeysetCursor;
+import com.devsuperior.dscatalog.services.patch.MergePatcher;
+import com.devsuperior.dscatalog.services.search.CategoryBitmapIndex;
+import com.devsuperior.dscatalog.services.search.CompactBitmap;
+import com.devsuperior.dscatalog.services.search.ProductSearchIndex;
+import com.devsuperior.dscatalog.services.search.ProductSuggestIndex;
+import com.devsuperior.dscatalog.services.search.SearchNormalizer;
+import com.fasterxml.jackson.databind.JsonNode;
 
 @Service
 public class ProductService {
 
+	// Campos aceitos como chave da paginação por cursor
+	private static final Set<String> KEYSET_PROPERTIES = Set.of("id", "name");
+
 	@Autowired
 	private ProductRepository productRepository;
 
 	@Autowired
 	private CategoryRepository categoryRepository;
 
+	@Autowired
+	private ProductSearchIndex productSearchIndex;
+
+	@Autowired
+	private CategoryBitmapIndex categoryBitmapIndex;
+
+	@Autowired
+	private ProductSuggestIndex productSuggestIndex;
+
+	@Autowired
+	private ApproximateCounter approximateCounter;
+
+	@Autowired
+	private ProductCache productCache;
+
+	@Autowired
+	private CategorySnapshot categorySnapshot;
+
+	@Autowired
+	private ProductSearchCache productSearchCache;
+
+	@Autowired
+	private MergePatcher mergePatcher;
+
+	// Publica as escritas em Product para os índices em memória
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	// Transação aberta só quando o cache não responde (readOnly)
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
 	// 2022-02-01 - Refatoração da paginação utilizando um objeto pageable
 	// @Transactional(readOnly = true)
 	// public Page<ProductDTO> findAllPaged(PageRequest pageRequest) {
@@ -46,8 +114,29 @@ public class ProductService {
 
 	// 2022-02-01 - Refatoração da paginação utilizando um objeto pageable
 	// 2022-02-26 - Inclusão da categoria no filtro
-	@Transactional(readOnly = true)
+	// 2026-10-18 - Páginas guardadas em cache; consultas iguais e simultâneas
+	// compartilham uma única ida ao banco. A transação é aberta só pela consulta:
+	// acertos no cache e quem espera a consulta de outra requisição não ocupam conexão
 	public Page<ProductDTO> findAllPaged(Pageable pageable, Long categoryId, String name) {
+		return productSearchCache.get(categoryId, name, pageable,
+				() -> readOnly(() -> loadPage(pageable, categoryId, name)));
+	}
+
+	private Page<ProductDTO> loadPage(Pageable pageable, Long categoryId, String name) {
+
+		// 2026-10-18 - Busca por nome respondida pelo índice invertido em memória
+		// O banco só é consultado para hidratar os produtos da página
+		// 2026-10-18 - Filtro por categoria respondido pelo índice de bitmaps,
+		// sem o JOIN com tb_product_category e o DISTINCT
+		if (productSearchIndex.canAnswer(pageable) && canFilterInMemory(categoryId, name)) {
+			return findAllPagedFromIndex(pageable, categoryId, name);
+		}
+
+		// 2026-10-18 - Listagem montada direto em DTO em uma única consulta
+		// (página + total + categorias, sem ds_product e sem entidades gerenciadas)
+		if (pageable.isPaged() && ProductRepositoryCustom.isListingSortSupported(pageable.getSort())) {
+			return productRepository.findProductListing(pageable, categoryId, SearchNormalizer.normalize(name));
+		}
 
 		List<Category> categories;
 		
@@ -62,7 +151,8 @@ public class ProductService {
 			categories = Arrays.asList(categoryRepository.getById(categoryId));
 		}
 		
-		Page<Product> page = productRepository.findProductCategory(pageable, categories, name);
+		// 2026-10-18 - Busca pela chave normalizada: sem acentos e sem LOWER em cada linha
+		Page<Product> page = productRepository.findProductCategory(pageable, categories, SearchNormalizer.normalize(name));
 		
 		//Faz a chamada 'seca' dos produtos com categorias para ficar em memória
 		//Utiliza o método page.getContent() para converter a Page em List ao passar como parâmetro
@@ -74,18 +164,239 @@ public class ProductService {
 		return pageDto;
 	}
 
+	// 2026-10-18 - Listagem sem COUNT para rolagem infinita (count=none)
+	@Transactional(readOnly = true)
+	public Slice<ProductDTO> findAllSliced(Pageable pageable, Long categoryId, String name) {
+
+		// O índice em memória calcula o total sem custo extra
+		if (productSearchIndex.canAnswer(pageable) && canFilterInMemory(categoryId, name)) {
+			Page<ProductDTO> page = findAllPagedFromIndex(pageable, categoryId, name);
+			return new SliceImpl<>(page.getContent(), pageable, page.hasNext());
+		}
+
+		String searchName = SearchNormalizer.normalize(name);
+
+		if (pageable.isPaged() && ProductRepositoryCustom.isListingSortSupported(pageable.getSort())) {
+			return productRepository.findProductListingSlice(pageable, categoryId, searchName);
+		}
+
+		List<Category> categories = categoryId == 0 ? null : Arrays.asList(categoryRepository.getById(categoryId));
+
+		Slice<Product> slice = productRepository.findProductCategorySliced(pageable, categories, searchName);
+
+		if (slice.hasContent()) {
+			productRepository.findProductsWithCategories(slice.getContent());
+		}
+
+		return slice.map(product -> new ProductDTO(product, product.getCategories()));
+	}
+
+	// 2026-10-18 - Listagem com total aproximado (count=approx): estatística da
+	// tabela sem filtro ou COUNT guardado por alguns segundos por filtro
+	@Transactional(readOnly = true)
+	public Page<ProductDTO> findAllApproximate(Pageable pageable, Long categoryId, String name) {
+
+		if (productSearchIndex.canAnswer(pageable) && canFilterInMemory(categoryId, name)) {
+			Page<ProductDTO> page = findAllPagedFromIndex(pageable, categoryId, name);
+			return ApproximatePage.exact(page.getContent(), pageable, page.getTotalElements());
+		}
+
+		Slice<ProductDTO> slice = findAllSliced(pageable, categoryId, name);
+		long estimate = 0L;
+
+		// Na última página o total sai do próprio Slice
+		if (!ApproximatePage.isExact(slice)) {
+			String searchName = SearchNormalizer.normalize(name);
+			String filterKey = categoryId == 0 && searchName.isEmpty() ? "" : categoryId + "|" + searchName;
+
+			estimate = approximateCounter.count("tb_product", filterKey,
+					() -> productRepository.countProductListing(categoryId, searchName));
+		}
+
+		return ApproximatePage.of(slice, estimate);
+	}
+
+	// 2026-10-18 - Quantidade de produtos por categoria no resultado da consulta
+	@Transactional(readOnly = true)
+	public List<CategoryFacetDTO> findCategoryFacets(Long categoryId, String name) {
+
+		if (productSearchIndex.isReady() && canFilterInMemory(categoryId, name)) {
+			return categoryBitmapIndex.facets(matchInMemory(categoryId, name));
+		}
+
+		List<Category> categories = categoryId == 0 ? null : Arrays.asList(categoryRepository.getById(categoryId));
+
+		return productRepository.countProductsByCategory(categories, SearchNormalizer.normalize(name)).stream()
+				.map(row -> new CategoryFacetDTO((Long) row[0], (Long) row[1])).collect(Collectors.toList());
+	}
+
+	// 2026-10-18 - Autocomplete de nomes, respondido somente pela trie em memória
+	public List<String> suggest(String prefix, Integer limit) {
+		return productSuggestIndex.suggest(prefix, limit);
+	}
+
+	// Nome para o filtro de trecho ou somente filtro de categoria. O índice
+	// responde o mesmo que o LIKE do banco, exceto para os curingas do LIKE
+	// ('%', '_' e o escape '\'), que continuam indo para o banco.
+	private boolean canFilterInMemory(Long categoryId, String name) {
+
+		String searchName = SearchNormalizer.normalize(name);
+
+		if (searchName.isEmpty()) {
+			return categoryId != 0;
+		}
+
+		return searchName.indexOf('%') < 0 && searchName.indexOf('_') < 0 && searchName.indexOf('\\') < 0;
+	}
+
+	private CompactBitmap matchInMemory(Long categoryId, String name) {
+
+		CompactBitmap candidates = productSearchIndex.match(name);
+
+		// Sem filtro de categoria os produtos sem categoria continuam de fora,
+		// como no INNER JOIN do findProductCategory
+		if (categoryId != 0) {
+			candidates = categoryBitmapIndex.filter(candidates, List.of(categoryId));
+		} else {
+			candidates = categoryBitmapIndex.excludeUncategorized(candidates);
+		}
+
+		return candidates;
+	}
+
+	private Page<ProductDTO> findAllPagedFromIndex(Pageable pageable, Long categoryId, String name) {
+
+		ProductSearchIndex.SearchResult result = productSearchIndex.page(matchInMemory(categoryId, name), pageable);
+
+		List<ProductDTO> content = new ArrayList<>();
+
+		if (!result.getIds().isEmpty()) {
+
+			Map<Long, Product> products = productRepository.findProductsWithCategoriesByIds(result.getIds()).stream()
+					.collect(Collectors.toMap(Product::getId, Function.identity()));
+
+			// Mantém a ordem devolvida pelo índice
+			for (Long id : result.getIds()) {
+				Product product = products.get(id);
+
+				if (product != null) {
+					content.add(new ProductDTO(product, product.getCategories()));
+				}
+			}
+		}
+
+		return new PageImpl<>(content, pageable, result.getTotal());
+	}
+
+	// 2026-10-18 - Paginação por cursor (keyset). Sem filtro por nome, o custo
+	// de qualquer página é o mesmo da primeira, pois não há OFFSET nem COUNT e o
+	// índice da ordenação leva direto ao cursor. Com nome, o LIKE '%nome%'
+	// percorre as linhas até completar a página: o custo cresce com a
+	// quantidade de produtos que não casam com o filtro
 	@Transactional(readOnly = true)
+	public CursorPageDTO<ProductDTO> findAllByCursor(String after, Pageable pageable, Long categoryId, String name) {
+
+		KeysetCursor cursor = KeysetCursor.of(after, pageable.getSort(), KEYSET_PROPERTIES);
+
+		List<Category> categories = categoryId == 0 ? null : Arrays.asList(categoryRepository.getById(categoryId));
+
+		// Busca um registro a mais para saber se existe próxima página
+		Pageable limit = PageRequest.of(0, pageable.getPageSize() + 1);
+
+		String searchName = SearchNormalizer.normalize(name);
+
+		List<Product> products;
+
+		if (cursor.getProperty().equals("name")) {
+			products = productRepository.findProductCategoryAfterName(categories, searchName, cursor.getValue(),
+					cursor.getId(), limit);
+		} else {
+			products = productRepository.findProductCategoryAfterId(categories, searchName, cursor.getId(), limit);
+		}
+
+		boolean hasNext = products.size() > pageable.getPageSize();
+
+		if (hasNext) {
+			products = products.subList(0, pageable.getPageSize());
+		}
+
+		if (!products.isEmpty()) {
+			productRepository.findProductsWithCategories(products);
+		}
+
+		List<ProductDTO> content = products.stream().map(product -> new ProductDTO(product, product.getCategories()))
+				.collect(Collectors.toList());
+
+		String nextCursor = null;
+
+		if (hasNext) {
+			Product last = products.get(products.size() - 1);
+			String lastValue = cursor.getProperty().equals("name") ? last.getName() : "";
+			nextCursor = new KeysetCursor(cursor.getProperty(), lastValue, last.getId()).encode();
+		}
+
+		return new CursorPageDTO<>(content, pageable.getPageSize(), nextCursor);
+	}
+
+	// 2026-10-18 - Detalhe do produto lido do cache; o banco só é consultado na falta.
+	// Sem @Transactional: o acerto no cache não ocupa conexão do pool
 	public ProductDTO findById(Long id) {
 
-		Optional<Product> objOptional = productRepository.findById(id);
+		ProductDTO cached = productCache.get(id);
+
+		if (cached != null) {
+			return cached;
+		}
+
+		long generation = productCache.generation();
+
+		ProductDTO dto = readOnly(() -> {
 
-		if (!objOptional.isPresent()) {
+			Optional<Product> objOptional = productRepository.findById(id);
+
+			if (!objOptional.isPresent()) {
+				throw new ResourceNotFoundException("Produto " + id + " não encontrado");
+			}
+
+			Product entity = objOptional.get();
+
+			return new ProductDTO(entity, entity.getCategories());
+		});
+
+		productCache.put(dto, generation);
+
+		return dto;
+	}
+
+	// 2026-10-18 - ETag do detalhe para o If-None-Match, sem montar o produto:
+	// vem do cache ou de uma consulta que lê somente as versões
+	public String findETag(Long id) {
+
+		ProductDTO cached = productCache.get(id);
+
+		if (cached != null) {
+			return EntityTags.product(cached);
+		}
+
+		List<Object[]> versions = readOnly(() -> productRepository.findVersions(id));
+
+		if (versions.isEmpty()) {
 			throw new ResourceNotFoundException("Produto " + id + " não encontrado");
 		}
 
-		Product entity = objOptional.get();
+		Object[] row = versions.get(0);
+
+		return EntityTags.product(id, (Long) row[0], ((Number) row[1]).longValue(), ((Number) row[2]).longValue());
+	}
+
+	// Equivalente ao @Transactional(readOnly = true) para os métodos que só
+	// abrem transação na falta do cache
+	private <T> T readOnly(Supplier<T> action) {
 
-		return new ProductDTO(entity, entity.getCategories());
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setReadOnly(true);
+
+		return transactionTemplate.execute(status -> action.get());
 	}
 
 	@Transactional
@@ -97,7 +408,11 @@ public class ProductService {
 
 		entity = productRepository.save(entity);
 
-		return new ProductDTO(entity, entity.getCategories());
+		ProductDTO dto = toDto(entity);
+
+		eventPublisher.publishEvent(ProductChangedEvent.upsert(dto));
+
+		return dto;
 	}
 
 	@Transactional
@@ -107,21 +422,90 @@ public class ProductService {
 
 			Product entity = productRepository.getById(id);
 
+			// Categorias antes da alteração, para invalidar as listagens delas
+			Set<Long> previousCategoryIds = entity.getCategories().stream().map(Category::getId)
+					.collect(Collectors.toSet());
+
 			copyDtoToEntity(entity, updatedProductDTO);
 
 			entity = productRepository.save(entity);
 
-			return new ProductDTO(entity, entity.getCategories());
+			// O flush incrementa a versão antes de montar o DTO (ETag)
+			productRepository.flush();
+
+			ProductDTO dto = toDto(entity);
+
+			eventPublisher.publishEvent(ProductChangedEvent.upsert(dto, previousCategoryIds));
+
+			return dto;
+
+		} catch (EntityNotFoundException e) {
+			throw new ResourceNotFoundException("Produto " + id + " não encontrado");
+		}
+	}
+
+	// 2026-10-18 - Alteração parcial (JSON Merge Patch). Só os campos enviados
+	// são copiados para a entidade e, com o @DynamicUpdate, o UPDATE leva só
+	// as colunas alteradas. tb_product_category só é tocada se "categories" vier
+	@Transactional
+	public ProductDTO patch(Long id, JsonNode patch) {
+
+		try {
+
+			Product entity = productRepository.getById(id);
+
+			Set<Long> previousCategoryIds = entity.getCategories().stream().map(Category::getId)
+					.collect(Collectors.toSet());
+
+			// DTO novo, sem os objetos compartilhados dos caches
+			ProductDTO merged = new ProductDTO(entity);
+			previousCategoryIds.forEach(categoryId -> merged.getCategories().add(new CategoryDTO(categoryId, null)));
+
+			mergePatcher.apply(patch, merged);
+
+			if (patch.has("name")) {
+				entity.setName(merged.getName());
+			}
+			if (patch.has("description")) {
+				entity.setDescription(merged.getDescription());
+			}
+			if (patch.has("price")) {
+				entity.setPrice(merged.getPrice());
+			}
+			if (patch.has("imgUrl")) {
+				entity.setImgUrl(merged.getImgUrl());
+			}
+			if (patch.has("moment")) {
+				entity.setMoment(merged.getMoment());
+			}
+			if (patch.has("categories")) {
+				copyCategories(entity, merged.getCategories() == null ? List.of() : merged.getCategories());
+			}
+
+			// O flush incrementa a versão antes de montar o DTO (ETag)
+			productRepository.flush();
+
+			ProductDTO dto = toDto(entity);
+
+			eventPublisher.publishEvent(ProductChangedEvent.upsert(dto, previousCategoryIds));
+
+			return dto;
 
 		} catch (EntityNotFoundException e) {
 			throw new ResourceNotFoundException("Produto " + id + " não encontrado");
 		}
 	}
 
+	// 2026-10-18 - Transacional: a lápide do registro de alterações
+	// (ProductChangeLog) é gravada no commit da própria exclusão. O flush
+	// dentro do try mantém a violação de integridade tratada aqui
+	@Transactional
 	public void delete(Long id) {
 
 		try {
 			productRepository.deleteById(id);
+			productRepository.flush();
+			eventPublisher.publishEvent(ProductChangedEvent.delete(id));
 		} catch (EmptyResultDataAccessException e) {
 			throw new ResourceNotFoundException("Produto " + id + " não encontrado");
 		} catch (DataIntegrityViolationException e) {
@@ -129,6 +513,20 @@ public class ProductService {
 		}
 	}
 
+	// 2026-10-18 - Nomes das categorias vindos da cópia em memória: as categorias
+	// da entidade são referências (getById) e não são carregadas do banco
+	private ProductDTO toDto(Product entity) {
+
+		ProductDTO dto = new ProductDTO(entity);
+
+		for (Category category : entity.getCategories()) {
+			CategoryDTO categoryDto = categorySnapshot.findById(category.getId());
+			dto.getCategories().add(categoryDto != null ? categoryDto : new CategoryDTO(category));
+		}
+
+		return dto;
+	}
+
 	private void copyDtoToEntity(Product entity, ProductDTO productDTO) {
 
 		// Incluido o setId para funcionar o método save com o Mockito.
@@ -141,15 +539,43 @@ public class ProductService {
 		entity.setImgUrl(productDTO.getImgUrl());
 		entity.setMoment(productDTO.getMoment());
 
-		// Limpa lista de categorias da entidade antes de incluir
-		// as categorias da lista do DTO
-		entity.getCategories().clear();
+		copyCategories(entity, productDTO.getCategories());
+	}
+
+	private void copyCategories(Product entity, List<CategoryDTO> categories) {
+
+		// 2026-10-18 - Ids conferidos na cópia em memória antes de qualquer escrita
+		Set<Long> categoryIds = new LinkedHashSet<>();
+
+		for (CategoryDTO catDto : categories) {
+
+			if (catDto == null || catDto.getId() == null || !categorySnapshot.contains(catDto.getId())) {
+				throw new ValidationException("categories",
+						"Categoria " + (catDto == null ? null : catDto.getId()) + " não encontrada");
+			}
+
+			categoryIds.add(catDto.getId());
+		}
+
+		// 2026-10-18 - Somente a diferença: o Hibernate apaga e inclui apenas as
+		// linhas alteradas de tb_product_category, em vez de limpar a lista
+		// (DELETE de todas) e incluir tudo de novo
+		entity.getCategories().removeIf(category -> !categoryIds.contains(category.getId()));
+
+		for (Category category : entity.getCategories()) {
+			categoryIds.remove(category.getId());
+		}
+
+		// As categorias novas vêm em uma única consulta
+		if (!categoryIds.isEmpty()) {
+
+			List<Category> added = categoryRepository.findAllById(categoryIds);
+
+			if (added.size() != categoryIds.size()) {
+				throw new ValidationException("categories", "Categorias não encontradas: " + categoryIds);
+			}
 
-		// Percorre a lista de categorias do DTO e inclui cada elemento
-		// na lista da entidade Categoria que foi instanciada.
-		for (CategoryDTO catDto : productDTO.getCategories()) {
-			Category category = categoryRepository.getById(catDto.getId());
-			entity.getCategories().add(category);
+			entity.getCategories().addAll(added);
 		}
 
 	}
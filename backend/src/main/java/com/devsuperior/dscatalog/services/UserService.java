@@ -1,6 +1,10 @@
 package com.devsuperior.dscatalog.services;
 
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javax.persistence.EntityNotFoundException;
 
@@ -10,14 +14,18 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.devsuperior.dscatalog.dto.CursorPageDTO;
 import com.devsuperior.dscatalog.dto.RoleDTO;
 import com.devsuperior.dscatalog.dto.UserDTO;
 import com.devsuperior.dscatalog.dto.UserInsertDTO;
@@ -28,22 +36,38 @@ import com.devsuperior.dscatalog.repositories.RoleRepository;
 import com.devsuperior.dscatalog.repositories.UserRepository;
 import com.devsuperior.dscatalog.services.exceptions.DatabaseException;
 import com.devsuperior.dscatalog.services.exceptions.ResourceNotFoundException;
+import com.devsuperior.dscatalog.services.exceptions.ValidationException;
+import com.devsuperior.dscatalog.services.pagination.ApproximateCounter;
+import com.devsuperior.dscatalog.services.pagination.ApproximatePage;
+import com.devsuperior.dscatalog.services.pagination.KeysetCursor;
+import com.devsuperior.dscatalog.services.patch.MergePatcher;
+import com.fasterxml.jackson.databind.JsonNode;
 
 @Service
-public class UserService implements UserDetailsService {
+public class UserService implements UserDetailsService, UserDetailsPasswordService {
 
 	private static Logger logger = LoggerFactory.getLogger(UserService.class);
 
+	// Campos aceitos como chave da paginação por cursor
+	private static final Set<String> KEYSET_PROPERTIES = Set.of("id", "email");
+
 	@Autowired
 	private UserRepository userRepository;
 
 	@Autowired
 	private RoleRepository roleRepository;
 
+	@Autowired
+	private ApproximateCounter approximateCounter;
+
 	// Injetar o BCryptPasswordEncoder que foi definido como
 	// Bean no pacote config
+	// 2026-10-18 - BCrypt executado no pool limitado (BoundedPasswordEncoder)
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
 	@Autowired
-	private BCryptPasswordEncoder passwordEncoder;
+	private MergePatcher mergePatcher;
 
 	@Transactional(readOnly = true)
 	public Page<UserDTO> findAllPaged(Pageable pageable) {
@@ -56,6 +80,64 @@ public class UserService implements UserDetailsService {
 
 	}
 
+	// 2026-10-18 - Listagem sem COUNT para rolagem infinita (count=none)
+	@Transactional(readOnly = true)
+	public Slice<UserDTO> findAllSliced(Pageable pageable) {
+
+		Slice<User> sliceUserEntity = userRepository.findAllBy(pageable);
+
+		return sliceUserEntity.map(elementUserEntity -> new UserDTO(elementUserEntity));
+	}
+
+	// 2026-10-18 - Listagem com total aproximado (count=approx)
+	@Transactional(readOnly = true)
+	public Page<UserDTO> findAllApproximate(Pageable pageable) {
+
+		Slice<UserDTO> sliceUserDTO = findAllSliced(pageable);
+
+		// Na última página o total sai do próprio Slice
+		long estimate = ApproximatePage.isExact(sliceUserDTO) ? 0L
+				: approximateCounter.count("tb_user", "", () -> userRepository.count());
+
+		return ApproximatePage.of(sliceUserDTO, estimate);
+	}
+
+	// 2026-10-18 - Paginação por cursor (keyset), sem OFFSET e sem COUNT
+	@Transactional(readOnly = true)
+	public CursorPageDTO<UserDTO> findAllByCursor(String after, Pageable pageable) {
+
+		KeysetCursor cursor = KeysetCursor.of(after, pageable.getSort(), KEYSET_PROPERTIES);
+
+		// Busca um registro a mais para saber se existe próxima página
+		Pageable limit = PageRequest.of(0, pageable.getPageSize() + 1);
+
+		List<User> users;
+
+		if (cursor.getProperty().equals("email")) {
+			users = userRepository.findAllAfterEmail(cursor.getValue(), cursor.getId(), limit);
+		} else {
+			users = userRepository.findAllAfterId(cursor.getId(), limit);
+		}
+
+		boolean hasNext = users.size() > pageable.getPageSize();
+
+		if (hasNext) {
+			users = users.subList(0, pageable.getPageSize());
+		}
+
+		List<UserDTO> content = users.stream().map(user -> new UserDTO(user)).collect(Collectors.toList());
+
+		String nextCursor = null;
+
+		if (hasNext) {
+			User last = users.get(users.size() - 1);
+			String lastValue = cursor.getProperty().equals("email") ? last.getEmail() : "";
+			nextCursor = new KeysetCursor(cursor.getProperty(), lastValue, last.getId()).encode();
+		}
+
+		return new CursorPageDTO<>(content, pageable.getPageSize(), nextCursor);
+	}
+
 	@Transactional(readOnly = true)
 	public UserDTO findById(Long id) {
 
@@ -100,6 +182,43 @@ public class UserService implements UserDetailsService {
 
 	}
 
+	// 2026-10-18 - Alteração parcial (JSON Merge Patch). Só os campos enviados
+	// vão para a entidade; tb_user_role só é tocada se "rolesDTO" vier
+	@Transactional
+	public UserDTO patch(Long id, JsonNode patch) {
+
+		try {
+			User entity = userRepository.getById(id);
+
+			// rolesDTO começa vazio: o Jackson acrescenta ao Set existente,
+			// então ele fica só com os perfis enviados no patch
+			UserUpdateDTO merged = new UserUpdateDTO();
+			merged.setId(entity.getId());
+			merged.setFirstName(entity.getFirstName());
+			merged.setLastName(entity.getLastName());
+			merged.setEmail(entity.getEmail());
+
+			mergePatcher.apply(patch, merged);
+
+			if (patch.has("firstName")) {
+				entity.setFirstName(merged.getFirstName());
+			}
+			if (patch.has("lastName")) {
+				entity.setLastName(merged.getLastName());
+			}
+			if (patch.has("email")) {
+				entity.setEmail(merged.getEmail());
+			}
+			if (patch.has("rolesDTO")) {
+				copyRoles(entity, merged.getRolesDTO());
+			}
+
+			return new UserDTO(entity);
+		} catch (EntityNotFoundException e) {
+			throw new ResourceNotFoundException("User " + id + " não encontrado");
+		}
+	}
+
 	public void delete(Long id) {
 		try {
 
@@ -119,15 +238,37 @@ public class UserService implements UserDetailsService {
 		entity.setLastName(dto.getLastName());
 		entity.setEmail(dto.getEmail());
 
-		// Limpa a lista de roles da entidade
-		entity.getRoles().clear();
+		copyRoles(entity, dto.getRolesDTO());
+	}
+
+	// 2026-10-18 - Somente a diferença entre os perfis atuais e os informados:
+	// as linhas de tb_user_role que não mudaram não são apagadas e reinseridas
+	private void copyRoles(User entity, Set<RoleDTO> rolesDTO) {
 
-		// Ler cada Role do DTO e adicionar no Set do Role Entidade
-		for (RoleDTO roleDTO : dto.getRolesDTO()) {
-			Role role = roleRepository.getById(roleDTO.getId());
-			entity.getRoles().add(role);
+		Set<Long> roleIds = new HashSet<>();
+
+		for (RoleDTO roleDTO : rolesDTO) {
+			if (roleDTO != null && roleDTO.getId() != null) {
+				roleIds.add(roleDTO.getId());
+			}
 		}
 
+		entity.getRoles().removeIf(role -> !roleIds.contains(role.getId()));
+
+		for (Role role : entity.getRoles()) {
+			roleIds.remove(role.getId());
+		}
+
+		if (!roleIds.isEmpty()) {
+
+			List<Role> added = roleRepository.findAllById(roleIds);
+
+			if (added.size() != roleIds.size()) {
+				throw new ValidationException("rolesDTO", "Perfis não encontrados: " + roleIds);
+			}
+
+			entity.getRoles().addAll(added);
+		}
 	}
 
 	// Implementa método obrigatório para pesquisar se usuário existe através do
@@ -147,4 +288,23 @@ public class UserService implements UserDetailsService {
 		return user;
 	}
 
+	// 2026-10-18 - Chamado pelo Spring Security após um login com sucesso
+	// quando o hash gravado tem custo menor que o configurado: a senha já
+	// chega refeita com o custo atual e é gravada em um único UPDATE
+	@Override
+	@Transactional
+	public UserDetails updatePassword(UserDetails user, String newPassword) {
+
+		userRepository.updatePassword(user.getUsername(), newPassword);
+
+		logger.info("Senha regravada com o custo atual do BCrypt para o e-mail: " + user.getUsername());
+
+		if (user instanceof User) {
+			((User) user).setPassword(newPassword);
+			return user;
+		}
+
+		return loadUserByUsername(user.getUsername());
+	}
+
 }
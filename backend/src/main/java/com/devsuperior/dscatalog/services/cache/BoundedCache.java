@@ -0,0 +1,141 @@
+package com.devsuperior.dscatalog.services.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Cache em memória limitado por quantidade (LRU) e por tempo de vida (TTL).
+// Conta acertos, faltas e remoções para as métricas catalog.cache.*.
+//
+// Cada invalidação incrementa a geração do cache. Quem carregou o valor
+// do banco informa a geração lida antes da consulta no put: se houve
+// invalidação no meio, o valor pode estar velho e não é guardado.
+public class BoundedCache<K, V> {
+
+	private final String name;
+	private final int maxSize;
+	private final long ttlMillis;
+
+	// accessOrder = true: o primeiro elemento é o menos usado recentemente
+	private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private final AtomicLong generation = new AtomicLong();
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong evictions = new AtomicLong();
+
+	public BoundedCache(String name, int maxSize, long ttlMillis) {
+		this.name = name;
+		this.maxSize = maxSize;
+		this.ttlMillis = ttlMillis;
+	}
+
+	public synchronized V get(K key) {
+
+		Entry<V> entry = entries.get(key);
+
+		if (entry == null) {
+			misses.incrementAndGet();
+			return null;
+		}
+
+		if (entry.expiresAt <= System.currentTimeMillis()) {
+			entries.remove(key);
+			evictions.incrementAndGet();
+			misses.incrementAndGet();
+			return null;
+		}
+
+		hits.incrementAndGet();
+		return entry.value;
+	}
+
+	// Geração atual, a ser lida antes de buscar o valor no banco
+	public long generation() {
+		return generation.get();
+	}
+
+	public synchronized void put(K key, V value, long loadedAtGeneration) {
+
+		if (loadedAtGeneration != generation.get()) {
+			return;
+		}
+
+		entries.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+
+		if (entries.size() > maxSize) {
+			Iterator<Entry<V>> eldest = entries.values().iterator();
+			eldest.next();
+			eldest.remove();
+			evictions.incrementAndGet();
+		}
+	}
+
+	public synchronized void invalidate(K key) {
+		generation.incrementAndGet();
+		entries.remove(key);
+	}
+
+	public synchronized void invalidateAll(Iterable<K> keys) {
+		generation.incrementAndGet();
+		for (K key : keys) {
+			entries.remove(key);
+		}
+	}
+
+	public synchronized void invalidateAll() {
+		generation.incrementAndGet();
+		entries.clear();
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	public long getHits() {
+		return hits.get();
+	}
+
+	public long getMisses() {
+		return misses.get();
+	}
+
+	public long getEvictions() {
+		return evictions.get();
+	}
+
+	// Publica as métricas com a tag cache=<nome>
+	public void bindTo(MeterRegistry registry) {
+
+		FunctionCounter.builder("catalog.cache.hits", this, BoundedCache::getHits).tag("cache", name)
+				.description("Leituras atendidas pelo cache").register(registry);
+
+		FunctionCounter.builder("catalog.cache.misses", this, BoundedCache::getMisses).tag("cache", name)
+				.description("Leituras que foram ao banco").register(registry);
+
+		FunctionCounter.builder("catalog.cache.evictions", this, BoundedCache::getEvictions).tag("cache", name)
+				.description("Entradas removidas por tamanho ou TTL").register(registry);
+
+		Gauge.builder("catalog.cache.size", this, BoundedCache::size).tag("cache", name)
+				.description("Entradas no cache").register(registry);
+	}
+
+	private static class Entry<V> {
+
+		private final V value;
+		private final long expiresAt;
+
+		Entry(V value, long expiresAt) {
+			this.value = value;
+			this.expiresAt = expiresAt;
+		}
+
+	}
+
+}
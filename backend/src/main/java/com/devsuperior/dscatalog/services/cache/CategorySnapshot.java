@@ -0,0 +1,196 @@
+package com.devsuperior.dscatalog.services.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.devsuperior.dscatalog.dto.CategoryDTO;
+import com.devsuperior.dscatalog.entities.Category;
+import com.devsuperior.dscatalog.repositories.CategoryRepository;
+import com.devsuperior.dscatalog.services.events.CategoryChangedEvent;
+
+// Cópia imutável de tb_category em memória (id -> CategoryDTO e lista por id).
+// É carregada do banco no primeiro acesso e, depois disso, cada escrita
+// confirmada gera uma nova cópia (copy-on-write) trocada atomicamente.
+// Os CategoryDTO são compartilhados e não devem ser alterados por quem lê.
+// 2026-10-18 - Os eventos só trazem as escritas desta instância: depois de
+// catalog.cache.category.ttl-seconds a cópia é lida de novo do banco para
+// enxergar as escritas das outras. Uma única requisição recarrega, as demais
+// seguem com a cópia anterior até a troca.
+@Component
+public class CategorySnapshot {
+
+	private static Logger logger = LoggerFactory.getLogger(CategorySnapshot.class);
+
+	// Campos de ordenação atendidos em memória
+	private static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "name");
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Value("${catalog.cache.category.ttl-seconds:30}")
+	private Long ttlSeconds;
+
+	private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+	// Já existe uma requisição recarregando a cópia vencida
+	private final AtomicBoolean refreshing = new AtomicBoolean();
+
+	public CategoryDTO findById(Long id) {
+		return current().byId.get(id);
+	}
+
+	public boolean contains(Long id) {
+		return current().byId.containsKey(id);
+	}
+
+	public static boolean isSortSupported(Sort sort) {
+		for (Sort.Order order : sort) {
+			if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// Todas as categorias na ordem pedida (por id quando não há ordenação)
+	public List<CategoryDTO> findAll(Sort sort) {
+
+		List<CategoryDTO> ordered = current().ordered;
+
+		if (sort.isUnsorted()) {
+			return ordered;
+		}
+
+		List<CategoryDTO> sorted = new ArrayList<>(ordered);
+		sorted.sort(comparatorFor(sort));
+
+		return sorted;
+	}
+
+	// Aplica a escrita confirmada sobre uma cópia, sem ir ao banco.
+	// synchronized com a carga inicial para não perder escritas feitas durante ela
+	@TransactionalEventListener(fallbackExecution = true)
+	public synchronized void onCategoryChanged(CategoryChangedEvent event) {
+
+		Snapshot current = snapshot.get();
+
+		// Ainda não carregado: a carga lerá o estado já confirmado
+		if (current == null) {
+			return;
+		}
+
+		Map<Long, CategoryDTO> byId = new HashMap<>(current.byId);
+
+		if (event.getType() == CategoryChangedEvent.Type.DELETE) {
+			byId.remove(event.getCategoryId());
+		} else {
+			CategoryDTO category = event.getCategory();
+			byId.put(category.getId(), new CategoryDTO(category.getId(), category.getName(), category.getVersion()));
+		}
+
+		// A escrita local não conta como leitura do banco: o prazo continua o mesmo
+		snapshot.set(new Snapshot(byId, current.loadedAt));
+	}
+
+	private Snapshot current() {
+
+		Snapshot current = snapshot.get();
+
+		if (current == null) {
+			synchronized (this) {
+				current = snapshot.get();
+
+				if (current == null) {
+					current = load();
+				}
+			}
+		} else if (System.currentTimeMillis() - current.loadedAt >= ttlSeconds * 1000
+				&& refreshing.compareAndSet(false, true)) {
+			try {
+				synchronized (this) {
+					current = load();
+				}
+			} catch (RuntimeException e) {
+				// Sem banco a cópia vencida continua servindo; outra requisição tenta de novo
+				logger.warn("Falha ao recarregar as categorias: {}", e.getMessage());
+			} finally {
+				refreshing.set(false);
+			}
+		}
+
+		return current;
+	}
+
+	// Chamado com o monitor: escritas confirmadas durante a leitura esperam e
+	// são aplicadas sobre a cópia nova
+	private Snapshot load() {
+
+		long loadedAt = System.currentTimeMillis();
+		Map<Long, CategoryDTO> byId = new HashMap<>();
+
+		for (Category category : categoryRepository.findAll()) {
+			byId.put(category.getId(), new CategoryDTO(category));
+		}
+
+		Snapshot loaded = new Snapshot(byId, loadedAt);
+		snapshot.set(loaded);
+
+		return loaded;
+	}
+
+	private static Comparator<CategoryDTO> comparatorFor(Sort sort) {
+
+		Comparator<CategoryDTO> comparator = null;
+
+		for (Sort.Order order : sort) {
+
+			Comparator<CategoryDTO> next = order.getProperty().equals("name")
+					? Comparator.comparing(CategoryDTO::getName, Comparator.nullsLast(Comparator.<String>naturalOrder()))
+					: Comparator.comparing(CategoryDTO::getId);
+
+			if (order.isDescending()) {
+				next = next.reversed();
+			}
+
+			comparator = comparator == null ? next : comparator.thenComparing(next);
+		}
+
+		return comparator.thenComparing(CategoryDTO::getId);
+	}
+
+	private static class Snapshot {
+
+		private final Map<Long, CategoryDTO> byId;
+		private final List<CategoryDTO> ordered;
+
+		// Momento da leitura do banco que originou esta cópia
+		private final long loadedAt;
+
+		Snapshot(Map<Long, CategoryDTO> byId, long loadedAt) {
+
+			List<CategoryDTO> ordered = new ArrayList<>(byId.values());
+			ordered.sort(Comparator.comparing(CategoryDTO::getId));
+
+			this.byId = Collections.unmodifiableMap(byId);
+			this.ordered = Collections.unmodifiableList(ordered);
+			this.loadedAt = loadedAt;
+		}
+
+	}
+
+}
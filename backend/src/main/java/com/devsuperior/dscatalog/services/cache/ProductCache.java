@@ -0,0 +1,88 @@
+package com.devsuperior.dscatalog.services.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.devsuperior.dscatalog.dto.ProductDTO;
+import com.devsuperior.dscatalog.services.events.CategoryChangedEvent;
+import com.devsuperior.dscatalog.services.events.ProductChangedEvent;
+import com.devsuperior.dscatalog.services.search.CategoryBitmapIndex;
+import com.devsuperior.dscatalog.services.search.ProductSearchIndex;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Cache do detalhe do produto (ProductService.findById).
+// Invalidado somente depois do commit das escritas em produtos e categorias.
+// 2026-10-18 - Guarda uma cópia e entrega outra a cada leitura: quem recebe o
+// ProductDTO pode alterá-lo sem afetar o cache nem as outras requisições.
+@Component
+public class ProductCache {
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private CategoryBitmapIndex categoryBitmapIndex;
+
+	@Autowired
+	private ProductSearchIndex productSearchIndex;
+
+	@Value("${catalog.cache.product.max-size:10000}")
+	private Integer maxSize;
+
+	@Value("${catalog.cache.product.ttl-seconds:300}")
+	private Long ttlSeconds;
+
+	private BoundedCache<Long, ProductDTO> cache;
+
+	@PostConstruct
+	public void init() {
+		cache = new BoundedCache<>("product", maxSize, ttlSeconds * 1000);
+		cache.bindTo(meterRegistry);
+	}
+
+	public ProductDTO get(Long id) {
+
+		ProductDTO cached = cache.get(id);
+
+		return cached == null ? null : new ProductDTO(cached);
+	}
+
+	// Ler antes de buscar o produto no banco e informar no put
+	public long generation() {
+		return cache.generation();
+	}
+
+	public void put(ProductDTO product, long loadedAtGeneration) {
+		cache.put(product.getId(), new ProductDTO(product), loadedAtGeneration);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductChanged(ProductChangedEvent event) {
+		cache.invalidate(event.getProductId());
+	}
+
+	// O DTO do produto traz o nome das categorias: renomear uma categoria
+	// invalida os produtos dela, localizados pelo índice de bitmaps
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onCategoryChanged(CategoryChangedEvent event) {
+
+		if (!productSearchIndex.isReady()) {
+			cache.invalidateAll();
+			return;
+		}
+
+		List<Long> productIds = new ArrayList<>();
+		categoryBitmapIndex.productIds(event.getCategoryId()).forEach(id -> productIds.add((long) id));
+
+		cache.invalidateAll(productIds);
+	}
+
+}
@@ -0,0 +1,234 @@
+package com.devsuperior.dscatalog.services.cache;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.devsuperior.dscatalog.dto.ProductDTO;
+import com.devsuperior.dscatalog.services.events.CategoryChangedEvent;
+import com.devsuperior.dscatalog.services.events.ProductChangedEvent;
+import com.devsuperior.dscatalog.services.search.SearchNormalizer;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Cache das páginas de /products, com a chave (categoria, nome normalizado,
+// página, tamanho, ordenação). Requisições iguais que chegam juntas sem
+// resultado no cache esperam a mesma consulta ao banco (single-flight).
+//
+// Cada entrada guarda as gerações lidas antes da consulta: a global e a da
+// categoria filtrada (0 = todas). Escritas incrementam só as gerações
+// afetadas, e a entrada com geração diferente da atual é descartada.
+// As páginas são compartilhadas e não devem ser alteradas por quem lê.
+//
+// 2026-10-18 - Quem espera a consulta de outra requisição desiste depois de
+// catalog.cache.search.wait-millis e consulta por conta própria: uma consulta
+// lenta ou travada não prende as demais threads do Tomcat.
+@Component
+public class ProductSearchCache {
+
+	private static final Long ALL_CATEGORIES = 0L;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Value("${catalog.cache.search.max-size:2000}")
+	private Integer maxSize;
+
+	@Value("${catalog.cache.search.ttl-seconds:60}")
+	private Long ttlSeconds;
+
+	@Value("${catalog.cache.search.wait-millis:2000}")
+	private Long waitMillis;
+
+	private BoundedCache<Key, Entry> cache;
+
+	// Consultas em andamento por chave
+	private final Map<Key, CompletableFuture<Page<ProductDTO>>> inFlight = new ConcurrentHashMap<>();
+
+	// Incrementada quando não se sabe quais listagens foram afetadas
+	private final AtomicLong globalGeneration = new AtomicLong();
+
+	private final Map<Long, AtomicLong> categoryGenerations = new ConcurrentHashMap<>();
+
+	private final AtomicLong coalesced = new AtomicLong();
+
+	@PostConstruct
+	public void init() {
+
+		cache = new BoundedCache<>("product-search", maxSize, ttlSeconds * 1000);
+		cache.bindTo(meterRegistry);
+
+		FunctionCounter.builder("catalog.cache.coalesced", coalesced, AtomicLong::get).tag("cache", "product-search")
+				.description("Leituras que aguardaram a consulta de outra requisição").register(meterRegistry);
+	}
+
+	public Page<ProductDTO> get(Long categoryId, String name, Pageable pageable, Supplier<Page<ProductDTO>> loader) {
+
+		Key key = new Key(categoryId, SearchNormalizer.normalize(name), pageable);
+
+		Entry entry = cache.get(key);
+
+		if (entry != null && isCurrent(key, entry)) {
+			return entry.page;
+		}
+
+		CompletableFuture<Page<ProductDTO>> mine = new CompletableFuture<>();
+		CompletableFuture<Page<ProductDTO>> running = inFlight.putIfAbsent(key, mine);
+
+		if (running != null) {
+			coalesced.incrementAndGet();
+
+			Page<ProductDTO> page = await(running);
+
+			return page != null ? page : load(key, loader);
+		}
+
+		try {
+			Page<ProductDTO> page = load(key, loader);
+			mine.complete(page);
+
+			return page;
+
+		} catch (RuntimeException e) {
+			mine.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, mine);
+		}
+	}
+
+	private Page<ProductDTO> load(Key key, Supplier<Page<ProductDTO>> loader) {
+
+		// Gerações lidas antes da consulta: escrita no meio torna a entrada velha
+		long global = globalGeneration.get();
+		long category = categoryGeneration(key.categoryId);
+		long generation = cache.generation();
+
+		Page<ProductDTO> page = loader.get();
+
+		cache.put(key, new Entry(page, global, category), generation);
+
+		return page;
+	}
+
+	// A inclusão ou alteração de um produto muda as listagens sem filtro e as
+	// das categorias antigas e novas dele. Na exclusão elas não são conhecidas.
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductChanged(ProductChangedEvent event) {
+
+		if (event.getAffectedCategoryIds() == null) {
+			globalGeneration.incrementAndGet();
+			return;
+		}
+
+		incrementCategoryGeneration(ALL_CATEGORIES);
+		event.getAffectedCategoryIds().forEach(this::incrementCategoryGeneration);
+	}
+
+	// Os produtos trazem o nome das categorias em qualquer listagem
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onCategoryChanged(CategoryChangedEvent event) {
+		globalGeneration.incrementAndGet();
+	}
+
+	private boolean isCurrent(Key key, Entry entry) {
+		return entry.globalGeneration == globalGeneration.get()
+				&& entry.categoryGeneration == categoryGeneration(key.categoryId);
+	}
+
+	// Só categorias que já tiveram escrita entram no mapa: ids quaisquer vindos
+	// da requisição não fazem o mapa crescer
+	private long categoryGeneration(Long categoryId) {
+		AtomicLong generation = categoryGenerations.get(categoryId);
+		return generation == null ? 0L : generation.get();
+	}
+
+	private void incrementCategoryGeneration(Long categoryId) {
+		categoryGenerations.computeIfAbsent(categoryId, id -> new AtomicLong()).incrementAndGet();
+	}
+
+	// Quem espera recebe a mesma exceção de quem consultou.
+	// Retorna null quando o tempo de espera acaba
+	private Page<ProductDTO> await(CompletableFuture<Page<ProductDTO>> running) {
+		try {
+			return running.get(waitMillis, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			return null;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	private static final class Key {
+
+		private final Long categoryId;
+		private final String name;
+		private final int page;
+		private final int size;
+		private final String sort;
+
+		Key(Long categoryId, String name, Pageable pageable) {
+			this.categoryId = categoryId;
+			this.name = name;
+			this.page = pageable.isPaged() ? pageable.getPageNumber() : -1;
+			this.size = pageable.isPaged() ? pageable.getPageSize() : -1;
+			this.sort = pageable.getSort().toString();
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(categoryId, name, page, size, sort);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return page == other.page && size == other.size && Objects.equals(categoryId, other.categoryId)
+					&& Objects.equals(name, other.name) && Objects.equals(sort, other.sort);
+		}
+
+	}
+
+	private static final class Entry {
+
+		private final Page<ProductDTO> page;
+		private final long globalGeneration;
+		private final long categoryGeneration;
+
+		Entry(Page<ProductDTO> page, long globalGeneration, long categoryGeneration) {
+			this.page = page;
+			this.globalGeneration = globalGeneration;
+			this.categoryGeneration = categoryGeneration;
+		}
+
+	}
+
+}
@@ -0,0 +1,97 @@
+package com.devsuperior.dscatalog.services.changes;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.devsuperior.dscatalog.dto.ProductChangeDTO;
+import com.devsuperior.dscatalog.dto.ProductChangeFeedDTO;
+import com.devsuperior.dscatalog.dto.ProductDTO;
+import com.devsuperior.dscatalog.entities.Product;
+import com.devsuperior.dscatalog.entities.ProductChange;
+import com.devsuperior.dscatalog.repositories.ProductChangeRepository;
+import com.devsuperior.dscatalog.repositories.ProductRepository;
+import com.devsuperior.dscatalog.services.exceptions.ValidationException;
+
+// 2026-10-18 - Feed incremental: o que mudou nos produtos depois da marca
+// d'água (id do registro de alterações), em ordem, para os jobs de
+// sincronização não baixarem o catálogo inteiro.
+@Service
+public class ProductChangeFeedService {
+
+	public static final int MAX_SIZE = 1000;
+
+	@Autowired
+	private ProductChangeRepository productChangeRepository;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Transactional(readOnly = true)
+	public ProductChangeFeedDTO findChanges(Long since, Integer size) {
+
+		if (since == null || since < 0) {
+			throw new ValidationException("since", "A marca d'água deve ser maior ou igual a zero");
+		}
+
+		if (size < 1 || size > MAX_SIZE) {
+			throw new ValidationException("size", "O tamanho deve estar entre 1 e " + MAX_SIZE);
+		}
+
+		// Lápides depois da marca d'água já foram apagadas pela limpeza: o cliente
+		// não saberia dessas exclusões e precisa sincronizar de novo desde o início
+		if (since > 0 && since < productChangeRepository.findPurgedUntil()) {
+			throw new ValidationException("since",
+					"A marca d'água é anterior às alterações mantidas. Sincronize novamente com since=0");
+		}
+
+		// Os ids saem na ordem dos commits (ProductChangeLog), então tudo o que é
+		// visível pode ser entregue: nenhum id menor que a marca d'água aparece depois
+		List<ProductChange> rows = productChangeRepository.findChangesAfter(since, PageRequest.of(0, size));
+		boolean hasMore = rows.size() == size;
+
+		Long watermark = rows.isEmpty() ? since : rows.get(rows.size() - 1).getId();
+
+		// Várias alterações do mesmo produto na página viram uma só, na posição da última
+		Map<Long, ProductChange> latest = new LinkedHashMap<>();
+
+		for (ProductChange row : rows) {
+			latest.remove(row.getProductId());
+			latest.put(row.getProductId(), row);
+		}
+
+		List<Long> upsertIds = latest.values().stream().filter(row -> row.getType() == ProductChange.Type.UPSERT)
+				.map(ProductChange::getProductId).collect(Collectors.toList());
+
+		Map<Long, ProductDTO> products = new HashMap<>();
+
+		if (!upsertIds.isEmpty()) {
+			for (Product product : productRepository.findProductsWithCategoriesByIds(upsertIds)) {
+				products.put(product.getId(), new ProductDTO(product, product.getCategories()));
+			}
+		}
+
+		List<ProductChangeDTO> changes = new ArrayList<>(latest.size());
+
+		for (ProductChange row : latest.values()) {
+
+			ProductDTO product = products.get(row.getProductId());
+
+			// Produto alterado e excluído depois: sai como lápide, o estado atual
+			ProductChange.Type type = product == null ? ProductChange.Type.DELETE : row.getType();
+
+			changes.add(new ProductChangeDTO(row.getId(), row.getProductId(), type, row.getChangedAt(), product));
+		}
+
+		return new ProductChangeFeedDTO(changes, watermark, hasMore);
+	}
+
+}
@@ -0,0 +1,118 @@
+package com.devsuperior.dscatalog.services.changes;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.devsuperior.dscatalog.entities.ProductChange;
+import com.devsuperior.dscatalog.repositories.ProductChangeRepository;
+import com.devsuperior.dscatalog.services.events.CategoryChangedEvent;
+import com.devsuperior.dscatalog.services.events.ProductChangedEvent;
+
+// 2026-10-18 - Grava o registro de alterações (tb_product_change) a partir
+// dos mesmos eventos que atualizam índices e caches. Diferente daqueles
+// consumidores, escuta com @EventListener: a gravação precisa estar na
+// transação da escrita, para o registro não perder nem inventar alterações.
+//
+// As alterações de uma transação são acumuladas e gravadas em um único lote
+// JDBC logo antes do commit. Assim importações e operações em lote não fazem
+// um INSERT por produto, e changed_at fica bem perto do commit.
+//
+// A gravação bloqueia a linha de controle (tb_product_change_control) até o
+// commit. Com isso uma transação só pega ids depois que a anterior confirmou,
+// e o feed pode entregar tudo o que já é visível: não há id menor que ainda
+// vá aparecer. O trecho serializado entre as escritas é só o INSERT e o commit.
+@Component
+public class ProductChangeLog {
+
+	@Autowired
+	private ProductChangeRepository productChangeRepository;
+
+	@EventListener
+	public void onProductChanged(ProductChangedEvent event) {
+
+		ProductChange.Type type = event.getType() == ProductChangedEvent.Type.DELETE ? ProductChange.Type.DELETE
+				: ProductChange.Type.UPSERT;
+
+		record(pending -> pending.products.add(new ProductChange(null, event.getProductId(), type, null)));
+	}
+
+	// O JSON do produto traz o nome das categorias. Categoria excluída não
+	// tem produtos (a exclusão falha se tiver), então só o UPSERT interessa
+	@EventListener
+	public void onCategoryChanged(CategoryChangedEvent event) {
+
+		if (event.getType() == CategoryChangedEvent.Type.UPSERT) {
+			record(pending -> pending.categoryIds.add(event.getCategoryId()));
+		}
+	}
+
+	// Acumula na transação atual. Na primeira alteração registra a gravação
+	// antes do commit. Evento publicado fora de transação é erro de quem
+	// publicou: a escrita já teria sido confirmada sem a alteração no registro
+	private void record(Consumer<Pending> change) {
+
+		if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+			throw new IllegalStateException("Alteração de produto publicada fora de transação");
+		}
+
+		Pending pending = (Pending) TransactionSynchronizationManager.getResource(this);
+
+		if (pending == null) {
+			pending = new Pending();
+			TransactionSynchronizationManager.bindResource(this, pending);
+			TransactionSynchronizationManager.registerSynchronization(pending);
+		}
+
+		change.accept(pending);
+	}
+
+	private void write(Pending pending) {
+
+		// As alterações das entidades vão ao banco antes do bloqueio. Assim quem
+		// segura a linha de controle não espera por linhas de outra transação
+		// (que poderia estar esperando a linha de controle)
+		productChangeRepository.flush();
+
+		if (productChangeRepository.lockForWrite() == 0) {
+			throw new IllegalStateException(
+					"Linha de controle do registro de alterações ausente (db/05_product_change.sql)");
+		}
+
+		Instant now = Instant.now();
+
+		pending.products.forEach(change -> change.setChangedAt(now));
+		productChangeRepository.insertChanges(pending.products);
+
+		if (!pending.categoryIds.isEmpty()) {
+			productChangeRepository.insertCategoryChanges(pending.categoryIds, now);
+		}
+	}
+
+	private class Pending implements TransactionSynchronization {
+
+		private final List<ProductChange> products = new ArrayList<>();
+		private final Set<Long> categoryIds = new LinkedHashSet<>();
+
+		@Override
+		public void beforeCommit(boolean readOnly) {
+			write(this);
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+			TransactionSynchronizationManager.unbindResourceIfPossible(ProductChangeLog.this);
+		}
+
+	}
+
+}
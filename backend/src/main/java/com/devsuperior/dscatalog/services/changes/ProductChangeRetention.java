@@ -0,0 +1,53 @@
+package com.devsuperior.dscatalog.services.changes;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.devsuperior.dscatalog.repositories.ProductChangeRepository;
+
+// 2026-10-18 - Limpeza periódica do registro de alterações (tb_product_change).
+// Passado o prazo de retenção, apaga as lápides e as alterações que já têm outra
+// mais nova do mesmo produto. A última alteração de cada produto existente fica:
+// a tabela cresce com o catálogo e não com a quantidade de escritas.
+@Component
+public class ProductChangeRetention {
+
+	private static Logger logger = LoggerFactory.getLogger(ProductChangeRetention.class);
+
+	@Autowired
+	private ProductChangeRepository productChangeRepository;
+
+	// Quem sincroniza precisa chamar o feed dentro desse prazo para não perder exclusões
+	@Value("${catalog.changes.retention-days:30}")
+	private Long retentionDays;
+
+	@Scheduled(cron = "${catalog.changes.purge-cron:0 30 3 * * *}")
+	@Transactional
+	public int purge() {
+
+		Instant before = Instant.now().minus(retentionDays, ChronoUnit.DAYS);
+
+		Long lastTombstone = productChangeRepository.findLastTombstoneBefore(before);
+		int deleted = productChangeRepository.deleteObsoleteBefore(before);
+
+		// Marcas d'água anteriores à última lápide apagada passam a ser recusadas
+		// pelo feed. A linha de controle é atualizada por último: as escritas
+		// esperam por ela só durante o commit da limpeza
+		if (lastTombstone != null) {
+			productChangeRepository.updatePurgedUntil(lastTombstone);
+		}
+
+		logger.info("Limpeza do registro de alterações: " + deleted + " linhas anteriores a " + before);
+
+		return deleted;
+	}
+
+}
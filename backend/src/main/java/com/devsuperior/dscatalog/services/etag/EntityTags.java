@@ -0,0 +1,74 @@
+package com.devsuperior.dscatalog.services.etag;
+
+import java.util.function.Function;
+
+import org.springframework.data.domain.Page;
+
+import com.devsuperior.dscatalog.dto.CategoryDTO;
+import com.devsuperior.dscatalog.dto.ProductDTO;
+
+// ETags das respostas, montados a partir das versões (@Version) das entidades.
+// O detalhe tem ETag forte: muda a cada alteração do registro.
+// O ETag do produto inclui as categorias, pois o JSON traz o nome delas:
+// trocar as categorias incrementa a versão do produto e renomear uma
+// categoria incrementa a versão dela (soma das versões).
+// As listagens têm ETag fraco, calculado sobre os itens da página.
+public final class EntityTags {
+
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private EntityTags() {
+	}
+
+	public static String product(ProductDTO product) {
+
+		long categoryVersions = 0L;
+
+		for (CategoryDTO category : product.getCategories()) {
+			categoryVersions += versionOf(category.getVersion());
+		}
+
+		return product(product.getId(), product.getVersion(), product.getCategories().size(), categoryVersions);
+	}
+
+	// Mesmo ETag, a partir dos números lidos pela consulta de versões
+	public static String product(Long id, Long version, long categoryCount, long categoryVersions) {
+		return "\"p" + id + "-" + versionOf(version) + "-" + categoryCount + "-" + categoryVersions + "\"";
+	}
+
+	public static String category(CategoryDTO category) {
+		return "\"c" + category.getId() + "-" + versionOf(category.getVersion()) + "\"";
+	}
+
+	// Resumo (FNV-1a 64 bits) da posição da página, do total e do ETag de cada item
+	public static <T> String collection(Page<T> page, Function<T, String> itemTag) {
+
+		long hash = FNV_OFFSET;
+
+		hash = mix(hash, page.getNumber() + ":" + page.getSize() + ":" + page.getTotalElements());
+
+		for (T item : page.getContent()) {
+			hash = mix(hash, itemTag.apply(item));
+		}
+
+		return "W/\"" + Long.toHexString(hash) + "\"";
+	}
+
+	private static long mix(long hash, String value) {
+
+		for (int i = 0; i < value.length(); i++) {
+			hash ^= value.charAt(i);
+			hash *= FNV_PRIME;
+		}
+
+		// Separador entre os valores
+		hash ^= '|';
+		return hash * FNV_PRIME;
+	}
+
+	private static long versionOf(Long version) {
+		return version == null ? 0L : version;
+	}
+
+}
@@ -0,0 +1,45 @@
+package com.devsuperior.dscatalog.services.events;
+
+import com.devsuperior.dscatalog.dto.CategoryDTO;
+
+// Evento publicado pelo CategoryService a cada escrita em Category.
+// Assim como o ProductChangedEvent, deve ser consumido após o commit.
+public class CategoryChangedEvent {
+
+	public enum Type {
+		UPSERT, DELETE
+	}
+
+	private final Long categoryId;
+	private final Type type;
+
+	// Estado da categoria após a escrita. Nulo quando o tipo for DELETE
+	private final CategoryDTO category;
+
+	private CategoryChangedEvent(Long categoryId, Type type, CategoryDTO category) {
+		this.categoryId = categoryId;
+		this.type = type;
+		this.category = category;
+	}
+
+	public static CategoryChangedEvent upsert(CategoryDTO category) {
+		return new CategoryChangedEvent(category.getId(), Type.UPSERT, category);
+	}
+
+	public static CategoryChangedEvent delete(Long categoryId) {
+		return new CategoryChangedEvent(categoryId, Type.DELETE, null);
+	}
+
+	public Long getCategoryId() {
+		return categoryId;
+	}
+
+	public Type getType() {
+		return type;
+	}
+
+	public CategoryDTO getCategory() {
+		return category;
+	}
+
+}
@@ -0,0 +1,65 @@
+package com.devsuperior.dscatalog.services.events;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import com.devsuperior.dscatalog.dto.ProductDTO;
+
+// Evento publicado pelo ProductService a cada escrita em Product.
+// Os consumidores (índices em memória, caches) devem escutar com
+// @TransactionalEventListener para reagir somente após o commit.
+public class ProductChangedEvent {
+
+	public enum Type {
+		UPSERT, DELETE
+	}
+
+	private final Long productId;
+	private final Type type;
+
+	// Estado do produto após a escrita. Nulo quando o tipo for DELETE
+	private final ProductDTO product;
+
+	// Categorias antigas e novas do produto. Nulo quando não se sabe (DELETE)
+	private final Set<Long> affectedCategoryIds;
+
+	private ProductChangedEvent(Long productId, Type type, ProductDTO product, Set<Long> affectedCategoryIds) {
+		this.productId = productId;
+		this.type = type;
+		this.product = product;
+		this.affectedCategoryIds = affectedCategoryIds;
+	}
+
+	public static ProductChangedEvent upsert(ProductDTO product) {
+		return upsert(product, Set.of());
+	}
+
+	public static ProductChangedEvent upsert(ProductDTO product, Set<Long> previousCategoryIds) {
+
+		Set<Long> affected = new HashSet<>(previousCategoryIds);
+		product.getCategories().forEach(category -> affected.add(category.getId()));
+
+		return new ProductChangedEvent(product.getId(), Type.UPSERT, product, affected);
+	}
+
+	public static ProductChangedEvent delete(Long productId) {
+		return new ProductChangedEvent(productId, Type.DELETE, null, null);
+	}
+
+	public Long getProductId() {
+		return productId;
+	}
+
+	public Type getType() {
+		return type;
+	}
+
+	public ProductDTO getProduct() {
+		return product;
+	}
+
+	public Set<Long> getAffectedCategoryIds() {
+		return affectedCategoryIds;
+	}
+
+}
@@ -0,0 +1,13 @@
+package com.devsuperior.dscatalog.services.exceptions;
+
+// 2026-10-18 - Recurso limitado sem capacidade no momento (ex.: fila do hash
+// de senhas cheia). Respondida com 503 e Retry-After: o cliente tenta de novo
+public class ServiceBusyException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public ServiceBusyException(String msg) {
+		super(msg);
+	}
+
+}
@@ -0,0 +1,13 @@
+package com.devsuperior.dscatalog.services.exceptions;
+
+// 2026-10-18 - Cliente acima do próprio limite (ex.: conexões no stream de
+// alterações). Respondida com 429 e Retry-After
+public class TooManyRequestsException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public TooManyRequestsException(String msg) {
+		super(msg);
+	}
+
+}
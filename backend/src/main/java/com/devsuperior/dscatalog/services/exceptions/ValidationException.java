@@ -0,0 +1,28 @@
+package com.devsuperior.dscatalog.services.exceptions;
+
+import java.util.List;
+
+import com.devsuperior.dscatalog.controllers.exceptions.FieldMessage;
+
+// Erro de validação detectado no Service (ex.: categoria inexistente),
+// devolvido como 422 no mesmo formato do Bean Validation
+public class ValidationException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final List<FieldMessage> errors;
+
+	public ValidationException(String fieldName, String msg) {
+		this(List.of(new FieldMessage(fieldName, msg)));
+	}
+
+	public ValidationException(List<FieldMessage> errors) {
+		super(errors.get(0).getMessage());
+		this.errors = errors;
+	}
+
+	public List<FieldMessage> getErrors() {
+		return errors;
+	}
+
+}
@@ -0,0 +1,80 @@
+package com.devsuperior.dscatalog.services.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.devsuperior.dscatalog.dto.ProductDTO;
+import com.devsuperior.dscatalog.repositories.ProductRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+// 2026-10-18 - Exportação do catálogo completo em NDJSON (um produto JSON
+// por linha), para os sistemas que hoje percorrem /products em páginas grandes.
+// Os produtos vão do cursor do banco direto para a resposta, um por vez:
+// a memória usada não depende do tamanho do catálogo e não há COUNT.
+@Service
+public class ProductExportService {
+
+	private static Logger logger = LoggerFactory.getLogger(ProductExportService.class);
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	// Linhas trazidas do banco por ida ao cursor
+	@Value("${catalog.export.fetch-size:500}")
+	private Integer fetchSize;
+
+	public void exportNdjson(OutputStream output) throws IOException {
+
+		// Sem flush por produto: a saída é descarregada quando o buffer enche
+		ObjectWriter writer = objectMapper.writerFor(ProductDTO.class)
+				.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+		long start = System.currentTimeMillis();
+		long[] count = { 0L };
+
+		// O generator não fecha a resposta: quem fecha é o controller
+		try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)
+				.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+
+			// Transação somente leitura: no PostgreSQL o cursor só usa o
+			// fetch size com autocommit desligado
+			TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+			transactionTemplate.setReadOnly(true);
+
+			transactionTemplate.executeWithoutResult(status -> productRepository.streamProducts(fetchSize, product -> {
+				try {
+					writer.writeValue(generator, product);
+					generator.writeRaw('\n');
+					count[0]++;
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}));
+
+		} catch (UncheckedIOException e) {
+			// Cliente desconectou ou a escrita falhou: o cursor já foi fechado
+			throw e.getCause();
+		}
+
+		logger.info("Exportação de produtos: " + count[0] + " produtos em " + (System.currentTimeMillis() - start)
+				+ " ms");
+	}
+
+}
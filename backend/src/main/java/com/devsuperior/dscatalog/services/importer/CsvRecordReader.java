@@ -0,0 +1,116 @@
+package com.devsuperior.dscatalog.services.importer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+// Leitor de CSV (RFC 4180) registro a registro, sem carregar o arquivo.
+// Aceita campos entre aspas com vírgula, aspas duplicadas ("") e quebra de
+// linha dentro deles. Linhas em branco são ignoradas.
+public class CsvRecordReader {
+
+	private final Reader reader;
+
+	private long line = 1;
+	private long recordLine;
+	private int pending = -2;
+
+	public CsvRecordReader(Reader reader) {
+		this.reader = reader;
+	}
+
+	// Próximo registro ou nulo no fim do arquivo
+	public List<String> next() throws IOException {
+
+		List<String> fields = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+		boolean afterQuote = false;
+		boolean empty = true;
+
+		recordLine = line;
+
+		int c;
+		while ((c = read()) != -1) {
+
+			if (quoted) {
+				if (c == '"') {
+					if (peek() == '"') {
+						read();
+						field.append('"');
+					} else {
+						quoted = false;
+						afterQuote = true;
+					}
+				} else {
+					if (c == '\n') {
+						line++;
+					}
+					field.append((char) c);
+				}
+				continue;
+			}
+
+			if (c == '"' && field.length() == 0 && !afterQuote) {
+				quoted = true;
+				empty = false;
+			} else if (c == ',') {
+				fields.add(field.toString());
+				field.setLength(0);
+				afterQuote = false;
+				empty = false;
+			} else if (c == '\r' || c == '\n') {
+
+				if (c == '\r' && peek() == '\n') {
+					read();
+				}
+				line++;
+
+				if (empty && field.length() == 0) {
+					recordLine = line;
+					continue;
+				}
+
+				fields.add(field.toString());
+				return fields;
+			} else {
+				field.append((char) c);
+				empty = false;
+			}
+		}
+
+		if (empty && field.length() == 0) {
+			return null;
+		}
+
+		fields.add(field.toString());
+		return fields;
+	}
+
+	// Linha do arquivo onde começou o último registro lido
+	public long getRecordLine() {
+		return recordLine;
+	}
+
+	private int read() throws IOException {
+
+		if (pending != -2) {
+			int c = pending;
+			pending = -2;
+			return c;
+		}
+
+		return reader.read();
+	}
+
+	private int peek() throws IOException {
+
+		if (pending == -2) {
+			pending = reader.read();
+		}
+
+		return pending;
+	}
+
+}
@@ -0,0 +1,337 @@
+package com.devsuperior.dscatalog.services.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.devsuperior.dscatalog.dto.CategoryDTO;
+import com.devsuperior.dscatalog.dto.ImportRowErrorDTO;
+import com.devsuperior.dscatalog.dto.ProductDTO;
+import com.devsuperior.dscatalog.dto.ProductImportReportDTO;
+import com.devsuperior.dscatalog.repositories.ProductRepository;
+import com.devsuperior.dscatalog.services.cache.CategorySnapshot;
+import com.devsuperior.dscatalog.services.events.ProductChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+// 2026-10-18 - Importação de produtos em lote a partir de NDJSON (um produto
+// JSON por linha) ou CSV, lidos do corpo da requisição como fluxo.
+// Cada linha é validada com as mesmas regras do POST /products e as
+// categorias são conferidas na cópia em memória. As linhas válidas são
+// gravadas em lotes via JDBC batch, cada lote em sua própria transação:
+// a memória usada depende do tamanho do lote e não do arquivo.
+@Service
+public class ProductImportService {
+
+	private static Logger logger = LoggerFactory.getLogger(ProductImportService.class);
+
+	// Colunas do CSV. A primeira linha do arquivo é o cabeçalho e as
+	// categorias vêm separadas por ponto e vírgula (ex.: "1;3")
+	private static final List<String> CSV_COLUMNS = List.of("name", "description", "price", "imgUrl", "moment",
+			"categories");
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private CategorySnapshot categorySnapshot;
+
+	@Autowired
+	private Validator validator;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Value("${catalog.import.batch-size:1000}")
+	private Integer batchSize;
+
+	// Quantidade máxima de erros detalhados no relatório
+	@Value("${catalog.import.max-errors:1000}")
+	private Integer maxErrors;
+
+	public ProductImportReportDTO importNdjson(InputStream input) {
+
+		ObjectReader reader = objectMapper.readerFor(ProductDTO.class);
+		Import job = new Import();
+
+		try (BufferedReader lines = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+
+			String line;
+			long lineNumber = 0;
+
+			while ((line = lines.readLine()) != null) {
+
+				lineNumber++;
+
+				if (line.isBlank()) {
+					continue;
+				}
+
+				try {
+					job.accept(lineNumber, reader.readValue(line));
+				} catch (JsonProcessingException e) {
+					job.fail(lineNumber, "JSON inválido: " + e.getOriginalMessage());
+				}
+			}
+
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		return job.finish();
+	}
+
+	public ProductImportReportDTO importCsv(InputStream input) {
+
+		Import job = new Import();
+
+		try (BufferedReader lines = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+
+			CsvRecordReader csv = new CsvRecordReader(lines);
+			List<String> header = csv.next();
+
+			if (header == null) {
+				return job.finish();
+			}
+
+			Map<String, Integer> columns = new HashMap<>();
+			for (int i = 0; i < header.size(); i++) {
+				columns.put(header.get(i).trim().toLowerCase(), i);
+			}
+
+			List<String> record;
+
+			while ((record = csv.next()) != null) {
+				try {
+					job.accept(csv.getRecordLine(), toProduct(record, columns));
+				} catch (IllegalArgumentException | DateTimeParseException e) {
+					job.fail(csv.getRecordLine(), e.getMessage());
+				}
+			}
+
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		return job.finish();
+	}
+
+	private ProductDTO toProduct(List<String> record, Map<String, Integer> columns) {
+
+		Map<String, String> values = new HashMap<>();
+
+		for (String column : CSV_COLUMNS) {
+			Integer index = columns.get(column.toLowerCase());
+			String value = index == null || index >= record.size() ? "" : record.get(index).trim();
+			values.put(column, value);
+		}
+
+		ProductDTO product = new ProductDTO();
+		product.setName(emptyToNull(values.get("name")));
+		product.setDescription(emptyToNull(values.get("description")));
+		product.setImgUrl(emptyToNull(values.get("imgUrl")));
+
+		if (!values.get("price").isEmpty()) {
+			try {
+				product.setPrice(Double.valueOf(values.get("price")));
+			} catch (NumberFormatException e) {
+				throw new IllegalArgumentException("Preço inválido: " + values.get("price"));
+			}
+		}
+
+		if (!values.get("moment").isEmpty()) {
+			product.setMoment(Instant.parse(values.get("moment")));
+		}
+
+		for (String id : values.get("categories").split(";")) {
+			if (!id.isBlank()) {
+				try {
+					product.getCategories().add(new CategoryDTO(Long.valueOf(id.trim()), null));
+				} catch (NumberFormatException e) {
+					throw new IllegalArgumentException("Categoria inválida: " + id);
+				}
+			}
+		}
+
+		return product;
+	}
+
+	private static String emptyToNull(String value) {
+		return value.isEmpty() ? null : value;
+	}
+
+	// Estado de uma importação: lote atual e contagens
+	private class Import {
+
+		private final ProductImportReportDTO report = new ProductImportReportDTO();
+		private final List<ProductDTO> batch = new ArrayList<>(batchSize);
+		private final List<Long> batchRows = new ArrayList<>(batchSize);
+		private final long start = System.currentTimeMillis();
+
+		void accept(long row, ProductDTO product) {
+
+			report.setRows(report.getRows() + 1);
+
+			String error = validate(product);
+
+			if (error != null) {
+				reject(row, error);
+				return;
+			}
+
+			batch.add(product);
+			batchRows.add(row);
+
+			if (batch.size() >= batchSize) {
+				flush();
+			}
+		}
+
+		// Linha que não pôde nem ser convertida em produto
+		void fail(long row, String message) {
+			report.setRows(report.getRows() + 1);
+			reject(row, message);
+		}
+
+		private void reject(long row, String message) {
+
+			report.setRejected(report.getRejected() + 1);
+
+			if (report.getErrors().size() < maxErrors) {
+				report.getErrors().add(new ImportRowErrorDTO(row, message));
+			} else {
+				report.setErrorsTruncated(true);
+			}
+		}
+
+		ProductImportReportDTO finish() {
+
+			flush();
+
+			long elapsed = System.currentTimeMillis() - start;
+
+			report.setElapsedMillis(elapsed);
+			report.setRowsPerSecond(report.getRows() * 1000 / Math.max(elapsed, 1));
+
+			logger.info("Importação de produtos: {} gravados, {} rejeitados em {} ms", report.getImported(),
+					report.getRejected(), elapsed);
+
+			return report;
+		}
+
+		// Grava o lote em uma transação. Se o banco recusar o lote, as linhas
+		// dele são gravadas de novo uma a uma para rejeitar só as que falham
+		private void flush() {
+
+			if (batch.isEmpty()) {
+				return;
+			}
+
+			try {
+				insert(batch);
+				report.setImported(report.getImported() + batch.size());
+
+			} catch (RuntimeException e) {
+				logger.warn("Lote da importação de produtos recusado pelo banco, gravando linha a linha: {}",
+						NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+
+				retryRowByRow();
+			}
+
+			batch.clear();
+			batchRows.clear();
+		}
+
+		// 2026-10-18 - Caminho de exceção: uma transação por linha só quando o lote falhou
+		private void retryRowByRow() {
+
+			for (int i = 0; i < batch.size(); i++) {
+
+				ProductDTO product = batch.get(i);
+
+				try {
+					insert(List.of(product));
+					report.setImported(report.getImported() + 1);
+
+				} catch (RuntimeException e) {
+					product.setId(null);
+					reject(batchRows.get(i),
+							"Recusado pelo banco: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+				}
+			}
+		}
+
+		private void insert(List<ProductDTO> products) {
+
+			new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+
+				productRepository.insertProducts(products);
+
+				// Índices e caches recebem os produtos após o commit do lote
+				products.forEach(product -> eventPublisher.publishEvent(ProductChangedEvent.upsert(product)));
+			});
+		}
+
+		private String validate(ProductDTO product) {
+
+			Set<ConstraintViolation<ProductDTO>> violations = validator.validate(product);
+
+			if (!violations.isEmpty()) {
+				ConstraintViolation<ProductDTO> violation = violations.iterator().next();
+				return violation.getPropertyPath() + ": " + violation.getMessage();
+			}
+
+			// Categorias resolvidas na cópia em memória, sem consulta por linha.
+			// O nome vem da cópia para os índices e caches
+			Map<Long, CategoryDTO> categories = new LinkedHashMap<>();
+
+			for (CategoryDTO informed : product.getCategories()) {
+
+				CategoryDTO category = categorySnapshot.findById(informed.getId());
+
+				if (category == null) {
+					return "categories: categoria " + informed.getId() + " não encontrada";
+				}
+
+				categories.put(category.getId(), category);
+			}
+
+			product.setCategories(new ArrayList<>(categories.values()));
+
+			return null;
+		}
+
+	}
+
+}
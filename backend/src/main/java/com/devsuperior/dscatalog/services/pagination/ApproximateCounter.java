@@ -0,0 +1,124 @@
+package com.devsuperior.dscatalog.services.pagination;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// Totais aproximados para as listagens com count=approx.
+// Sem filtro, no PostgreSQL, usa a estatística da tabela (pg_class.reltuples),
+// que não lê nenhuma linha. Nos demais casos faz o COUNT exato uma vez e
+// reaproveita o valor por alguns segundos para o mesmo filtro.
+@Component
+public class ApproximateCounter {
+
+	// Limite de filtros guardados, acima disso os vencidos são descartados
+	private static final int MAX_ENTRIES = 1000;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Value("${catalog.count-cache.ttl-seconds:30}")
+	private Long ttlSeconds;
+
+	private final Map<String, CachedCount> cache = new ConcurrentHashMap<>();
+
+	private volatile Boolean postgres;
+
+	// table: tabela principal da listagem; filterKey: identifica o filtro
+	// (vazio quando não há filtro); exactCount: COUNT exato da listagem
+	public long count(String table, String filterKey, LongSupplier exactCount) {
+
+		if (filterKey.isEmpty() && isPostgres()) {
+
+			long estimate = tableStatistics(table);
+
+			// -1 indica tabela ainda não analisada pelo ANALYZE/autovacuum
+			if (estimate >= 0) {
+				return estimate;
+			}
+		}
+
+		String key = table + "|" + filterKey;
+		long now = System.currentTimeMillis();
+		CachedCount cached = cache.get(key);
+
+		if (cached != null && cached.expiresAt > now) {
+			return cached.total;
+		}
+
+		long total = exactCount.getAsLong();
+
+		if (cache.size() >= MAX_ENTRIES) {
+			evictExpired(now);
+		}
+
+		cache.put(key, new CachedCount(total, now + ttlSeconds * 1000));
+
+		return total;
+	}
+
+	private long tableStatistics(String table) {
+
+		Object result = entityManager
+				.createNativeQuery("SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE relname = :table")
+				.setParameter("table", table).getResultList().stream().findFirst().orElse(null);
+
+		return result == null ? -1 : ((Number) result).longValue();
+	}
+
+	private boolean isPostgres() {
+
+		if (postgres == null) {
+			try (Connection connection = dataSource.getConnection()) {
+				postgres = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgres");
+			} catch (SQLException e) {
+				return false;
+			}
+		}
+
+		return postgres;
+	}
+
+	private void evictExpired(long now) {
+
+		Iterator<CachedCount> iterator = cache.values().iterator();
+
+		while (iterator.hasNext()) {
+			if (iterator.next().expiresAt <= now) {
+				iterator.remove();
+			}
+		}
+
+		// Muitos filtros distintos dentro do TTL: recomeça do zero
+		if (cache.size() >= MAX_ENTRIES) {
+			cache.clear();
+		}
+	}
+
+	private static class CachedCount {
+
+		private final long total;
+		private final long expiresAt;
+
+		CachedCount(long total, long expiresAt) {
+			this.total = total;
+			this.expiresAt = expiresAt;
+		}
+
+	}
+
+}
@@ -0,0 +1,63 @@
+package com.devsuperior.dscatalog.services.pagination;
+
+import java.util.List;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+// Page com o mesmo JSON do PageImpl mais o campo "approximate".
+// Quando true, totalElements e totalPages são estimativas.
+public class ApproximatePage<T> extends PageImpl<T> {
+
+	private static final long serialVersionUID = 1L;
+
+	private final boolean approximate;
+
+	private ApproximatePage(List<T> content, Pageable pageable, long total, boolean approximate) {
+		super(content, pageable, total);
+		this.approximate = approximate;
+	}
+
+	// Combina o Slice (conteúdo sem COUNT) com um total estimado.
+	// Exato só quando isExact; com próxima página o total nunca fica abaixo do
+	// já visto e depois da última página nunca passa do offset pedido.
+	public static <T> ApproximatePage<T> of(Slice<T> slice, long estimatedTotal) {
+
+		long offset = offset(slice);
+		long seen = offset + slice.getNumberOfElements();
+
+		if (isExact(slice)) {
+			return new ApproximatePage<>(slice.getContent(), slice.getPageable(), seen, false);
+		}
+
+		if (slice.hasNext()) {
+			return new ApproximatePage<>(slice.getContent(), slice.getPageable(), Math.max(estimatedTotal, seen + 1),
+					true);
+		}
+
+		// Página vazia depois do fim: só se sabe que o total não passa do offset
+		return new ApproximatePage<>(slice.getContent(), slice.getPageable(), Math.min(estimatedTotal, offset), true);
+	}
+
+	// 2026-10-18 - O Slice traz o total exato quando chegou ao fim tendo lido
+	// alguma linha (a linha a mais do Slice confirma que não há próxima) ou
+	// quando é a primeira página. Uma página vazia depois do fim não diz quantas
+	// linhas existem, então precisa da estimativa.
+	public static boolean isExact(Slice<?> slice) {
+		return !slice.hasNext() && (slice.hasContent() || offset(slice) == 0L);
+	}
+
+	public static <T> ApproximatePage<T> exact(List<T> content, Pageable pageable, long total) {
+		return new ApproximatePage<>(content, pageable, total, false);
+	}
+
+	public boolean isApproximate() {
+		return approximate;
+	}
+
+	private static long offset(Slice<?> slice) {
+		return slice.getPageable().isPaged() ? slice.getPageable().getOffset() : 0L;
+	}
+
+}
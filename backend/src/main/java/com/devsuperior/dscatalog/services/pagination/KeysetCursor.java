@@ -0,0 +1,109 @@
+package com.devsuperior.dscatalog.services.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.springframework.data.domain.Sort;
+
+import com.devsuperior.dscatalog.services.exceptions.InvalidCursorException;
+
+// Cursor opaco da paginação keyset (seek).
+// Guarda o campo de ordenação, o valor desse campo e o id do último
+// registro entregue. A próxima página busca "depois" desse par, sem OFFSET.
+public class KeysetCursor {
+
+	private static final String SEPARATOR = "\n";
+
+	private final String property;
+	private final String value;
+	private final Long id;
+
+	public KeysetCursor(String property, String value, Long id) {
+		this.property = property;
+		this.value = value;
+		this.id = id;
+	}
+
+	// Primeira página: valor vazio e id zero ficam antes de qualquer registro
+	public static KeysetCursor first(String property) {
+		return new KeysetCursor(property, "", 0L);
+	}
+
+	// Cursor vazio inicia a navegação. Cursor preenchido define o campo de
+	// ordenação, que não pode mudar entre as páginas.
+	public static KeysetCursor of(String after, Sort sort, Set<String> allowedProperties) {
+
+		String requested = sortProperty(sort, allowedProperties);
+
+		if (after == null || after.isBlank()) {
+			return first(requested == null ? "id" : requested);
+		}
+
+		KeysetCursor cursor = decode(after);
+
+		if (!allowedProperties.contains(cursor.property) || (requested != null && !requested.equals(cursor.property))) {
+			throw new InvalidCursorException("Cursor não corresponde à ordenação " + requested);
+		}
+
+		return cursor;
+	}
+
+	public static KeysetCursor decode(String token) {
+
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			String[] parts = decoded.split(SEPARATOR, 3);
+
+			if (parts.length != 3) {
+				throw new InvalidCursorException("Cursor inválido: " + token);
+			}
+
+			return new KeysetCursor(parts[0], parts[2], Long.valueOf(parts[1]));
+
+		} catch (IllegalArgumentException e) {
+			throw new InvalidCursorException("Cursor inválido: " + token);
+		}
+	}
+
+	public String encode() {
+
+		String raw = property + SEPARATOR + id + SEPARATOR + value;
+
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	// Aceita somente uma ordenação crescente por um dos campos permitidos.
+	// Devolve null quando a requisição não informou ordenação.
+	private static String sortProperty(Sort sort, Set<String> allowedProperties) {
+
+		Iterator<Sort.Order> orders = sort.iterator();
+
+		if (!orders.hasNext()) {
+			return null;
+		}
+
+		Sort.Order order = orders.next();
+
+		if (orders.hasNext() || order.isDescending() || !allowedProperties.contains(order.getProperty())) {
+			throw new InvalidCursorException(
+					"Paginação por cursor aceita somente ordenação crescente por " + allowedProperties);
+		}
+
+		return order.getProperty();
+	}
+
+	public String getProperty() {
+		return property;
+	}
+
+	public String getValue() {
+		return value;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+}
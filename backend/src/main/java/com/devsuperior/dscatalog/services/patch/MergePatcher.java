@@ -0,0 +1,61 @@
+package com.devsuperior.dscatalog.services.patch;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.devsuperior.dscatalog.controllers.exceptions.FieldMessage;
+import com.devsuperior.dscatalog.services.exceptions.ValidationException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// 2026-10-18 - Aplica um JSON Merge Patch (RFC 7396) sobre um DTO com o
+// estado atual: campos enviados substituem os atuais, null apaga o valor e
+// listas são trocadas por inteiro. O resultado passa pelas mesmas validações
+// do PUT (Bean Validation) antes de chegar à entidade.
+@Component
+public class MergePatcher {
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private Validator validator;
+
+	// Altera e devolve o próprio target
+	public <T> T apply(JsonNode patch, T target) {
+
+		if (patch == null || !patch.isObject()) {
+			throw new ValidationException("patch", "O merge patch deve ser um objeto JSON");
+		}
+
+		try {
+			objectMapper.readerForUpdating(target).readValue(patch);
+		} catch (IOException e) {
+			throw new ValidationException("patch", "Merge patch inválido: " + e.getMessage());
+		}
+
+		Set<ConstraintViolation<T>> violations = validator.validate(target);
+
+		if (!violations.isEmpty()) {
+
+			List<FieldMessage> errors = new ArrayList<>();
+
+			for (ConstraintViolation<T> violation : violations) {
+				errors.add(new FieldMessage(violation.getPropertyPath().toString(), violation.getMessage()));
+			}
+
+			throw new ValidationException(errors);
+		}
+
+		return target;
+	}
+
+}
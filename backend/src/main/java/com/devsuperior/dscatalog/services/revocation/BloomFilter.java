@@ -0,0 +1,82 @@
+package com.devsuperior.dscatalog.services.revocation;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 2026-10-18 - Filtro de Bloom de tamanho fixo para strings. mightContain
+// nunca devolve false para um valor adicionado; pode devolver true para um
+// valor que não foi (falso positivo, na taxa informada enquanto a
+// quantidade de valores não passar da capacidade).
+// Leituras sem lock; as escritas podem ser concorrentes.
+public class BloomFilter {
+
+	private final AtomicLongArray words;
+	private final int bits;
+	private final int hashes;
+	private final int capacity;
+
+	public BloomFilter(int capacity, double falsePositiveRate) {
+
+		this.capacity = Math.max(1, capacity);
+
+		double ln2 = Math.log(2);
+		long optimalBits = (long) Math.ceil(-this.capacity * Math.log(falsePositiveRate) / (ln2 * ln2));
+
+		this.bits = (int) Math.max(64, Math.min(optimalBits, Integer.MAX_VALUE - 63));
+		this.hashes = Math.max(1, (int) Math.round((double) bits / this.capacity * ln2));
+		this.words = new AtomicLongArray((bits + 63) / 64);
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	public void add(String value) {
+
+		long hash = hash64(value);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+
+		for (int i = 0; i < hashes; i++) {
+			int bit = index(h1 + i * h2);
+			long mask = 1L << bit;
+			words.getAndAccumulate(bit >>> 6, mask, (word, m) -> word | m);
+		}
+	}
+
+	public boolean mightContain(String value) {
+
+		long hash = hash64(value);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+
+		for (int i = 0; i < hashes; i++) {
+			int bit = index(h1 + i * h2);
+			if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private int index(int combined) {
+		return (combined & Integer.MAX_VALUE) % bits;
+	}
+
+	// FNV-1a de 64 bits seguido da mistura final do SplitMix64: as duas
+	// metades servem de h1 e h2 no hashing duplo (h1 + i * h2)
+	private static long hash64(String value) {
+
+		long hash = 0xcbf29ce484222325L;
+
+		for (int i = 0; i < value.length(); i++) {
+			hash ^= value.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+
+		hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+		hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+		return hash ^ (hash >>> 31);
+	}
+
+}
@@ -0,0 +1,94 @@
+package com.devsuperior.dscatalog.services.revocation;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 2026-10-18 - Cópia em memória dos tokens revogados: conjunto exato
+// (jti -> expiração) com um filtro de Bloom na frente. Quase todos os tokens
+// consultados não estão revogados e o filtro responde isso com algumas
+// sondagens de bits, sem consultar o mapa. Só quando o filtro responde "talvez"
+// o conjunto exato decide (revogado de fato ou falso positivo).
+//
+// O filtro de Bloom não permite remover itens: ele é refeito ao retirar os
+// expirados e dobra de tamanho quando a quantidade passa da capacidade.
+// Consultas sem lock; inclusões e reconstruções são serializadas.
+public class RevocationList {
+
+	private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+	private final int initialCapacity;
+	private final double falsePositiveRate;
+
+	private final AtomicLong falsePositives = new AtomicLong();
+
+	private volatile BloomFilter filter;
+
+	public RevocationList(int initialCapacity, double falsePositiveRate) {
+		this.initialCapacity = Math.max(1, initialCapacity);
+		this.falsePositiveRate = falsePositiveRate;
+		this.filter = new BloomFilter(this.initialCapacity, falsePositiveRate);
+	}
+
+	public boolean isRevoked(String jti) {
+
+		if (!filter.mightContain(jti)) {
+			return false;
+		}
+
+		if (revoked.containsKey(jti)) {
+			return true;
+		}
+
+		falsePositives.incrementAndGet();
+		return false;
+	}
+
+	// Expiração em milissegundos (epoch)
+	public synchronized void add(String jti, long expiresAt) {
+
+		revoked.put(jti, expiresAt);
+
+		if (revoked.size() > filter.getCapacity()) {
+			rebuild(filter.getCapacity() * 2);
+		} else {
+			filter.add(jti);
+		}
+	}
+
+	// Retira os tokens já expirados (o JWT expirado é recusado de qualquer forma)
+	public synchronized int removeExpired(long now) {
+
+		int before = revoked.size();
+
+		revoked.values().removeIf(expiresAt -> expiresAt <= now);
+
+		int removed = before - revoked.size();
+
+		if (removed > 0) {
+			rebuild(Math.max(initialCapacity, revoked.size() * 2));
+		}
+
+		return removed;
+	}
+
+	public int size() {
+		return revoked.size();
+	}
+
+	public long getFalsePositives() {
+		return falsePositives.get();
+	}
+
+	// O filtro novo é montado à parte e publicado de uma vez: as consultas
+	// continuam usando o anterior enquanto isso
+	private void rebuild(int capacity) {
+
+		BloomFilter rebuilt = new BloomFilter(capacity, falsePositiveRate);
+
+		revoked.keySet().forEach(rebuilt::add);
+
+		filter = rebuilt;
+	}
+
+}
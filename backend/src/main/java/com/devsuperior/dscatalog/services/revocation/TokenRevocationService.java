@@ -0,0 +1,174 @@
+package com.devsuperior.dscatalog.services.revocation;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.devsuperior.dscatalog.entities.RevokedToken;
+import com.devsuperior.dscatalog.repositories.RevokedTokenRepository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 2026-10-18 - Lista de tokens JWT revogados, identificados pelo "jti".
+// A tabela tb_revoked_token é a fonte da verdade e cada instância mantém a
+// cópia em memória (RevocationList): a consulta feita a cada requisição não
+// acessa o banco.
+//
+// A revogação é um INSERT pelo "jti" (chave primária): entre requisições ou
+// instâncias concorrentes só uma consegue revogar o mesmo token, e revoke
+// devolve false para as outras. É o que impede duas renovações com o mesmo
+// refresh token.
+//
+// Duas tarefas periódicas (@Scheduled):
+// sync  - traz as revogações feitas por outras instâncias
+//         (catalog.revocation.sync-seconds). Entre uma sincronização e outra,
+//         um token revogado em outra instância ainda é aceito nesta;
+// purge - apaga as revogações de tokens já expirados, no banco e em memória
+//         (catalog.revocation.purge-minutes).
+@Service
+public class TokenRevocationService {
+
+	private static Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+
+	// Expiração usada para tokens sem "exp"
+	private static final Instant NEVER = Instant.parse("9999-12-31T23:59:59Z");
+
+	@Autowired
+	private RevokedTokenRepository revokedTokenRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	// Quantidade de revogações esperada; acima disso o filtro de Bloom dobra
+	@Value("${catalog.revocation.expected-tokens:100000}")
+	private Integer expectedTokens;
+
+	@Value("${catalog.revocation.false-positive-rate:0.001}")
+	private Double falsePositiveRate;
+
+	@Value("${catalog.revocation.sync-seconds:30}")
+	private Long syncSeconds;
+
+	private RevocationList revocationList;
+
+	// Início da última sincronização
+	private volatile Instant lastSync;
+
+	@PostConstruct
+	public void init() {
+
+		revocationList = new RevocationList(expectedTokens, falsePositiveRate);
+
+		lastSync = Instant.now();
+
+		for (RevokedToken revokedToken : revokedTokenRepository.findActive(lastSync)) {
+			revocationList.add(revokedToken.getId(), revokedToken.getExpiresAt().toEpochMilli());
+		}
+
+		logger.info("Tokens revogados carregados: " + revocationList.size());
+
+		Gauge.builder("catalog.revocation.size", revocationList, RevocationList::size)
+				.description("Tokens revogados ainda não expirados").register(meterRegistry);
+		FunctionCounter.builder("catalog.revocation.false-positives", revocationList,
+				RevocationList::getFalsePositives)
+				.description("Consultas em que o filtro de Bloom respondeu talvez e o token não estava revogado")
+				.register(meterRegistry);
+	}
+
+	public boolean isRevoked(String jti) {
+		return jti != null && revocationList.isRevoked(jti);
+	}
+
+	// Expiração nula: token sem "exp". Devolve false se o token já estava
+	// revogado (por outra requisição ou instância)
+	public boolean revoke(String jti, Instant expiresAt) {
+
+		Instant now = Instant.now();
+		Instant expiration = expiresAt == null ? NEVER : expiresAt;
+
+		// Token já expirado é recusado de qualquer forma
+		if (!expiration.isAfter(now)) {
+			return true;
+		}
+
+		if (revocationList.isRevoked(jti)) {
+			return false;
+		}
+
+		// Transação própria: a revogação vale assim que o método retorna e a
+		// violação de chave não marca para rollback a transação de quem chamou
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+		try {
+			transaction.executeWithoutResult(status -> revokedTokenRepository.insert(jti, expiration, now));
+		} catch (DataIntegrityViolationException e) {
+			// Revogado por outra instância e ainda não sincronizado
+			revocationList.add(jti, expiration.toEpochMilli());
+			return false;
+		}
+
+		revocationList.add(jti, expiration.toEpochMilli());
+		return true;
+	}
+
+	// Revogações gravadas por outras instâncias. A janela volta um intervalo
+	// inteiro antes da última sincronização para não perder as gravações
+	// confirmadas depois da consulta anterior (ou com relógio um pouco atrasado)
+	@Scheduled(fixedDelayString = "${catalog.revocation.sync-seconds:30}",
+			initialDelayString = "${catalog.revocation.sync-seconds:30}", timeUnit = TimeUnit.SECONDS)
+	public void sync() {
+		try {
+			Instant now = Instant.now();
+			List<RevokedToken> revokedTokens = revokedTokenRepository
+					.findRevokedSince(lastSync.minusSeconds(syncSeconds), now);
+
+			// Incluir de novo um token já conhecido não altera a lista
+			for (RevokedToken revokedToken : revokedTokens) {
+				revocationList.add(revokedToken.getId(), revokedToken.getExpiresAt().toEpochMilli());
+			}
+
+			lastSync = now;
+
+		} catch (RuntimeException e) {
+			logger.warn("Falha ao sincronizar os tokens revogados", e);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${catalog.revocation.purge-minutes:60}",
+			initialDelayString = "${catalog.revocation.purge-minutes:60}", timeUnit = TimeUnit.MINUTES)
+	public void purge() {
+		try {
+			Instant now = Instant.now();
+
+			int deleted = new TransactionTemplate(transactionManager)
+					.execute(status -> revokedTokenRepository.deleteExpired(now));
+			int removed = revocationList.removeExpired(now.toEpochMilli());
+
+			logger.info("Limpeza de tokens revogados: " + deleted + " excluídos do banco, " + removed
+					+ " retirados da memória");
+
+		} catch (RuntimeException e) {
+			logger.warn("Falha na limpeza dos tokens revogados", e);
+		}
+	}
+
+}
@@ -0,0 +1,180 @@
+package com.devsuperior.dscatalog.services.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.devsuperior.dscatalog.dto.CategoryDTO;
+import com.devsuperior.dscatalog.dto.CategoryFacetDTO;
+import com.devsuperior.dscatalog.dto.ProductDTO;
+import com.devsuperior.dscatalog.services.events.ProductChangedEvent;
+
+// Índice em memória de tb_product_category: um CompactBitmap de ids de
+// produto por categoria. Filtrar por categorias vira interseção de bitmaps
+// e as facetas são o tamanho da interseção de cada categoria com o resultado.
+@Component
+public class CategoryBitmapIndex {
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final Map<Long, CompactBitmap> bitmaps = new HashMap<>();
+
+	// Categorias atuais de cada produto, para desfazer a associação anterior
+	private final Map<Integer, long[]> memberships = new HashMap<>();
+
+	// Produtos sem nenhuma categoria, que a listagem deixa de fora
+	private final CompactBitmap uncategorized = new CompactBitmap();
+
+	public void index(ProductDTO product) {
+
+		int id = ProductSearchIndex.toIndexId(product.getId());
+		long[] categoryIds = product.getCategories().stream().mapToLong(CategoryDTO::getId).distinct().toArray();
+
+		lock.writeLock().lock();
+		try {
+			removeMemberships(id);
+
+			for (long categoryId : categoryIds) {
+				bitmaps.computeIfAbsent(categoryId, key -> new CompactBitmap()).add(id);
+			}
+
+			memberships.put(id, categoryIds);
+
+			if (categoryIds.length == 0) {
+				uncategorized.add(id);
+			} else {
+				uncategorized.remove(id);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void remove(Long productId) {
+
+		lock.writeLock().lock();
+		try {
+			removeMemberships(ProductSearchIndex.toIndexId(productId));
+			uncategorized.remove(ProductSearchIndex.toIndexId(productId));
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// Mantém somente os candidatos que pertencem a todas as categorias informadas
+	public CompactBitmap filter(CompactBitmap candidates, Collection<Long> categoryIds) {
+
+		lock.readLock().lock();
+		try {
+			CompactBitmap result = candidates;
+
+			for (Long categoryId : categoryIds) {
+
+				CompactBitmap bitmap = bitmaps.get(categoryId);
+
+				if (bitmap == null) {
+					return new CompactBitmap();
+				}
+
+				result = result.and(bitmap);
+
+				if (result.isEmpty()) {
+					break;
+				}
+			}
+
+			return result;
+
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// Retira os produtos sem categoria, como o INNER JOIN da consulta no banco
+	public CompactBitmap excludeUncategorized(CompactBitmap candidates) {
+
+		lock.readLock().lock();
+		try {
+			return uncategorized.isEmpty() ? candidates : candidates.andNot(uncategorized);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// Cópia dos produtos de uma categoria (vazia se a categoria não tem produtos)
+	public CompactBitmap productIds(Long categoryId) {
+
+		lock.readLock().lock();
+		try {
+			CompactBitmap bitmap = bitmaps.get(categoryId);
+			return bitmap == null ? new CompactBitmap() : bitmap.copy();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// Quantidade de produtos do resultado em cada categoria (somente as não vazias)
+	public List<CategoryFacetDTO> facets(CompactBitmap result) {
+
+		List<CategoryFacetDTO> facets = new ArrayList<>();
+
+		lock.readLock().lock();
+		try {
+			for (Map.Entry<Long, CompactBitmap> entry : bitmaps.entrySet()) {
+
+				int count = result.andCardinality(entry.getValue());
+
+				if (count > 0) {
+					facets.add(new CategoryFacetDTO(entry.getKey(), (long) count));
+				}
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		facets.sort(Comparator.comparing(CategoryFacetDTO::getCategoryId));
+
+		return facets;
+	}
+
+	// Mesmo ciclo do ProductSearchIndex: só escritas confirmadas
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductChanged(ProductChangedEvent event) {
+
+		if (event.getType() == ProductChangedEvent.Type.DELETE) {
+			remove(event.getProductId());
+		} else {
+			index(event.getProduct());
+		}
+	}
+
+	private void removeMemberships(int id) {
+
+		long[] previous = memberships.remove(id);
+
+		if (previous == null) {
+			return;
+		}
+
+		for (long categoryId : previous) {
+
+			CompactBitmap bitmap = bitmaps.get(categoryId);
+
+			if (bitmap != null) {
+				bitmap.remove(id);
+
+				if (bitmap.isEmpty()) {
+					bitmaps.remove(categoryId);
+				}
+			}
+		}
+	}
+
+}
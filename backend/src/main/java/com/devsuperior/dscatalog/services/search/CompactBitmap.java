@@ -0,0 +1,620 @@
+package com.devsuperior.dscatalog.services.search;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+// Bitmap compactado de inteiros no estilo Roaring.
+// Os 16 bits altos escolhem um container e os 16 bits baixos são guardados
+// nele: lista ordenada enquanto houver até 4096 valores, bitmap de 8 KB
+// depois disso. Não é thread-safe, quem usa controla o acesso.
+public class CompactBitmap {
+
+	private static final int ARRAY_CONTAINER_MAX = 4096;
+
+	private char[] keys;
+	private Container[] containers;
+	private int size;
+
+	public CompactBitmap() {
+		this(4);
+	}
+
+	private CompactBitmap(int capacity) {
+		keys = new char[capacity];
+		containers = new Container[capacity];
+	}
+
+	public static CompactBitmap of(int... values) {
+		CompactBitmap bitmap = new CompactBitmap();
+		for (int value : values) {
+			bitmap.add(value);
+		}
+		return bitmap;
+	}
+
+	public void add(int value) {
+
+		char key = highBits(value);
+		int position = indexOf(key);
+
+		if (position < 0) {
+			position = -position - 1;
+			insertAt(position, key, new ArrayContainer());
+		}
+
+		containers[position] = containers[position].add(lowBits(value));
+	}
+
+	public void remove(int value) {
+
+		int position = indexOf(highBits(value));
+
+		if (position < 0) {
+			return;
+		}
+
+		Container container = containers[position].remove(lowBits(value));
+
+		if (container.cardinality() == 0) {
+			removeAt(position);
+		} else {
+			containers[position] = container;
+		}
+	}
+
+	public boolean contains(int value) {
+		int position = indexOf(highBits(value));
+		return position >= 0 && containers[position].contains(lowBits(value));
+	}
+
+	public int cardinality() {
+		int cardinality = 0;
+		for (int i = 0; i < size; i++) {
+			cardinality += containers[i].cardinality();
+		}
+		return cardinality;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	// Interseção em um novo bitmap
+	public CompactBitmap and(CompactBitmap other) {
+
+		CompactBitmap result = new CompactBitmap(Math.max(1, Math.min(size, other.size)));
+
+		int i = 0;
+		int j = 0;
+
+		while (i < size && j < other.size) {
+			if (keys[i] < other.keys[j]) {
+				i++;
+			} else if (keys[i] > other.keys[j]) {
+				j++;
+			} else {
+				Container container = containers[i].and(other.containers[j]);
+				if (container.cardinality() > 0) {
+					result.append(keys[i], container);
+				}
+				i++;
+				j++;
+			}
+		}
+
+		return result;
+	}
+
+	// Tamanho da interseção sem materializar o resultado (contagem de facetas)
+	public int andCardinality(CompactBitmap other) {
+
+		int cardinality = 0;
+		int i = 0;
+		int j = 0;
+
+		while (i < size && j < other.size) {
+			if (keys[i] < other.keys[j]) {
+				i++;
+			} else if (keys[i] > other.keys[j]) {
+				j++;
+			} else {
+				cardinality += containers[i].andCardinality(other.containers[j]);
+				i++;
+				j++;
+			}
+		}
+
+		return cardinality;
+	}
+
+	// Diferença (valores deste bitmap que não estão no outro) em um novo bitmap
+	public CompactBitmap andNot(CompactBitmap other) {
+
+		CompactBitmap result = new CompactBitmap(Math.max(1, size));
+
+		int j = 0;
+
+		for (int i = 0; i < size; i++) {
+
+			while (j < other.size && other.keys[j] < keys[i]) {
+				j++;
+			}
+
+			Container container = j < other.size && other.keys[j] == keys[i]
+					? containers[i].andNot(other.containers[j])
+					: containers[i].copy();
+
+			if (container.cardinality() > 0) {
+				result.append(keys[i], container);
+			}
+		}
+
+		return result;
+	}
+
+	// União no próprio bitmap
+	public void or(CompactBitmap other) {
+
+		for (int j = 0; j < other.size; j++) {
+
+			int position = indexOf(other.keys[j]);
+
+			if (position < 0) {
+				insertAt(-position - 1, other.keys[j], other.containers[j].copy());
+			} else {
+				containers[position] = containers[position].or(other.containers[j]);
+			}
+		}
+	}
+
+	public CompactBitmap copy() {
+
+		CompactBitmap copy = new CompactBitmap(Math.max(1, size));
+
+		for (int i = 0; i < size; i++) {
+			copy.append(keys[i], containers[i].copy());
+		}
+
+		return copy;
+	}
+
+	// Percorre os valores em ordem crescente
+	public void forEach(IntConsumer consumer) {
+		for (int i = 0; i < size; i++) {
+			containers[i].forEach(keys[i] << 16, consumer);
+		}
+	}
+
+	public int[] toArray() {
+		int[] values = new int[cardinality()];
+		int[] position = { 0 };
+		forEach(value -> values[position[0]++] = value);
+		return values;
+	}
+
+	private int indexOf(char key) {
+		return Arrays.binarySearch(keys, 0, size, key);
+	}
+
+	private void append(char key, Container container) {
+		insertAt(size, key, container);
+	}
+
+	private void insertAt(int position, char key, Container container) {
+
+		if (size == keys.length) {
+			int capacity = size + (size >> 1) + 1;
+			keys = Arrays.copyOf(keys, capacity);
+			containers = Arrays.copyOf(containers, capacity);
+		}
+
+		System.arraycopy(keys, position, keys, position + 1, size - position);
+		System.arraycopy(containers, position, containers, position + 1, size - position);
+
+		keys[position] = key;
+		containers[position] = container;
+		size++;
+	}
+
+	private void removeAt(int position) {
+
+		System.arraycopy(keys, position + 1, keys, position, size - position - 1);
+		System.arraycopy(containers, position + 1, containers, position, size - position - 1);
+
+		containers[--size] = null;
+	}
+
+	private static char highBits(int value) {
+		return (char) (value >>> 16);
+	}
+
+	private static char lowBits(int value) {
+		return (char) value;
+	}
+
+	private abstract static class Container {
+
+		abstract Container add(char value);
+
+		abstract Container remove(char value);
+
+		abstract boolean contains(char value);
+
+		abstract int cardinality();
+
+		abstract Container and(Container other);
+
+		abstract int andCardinality(Container other);
+
+		abstract Container or(Container other);
+
+		abstract Container andNot(Container other);
+
+		abstract Container copy();
+
+		abstract void forEach(int high, IntConsumer consumer);
+
+	}
+
+	private static final class ArrayContainer extends Container {
+
+		private char[] values;
+		private int cardinality;
+
+		ArrayContainer() {
+			this(new char[4], 0);
+		}
+
+		ArrayContainer(char[] values, int cardinality) {
+			this.values = values;
+			this.cardinality = cardinality;
+		}
+
+		@Override
+		Container add(char value) {
+
+			int position = Arrays.binarySearch(values, 0, cardinality, value);
+
+			if (position >= 0) {
+				return this;
+			}
+
+			if (cardinality >= ARRAY_CONTAINER_MAX) {
+				return toBitmap().add(value);
+			}
+
+			position = -position - 1;
+
+			if (cardinality == values.length) {
+				values = Arrays.copyOf(values, Math.min(ARRAY_CONTAINER_MAX, cardinality + (cardinality >> 1) + 1));
+			}
+
+			System.arraycopy(values, position, values, position + 1, cardinality - position);
+			values[position] = value;
+			cardinality++;
+
+			return this;
+		}
+
+		@Override
+		Container remove(char value) {
+
+			int position = Arrays.binarySearch(values, 0, cardinality, value);
+
+			if (position >= 0) {
+				System.arraycopy(values, position + 1, values, position, cardinality - position - 1);
+				cardinality--;
+			}
+
+			return this;
+		}
+
+		@Override
+		boolean contains(char value) {
+			return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+		}
+
+		@Override
+		int cardinality() {
+			return cardinality;
+		}
+
+		@Override
+		Container and(Container other) {
+
+			char[] result = new char[cardinality];
+			int count = 0;
+
+			if (other instanceof ArrayContainer) {
+
+				ArrayContainer array = (ArrayContainer) other;
+				int i = 0;
+				int j = 0;
+
+				while (i < cardinality && j < array.cardinality) {
+					if (values[i] < array.values[j]) {
+						i++;
+					} else if (values[i] > array.values[j]) {
+						j++;
+					} else {
+						result[count++] = values[i];
+						i++;
+						j++;
+					}
+				}
+			} else {
+				for (int i = 0; i < cardinality; i++) {
+					if (other.contains(values[i])) {
+						result[count++] = values[i];
+					}
+				}
+			}
+
+			return new ArrayContainer(result, count);
+		}
+
+		@Override
+		int andCardinality(Container other) {
+
+			int count = 0;
+
+			if (other instanceof ArrayContainer) {
+
+				ArrayContainer array = (ArrayContainer) other;
+				int i = 0;
+				int j = 0;
+
+				while (i < cardinality && j < array.cardinality) {
+					if (values[i] < array.values[j]) {
+						i++;
+					} else if (values[i] > array.values[j]) {
+						j++;
+					} else {
+						count++;
+						i++;
+						j++;
+					}
+				}
+			} else {
+				for (int i = 0; i < cardinality; i++) {
+					if (other.contains(values[i])) {
+						count++;
+					}
+				}
+			}
+
+			return count;
+		}
+
+		@Override
+		Container or(Container other) {
+
+			if (other instanceof BitmapContainer) {
+				return other.or(this);
+			}
+
+			ArrayContainer array = (ArrayContainer) other;
+			char[] merged = new char[cardinality + array.cardinality];
+			int count = 0;
+			int i = 0;
+			int j = 0;
+
+			while (i < cardinality || j < array.cardinality) {
+				if (j == array.cardinality || (i < cardinality && values[i] < array.values[j])) {
+					merged[count++] = values[i++];
+				} else if (i == cardinality || values[i] > array.values[j]) {
+					merged[count++] = array.values[j++];
+				} else {
+					merged[count++] = values[i];
+					i++;
+					j++;
+				}
+			}
+
+			ArrayContainer result = new ArrayContainer(merged, count);
+
+			return count > ARRAY_CONTAINER_MAX ? result.toBitmap() : result;
+		}
+
+		@Override
+		Container andNot(Container other) {
+
+			char[] result = new char[Math.max(1, cardinality)];
+			int count = 0;
+
+			for (int i = 0; i < cardinality; i++) {
+				if (!other.contains(values[i])) {
+					result[count++] = values[i];
+				}
+			}
+
+			return new ArrayContainer(result, count);
+		}
+
+		@Override
+		Container copy() {
+			return new ArrayContainer(Arrays.copyOf(values, Math.max(1, cardinality)), cardinality);
+		}
+
+		@Override
+		void forEach(int high, IntConsumer consumer) {
+			for (int i = 0; i < cardinality; i++) {
+				consumer.accept(high | values[i]);
+			}
+		}
+
+		private BitmapContainer toBitmap() {
+			BitmapContainer bitmap = new BitmapContainer();
+			for (int i = 0; i < cardinality; i++) {
+				bitmap.add(values[i]);
+			}
+			return bitmap;
+		}
+
+	}
+
+	private static final class BitmapContainer extends Container {
+
+		private final long[] words;
+		private int cardinality;
+
+		BitmapContainer() {
+			this(new long[1 << 10], 0);
+		}
+
+		BitmapContainer(long[] words, int cardinality) {
+			this.words = words;
+			this.cardinality = cardinality;
+		}
+
+		@Override
+		Container add(char value) {
+
+			long mask = 1L << value;
+			int index = value >>> 6;
+
+			if ((words[index] & mask) == 0) {
+				words[index] |= mask;
+				cardinality++;
+			}
+
+			return this;
+		}
+
+		@Override
+		Container remove(char value) {
+
+			long mask = 1L << value;
+			int index = value >>> 6;
+
+			if ((words[index] & mask) != 0) {
+				words[index] &= ~mask;
+				cardinality--;
+			}
+
+			return cardinality <= ARRAY_CONTAINER_MAX ? toArray() : this;
+		}
+
+		@Override
+		boolean contains(char value) {
+			return (words[value >>> 6] & (1L << value)) != 0;
+		}
+
+		@Override
+		int cardinality() {
+			return cardinality;
+		}
+
+		@Override
+		Container and(Container other) {
+
+			if (other instanceof ArrayContainer) {
+				return other.and(this);
+			}
+
+			BitmapContainer bitmap = (BitmapContainer) other;
+			long[] result = new long[words.length];
+			int count = 0;
+
+			for (int i = 0; i < words.length; i++) {
+				result[i] = words[i] & bitmap.words[i];
+				count += Long.bitCount(result[i]);
+			}
+
+			BitmapContainer container = new BitmapContainer(result, count);
+
+			return count <= ARRAY_CONTAINER_MAX ? container.toArray() : container;
+		}
+
+		@Override
+		int andCardinality(Container other) {
+
+			if (other instanceof ArrayContainer) {
+				return other.andCardinality(this);
+			}
+
+			BitmapContainer bitmap = (BitmapContainer) other;
+			int count = 0;
+
+			for (int i = 0; i < words.length; i++) {
+				count += Long.bitCount(words[i] & bitmap.words[i]);
+			}
+
+			return count;
+		}
+
+		@Override
+		Container or(Container other) {
+
+			BitmapContainer result = (BitmapContainer) copy();
+
+			if (other instanceof ArrayContainer) {
+				other.forEach(0, value -> result.add((char) value));
+				return result;
+			}
+
+			BitmapContainer bitmap = (BitmapContainer) other;
+			int count = 0;
+
+			for (int i = 0; i < words.length; i++) {
+				result.words[i] |= bitmap.words[i];
+				count += Long.bitCount(result.words[i]);
+			}
+
+			result.cardinality = count;
+
+			return result;
+		}
+
+		@Override
+		Container andNot(Container other) {
+
+			long[] result = words.clone();
+
+			if (other instanceof ArrayContainer) {
+				other.forEach(0, value -> result[value >>> 6] &= ~(1L << value));
+			} else {
+				BitmapContainer bitmap = (BitmapContainer) other;
+
+				for (int i = 0; i < result.length; i++) {
+					result[i] &= ~bitmap.words[i];
+				}
+			}
+
+			int count = 0;
+
+			for (long word : result) {
+				count += Long.bitCount(word);
+			}
+
+			BitmapContainer container = new BitmapContainer(result, count);
+
+			return count <= ARRAY_CONTAINER_MAX ? container.toArray() : container;
+		}
+
+		@Override
+		Container copy() {
+			return new BitmapContainer(words.clone(), cardinality);
+		}
+
+		@Override
+		void forEach(int high, IntConsumer consumer) {
+			for (int i = 0; i < words.length; i++) {
+				long word = words[i];
+				while (word != 0) {
+					consumer.accept(high | (i << 6) | Long.numberOfTrailingZeros(word));
+					word &= word - 1;
+				}
+			}
+		}
+
+		private ArrayContainer toArray() {
+			char[] values = new char[cardinality];
+			int[] count = { 0 };
+			forEach(0, value -> values[count[0]++] = (char) value);
+			return new ArrayContainer(values, cardinality);
+		}
+
+	}
+
+}
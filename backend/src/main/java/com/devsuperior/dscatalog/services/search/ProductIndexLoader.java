@@ -0,0 +1,145 @@
+package com.devsuperior.dscatalog.services.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.devsuperior.dscatalog.dto.ProductDTO;
+import com.devsuperior.dscatalog.entities.Product;
+import com.devsuperior.dscatalog.repositories.ProductRepository;
+import com.devsuperior.dscatalog.services.events.ProductChangedEvent;
+
+// Carga inicial dos índices em memória a partir do banco.
+// Percorre a tabela de produtos em lotes ordenados por id (sem OFFSET).
+// 2026-10-18 - A aplicação já atende escritas durante a carga. Um lote lido
+// antes do commit de uma escrita pode chegar aos índices depois do evento
+// dela e trazer de volta um produto excluído ou uma versão anterior. Por isso
+// os ids alterados durante a carga são guardados e, ao fim dos lotes, lidos
+// de novo do banco (já confirmados) e reaplicados. O índice só fica pronto
+// quando não há mais ids pendentes.
+@Component
+public class ProductIndexLoader {
+
+	private static Logger logger = LoggerFactory.getLogger(ProductIndexLoader.class);
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private ProductSearchIndex productSearchIndex;
+
+	@Autowired
+	private CategoryBitmapIndex categoryBitmapIndex;
+
+	@Autowired
+	private ProductSuggestIndex productSuggestIndex;
+
+	@Value("${catalog.index.batch-size:1000}")
+	private Integer batchSize;
+
+	// Ids alterados enquanto a carga está em andamento (guardados pelo monitor)
+	private final Set<Long> changedDuringLoad = new LinkedHashSet<>();
+
+	private boolean loading;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+
+		long startTime = System.currentTimeMillis();
+		long lastId = 0L;
+		long count = 0L;
+
+		synchronized (this) {
+			loading = true;
+		}
+
+		List<Long> ids = productRepository.findIdsAfter(lastId, PageRequest.of(0, batchSize));
+
+		while (!ids.isEmpty()) {
+
+			index(ids);
+
+			count += ids.size();
+			lastId = ids.get(ids.size() - 1);
+			ids = productRepository.findIdsAfter(lastId, PageRequest.of(0, batchSize));
+		}
+
+		int replayed = 0;
+
+		// Enquanto houver escritas confirmadas durante a carga (ou durante a
+		// própria releitura), os produtos delas são lidos de novo
+		for (List<Long> changed = drainChanges(); !changed.isEmpty(); changed = drainChanges()) {
+
+			for (int from = 0; from < changed.size(); from += batchSize) {
+				index(changed.subList(from, Math.min(from + batchSize, changed.size())));
+			}
+
+			replayed += changed.size();
+		}
+
+		// A trie de sugestões fica pronta junto com os demais índices
+		productSuggestIndex.refresh();
+
+		// Os índices são carregados juntos, um único sinal de pronto basta
+		productSearchIndex.markReady();
+
+		logger.info("Índice de busca carregado com " + count + " produtos em "
+				+ (System.currentTimeMillis() - startTime) + " ms (" + replayed + " relidos)");
+	}
+
+	// Os índices aplicam o evento por conta própria; aqui só é anotado o id
+	// para a releitura ao fim da carga
+	@TransactionalEventListener(fallbackExecution = true)
+	public synchronized void onProductChanged(ProductChangedEvent event) {
+		if (loading) {
+			changedDuringLoad.add(event.getProductId());
+		}
+	}
+
+	// Ids pendentes; sem pendências encerra a carga no mesmo monitor, para
+	// nenhum evento ser anotado depois da última releitura
+	private synchronized List<Long> drainChanges() {
+
+		List<Long> changed = new ArrayList<>(changedDuringLoad);
+		changedDuringLoad.clear();
+
+		if (changed.isEmpty()) {
+			loading = false;
+		}
+
+		return changed;
+	}
+
+	// Produtos já com as categorias para evitar N+1 consultas. Ids que não
+	// voltam do banco foram excluídos e saem dos índices
+	private void index(List<Long> ids) {
+
+		Set<Long> missing = new LinkedHashSet<>(ids);
+
+		for (Product product : productRepository.findProductsWithCategoriesByIds(ids)) {
+			ProductDTO dto = new ProductDTO(product, product.getCategories());
+			productSearchIndex.index(dto);
+			categoryBitmapIndex.index(dto);
+			productSuggestIndex.index(dto);
+			missing.remove(product.getId());
+		}
+
+		for (Long id : missing) {
+			productSearchIndex.remove(id);
+			categoryBitmapIndex.remove(id);
+			productSuggestIndex.remove(id);
+		}
+	}
+
+}
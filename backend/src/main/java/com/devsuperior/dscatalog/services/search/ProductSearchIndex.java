@@ -0,0 +1,356 @@
+package com.devsuperior.dscatalog.services.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.devsuperior.dscatalog.dto.ProductDTO;
+import com.devsuperior.dscatalog.services.events.ProductChangedEvent;
+
+// Índice invertido em memória sobre o nome dos produtos.
+// 2026-10-18 - A busca tem o mesmo significado do LIKE '%nome%' sobre
+// nm_product_search usado pelo banco (ordenações sem suporte, cursor e
+// enquanto o índice carrega): trecho do nome normalizado, sem termos da
+// descrição. Assim a página, o total e as facetas não mudam conforme o
+// caminho que respondeu a consulta.
+// Cada trigrama do nome normalizado aponta para um CompactBitmap com os ids
+// que o contêm. Os trigramas da consulta reduzem os candidatos e cada
+// candidato é conferido no nome normalizado ("amer" encontra "PC Gamer").
+// match() devolve o conjunto de ids da consulta, que pode ser cruzado com o
+// CategoryBitmapIndex, e page() recorta a página pedida e o total.
+// O Service busca no banco apenas os produtos dessa página.
+@Component
+public class ProductSearchIndex {
+
+	private static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "name", "price");
+
+	private static final int GRAM_LENGTH = 3;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final Map<String, CompactBitmap> grams = new HashMap<>();
+
+	private final Map<Integer, IndexedProduct> documents = new HashMap<>();
+
+	// Todos os produtos indexados: consulta vazia e consultas mais curtas que um trigrama
+	private final CompactBitmap allDocuments = new CompactBitmap();
+
+	// Só responde consultas depois da carga inicial do ProductIndexLoader
+	private volatile boolean ready;
+
+	public boolean isReady() {
+		return ready;
+	}
+
+	public void markReady() {
+		this.ready = true;
+	}
+
+	// Indica se a paginação pode ser respondida pelo índice.
+	// Ordenações por outros campos continuam indo para o banco.
+	public boolean canAnswer(Pageable pageable) {
+
+		if (!ready || pageable.isUnpaged()) {
+			return false;
+		}
+
+		for (Sort.Order order : pageable.getSort()) {
+			if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	public void index(ProductDTO product) {
+
+		int id = toIndexId(product.getId());
+
+		// O mesmo valor gravado em nm_product_search
+		String searchName = SearchNormalizer.normalize(product.getName());
+
+		IndexedProduct document = new IndexedProduct(id, product.getName(), searchName, product.getPrice(),
+				grams(searchName).toArray(new String[0]));
+
+		lock.writeLock().lock();
+		try {
+			IndexedProduct previous = documents.put(id, document);
+
+			if (previous != null) {
+				removeGrams(previous);
+			}
+
+			for (String gram : document.grams) {
+				grams.computeIfAbsent(gram, key -> new CompactBitmap()).add(id);
+			}
+
+			allDocuments.add(id);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void remove(Long productId) {
+
+		lock.writeLock().lock();
+		try {
+			IndexedProduct previous = documents.remove(toIndexId(productId));
+
+			if (previous != null) {
+				removeGrams(previous);
+			}
+
+			allDocuments.remove(toIndexId(productId));
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// Produtos cujo nome normalizado contém a consulta normalizada. Consulta
+	// vazia devolve todos os produtos. O bitmap devolvido é uma cópia e pode
+	// ser alterado por quem chamou.
+	public CompactBitmap match(String query) {
+
+		String search = SearchNormalizer.normalize(query);
+
+		lock.readLock().lock();
+		try {
+			if (search.isEmpty()) {
+				return allDocuments.copy();
+			}
+
+			CompactBitmap candidates = search.length() < GRAM_LENGTH ? allDocuments : null;
+
+			// Listas menores primeiro: a interseção encolhe mais rápido
+			List<CompactBitmap> postings = new ArrayList<>();
+
+			for (String gram : grams(search)) {
+
+				CompactBitmap gramPostings = grams.get(gram);
+
+				if (gramPostings == null) {
+					return new CompactBitmap();
+				}
+
+				postings.add(gramPostings);
+			}
+
+			postings.sort(Comparator.comparingInt(CompactBitmap::cardinality));
+
+			for (CompactBitmap gramPostings : postings) {
+
+				candidates = candidates == null ? gramPostings : candidates.and(gramPostings);
+
+				if (candidates.isEmpty()) {
+					return new CompactBitmap();
+				}
+			}
+
+			// Os trigramas não garantem o trecho contínuo: a conferência final é no nome
+			CompactBitmap matches = new CompactBitmap();
+
+			candidates.forEach(id -> {
+				IndexedProduct document = documents.get(id);
+
+				if (document != null && document.searchName.contains(search)) {
+					matches.add(id);
+				}
+			});
+
+			return matches;
+
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// Recorta a página pedida dentro do conjunto de ids já filtrado
+	public SearchResult page(CompactBitmap candidates, Pageable pageable) {
+
+		lock.readLock().lock();
+		try {
+			List<IndexedProduct> hits = new ArrayList<>();
+			long[] total = { 0 };
+
+			long offset = pageable.getOffset();
+			int pageSize = pageable.getPageSize();
+			boolean naturalOrder = pageable.getSort().isUnsorted();
+
+			Comparator<IndexedProduct> comparator = comparatorFor(pageable.getSort());
+			int limit = (int) Math.min(Integer.MAX_VALUE - 1, offset + pageSize);
+			PriorityQueue<IndexedProduct> topHits = new PriorityQueue<>(Math.max(1, Math.min(limit, 1024)),
+					comparator.reversed());
+
+			candidates.forEach(id -> {
+
+				IndexedProduct document = documents.get(id);
+
+				if (document == null) {
+					return;
+				}
+
+				// Sem ordenação o bitmap já percorre os ids em ordem crescente,
+				// basta recortar a janela da página
+				if (naturalOrder) {
+					if (total[0] >= offset && hits.size() < pageSize) {
+						hits.add(document);
+					}
+				} else if (topHits.size() < limit) {
+					topHits.add(document);
+				} else if (comparator.compare(document, topHits.peek()) < 0) {
+					topHits.poll();
+					topHits.add(document);
+				}
+
+				total[0]++;
+			});
+
+			List<IndexedProduct> pageHits = hits;
+
+			if (!naturalOrder) {
+				List<IndexedProduct> ordered = new ArrayList<>(topHits);
+				ordered.sort(comparator);
+				pageHits = offset < ordered.size() ? ordered.subList((int) offset, ordered.size())
+						: Collections.emptyList();
+			}
+
+			List<Long> ids = new ArrayList<>(pageHits.size());
+			pageHits.forEach(document -> ids.add((long) document.id));
+
+			return new SearchResult(ids, total[0]);
+
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// Mantém o índice atualizado somente com escritas confirmadas.
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductChanged(ProductChangedEvent event) {
+
+		if (event.getType() == ProductChangedEvent.Type.DELETE) {
+			remove(event.getProductId());
+		} else {
+			index(event.getProduct());
+		}
+	}
+
+	private void removeGrams(IndexedProduct document) {
+
+		for (String gram : document.grams) {
+
+			CompactBitmap postings = grams.get(gram);
+
+			if (postings != null) {
+				postings.remove(document.id);
+
+				if (postings.isEmpty()) {
+					grams.remove(gram);
+				}
+			}
+		}
+	}
+
+	// Trigramas distintos do texto já normalizado (espaços incluídos)
+	private static Set<String> grams(String text) {
+
+		Set<String> result = new LinkedHashSet<>();
+
+		for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+			result.add(text.substring(i, i + GRAM_LENGTH));
+		}
+
+		return result;
+	}
+
+	private static Comparator<IndexedProduct> comparatorFor(Sort sort) {
+
+		Comparator<IndexedProduct> comparator = null;
+
+		for (Sort.Order order : sort) {
+
+			Comparator<IndexedProduct> next;
+
+			switch (order.getProperty()) {
+			case "name":
+				next = Comparator.comparing(document -> document.name,
+						Comparator.nullsLast(Comparator.<String>naturalOrder()));
+				break;
+			case "price":
+				next = Comparator.comparing(document -> document.price,
+						Comparator.nullsLast(Comparator.<Double>naturalOrder()));
+				break;
+			default:
+				next = Comparator.comparingInt(document -> document.id);
+			}
+
+			if (order.isDescending()) {
+				next = next.reversed();
+			}
+
+			comparator = comparator == null ? next : comparator.thenComparing(next);
+		}
+
+		// Desempate pelo id para a paginação ser estável
+		Comparator<IndexedProduct> byId = Comparator.comparingInt(document -> document.id);
+
+		return comparator == null ? byId : comparator.thenComparing(byId);
+	}
+
+	static int toIndexId(Long productId) {
+		return Math.toIntExact(productId);
+	}
+
+	public static class SearchResult {
+
+		private final List<Long> ids;
+		private final long total;
+
+		public SearchResult(List<Long> ids, long total) {
+			this.ids = ids;
+			this.total = total;
+		}
+
+		// Ids da página na ordem pedida
+		public List<Long> getIds() {
+			return ids;
+		}
+
+		public long getTotal() {
+			return total;
+		}
+
+	}
+
+	private static class IndexedProduct {
+
+		private final int id;
+		private final String name;
+		private final String searchName;
+		private final Double price;
+		private final String[] grams;
+
+		IndexedProduct(int id, String name, String searchName, Double price, String[] grams) {
+			this.id = id;
+			this.name = name;
+			this.searchName = searchName;
+			this.price = price;
+			this.grams = grams;
+		}
+
+	}
+
+}
@@ -0,0 +1,644 @@
+package com.devsuperior.dscatalog.services.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.devsuperior.dscatalog.dto.ProductDTO;
+import com.devsuperior.dscatalog.services.events.ProductChangedEvent;
+
+// Autocomplete de nomes de produto sobre uma trie compactada (radix) imutável.
+// As chaves são os sufixos do nome normalizado que começam em cada palavra,
+// então "gam" sugere "PC Gamer". Cada nó guarda as melhores sugestões da sua
+// subárvore, e a consulta só desce até o nó do prefixo.
+// 2026-10-18 - A trie é montada inteira uma única vez, na carga inicial
+// (refresh). Depois disso cada escrita que muda um nome é aplicada com cópia
+// de caminho: só os nós entre a raiz e os sufixos do nome mudam, o restante
+// é compartilhado com a versão anterior. A raiz nova é publicada de uma vez;
+// as consultas leem sempre uma versão completa, sem lock.
+@Component
+public class ProductSuggestIndex {
+
+	// Quantidade máxima de sugestões por consulta
+	public static final int MAX_SUGGESTIONS = 20;
+
+	private static final Suggestion[] NONE = new Suggestion[0];
+
+	private static final Node EMPTY = new Node("", new char[0], new Node[0], NONE, NONE);
+
+	// Nome de cada produto (guardados pelo monitor)
+	private final Map<Integer, String> names = new HashMap<>();
+
+	// Produtos por nome normalizado: em nomes repetidos vale o texto do menor id
+	private final Map<String, TreeMap<Integer, String>> byKey = new HashMap<>();
+
+	private volatile Node root = EMPTY;
+
+	// Antes da carga inicial só os mapas são atualizados
+	private boolean built;
+
+	public synchronized void index(ProductDTO product) {
+
+		int id = ProductSearchIndex.toIndexId(product.getId());
+		String previous = names.put(id, product.getName());
+
+		// Alterações que não mexem no nome não alteram a trie
+		if (!Objects.equals(previous, product.getName())) {
+
+			if (previous != null) {
+				detach(id, previous);
+			}
+
+			attach(id, product.getName());
+		}
+	}
+
+	public synchronized void remove(Long productId) {
+
+		int id = ProductSearchIndex.toIndexId(productId);
+		String previous = names.remove(id);
+
+		if (previous != null) {
+			detach(id, previous);
+		}
+	}
+
+	// Monta a trie inteira a partir dos nomes já indexados (carga inicial)
+	public synchronized void refresh() {
+
+		List<Suggestion> entries = new ArrayList<>();
+
+		for (Map.Entry<String, TreeMap<Integer, String>> entry : byKey.entrySet()) {
+			String key = entry.getKey();
+			String name = entry.getValue().firstEntry().getValue();
+
+			for (int offset : wordStarts(key)) {
+				entries.add(new Suggestion(key, name, offset));
+			}
+		}
+
+		entries.sort(Suggestion::compareSuffixes);
+
+		root = entries.isEmpty() ? EMPTY : build(entries, 0, entries.size(), 0, true);
+		built = true;
+	}
+
+	// Nomes de produto que têm alguma palavra começando pelo prefixo informado.
+	// Nomes que começam pelo prefixo vêm primeiro, depois os mais curtos.
+	public List<String> suggest(String prefix, int limit) {
+
+		String key = SearchNormalizer.normalize(prefix);
+
+		if (key.isEmpty() || limit <= 0) {
+			return Collections.emptyList();
+		}
+
+		Node node = find(root, key);
+
+		if (node == null) {
+			return Collections.emptyList();
+		}
+
+		int count = Math.min(Math.min(limit, MAX_SUGGESTIONS), node.best.length);
+		List<String> suggestions = new ArrayList<>(count);
+
+		for (int i = 0; i < count; i++) {
+			suggestions.add(node.best[i].name);
+		}
+
+		return suggestions;
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductChanged(ProductChangedEvent event) {
+
+		if (event.getType() == ProductChangedEvent.Type.DELETE) {
+			remove(event.getProductId());
+		} else {
+			index(event.getProduct());
+		}
+	}
+
+	// A trie só muda quando o nome normalizado aparece, some ou troca o texto exibido
+	private void attach(int id, String name) {
+
+		String key = SearchNormalizer.normalize(name);
+
+		if (key.isEmpty()) {
+			return;
+		}
+
+		TreeMap<Integer, String> products = byKey.computeIfAbsent(key, k -> new TreeMap<>());
+		String before = products.isEmpty() ? null : products.firstEntry().getValue();
+
+		products.put(id, name);
+
+		replace(key, before, products.firstEntry().getValue());
+	}
+
+	private void detach(int id, String name) {
+
+		String key = SearchNormalizer.normalize(name);
+		TreeMap<Integer, String> products = byKey.get(key);
+
+		if (products == null) {
+			return;
+		}
+
+		String before = products.firstEntry().getValue();
+
+		products.remove(id);
+
+		if (products.isEmpty()) {
+			byKey.remove(key);
+			replace(key, before, null);
+		} else {
+			replace(key, before, products.firstEntry().getValue());
+		}
+	}
+
+	private void replace(String key, String before, String after) {
+
+		if (!built || Objects.equals(before, after)) {
+			return;
+		}
+
+		Node current = root;
+
+		for (int offset : wordStarts(key)) {
+
+			if (before != null) {
+				Node removed = remove(current, new Suggestion(key, before, offset), 0);
+				current = removed == null ? EMPTY : removed;
+			}
+
+			if (after != null) {
+				current = insert(current, new Suggestion(key, after, offset), 0);
+			}
+		}
+
+		root = current;
+	}
+
+	// Nó cujo caminho começa pelo prefixo. O prefixo pode terminar no meio do
+	// rótulo de um nó: as sugestões são as do próprio nó
+	private static Node find(Node node, String prefix) {
+
+		int depth = 0;
+
+		while (depth < prefix.length()) {
+
+			Node child = node.child(prefix.charAt(depth));
+
+			if (child == null) {
+				return null;
+			}
+
+			int length = Math.min(child.label.length(), prefix.length() - depth);
+
+			if (!prefix.regionMatches(depth, child.label, 0, length)) {
+				return null;
+			}
+
+			depth += length;
+			node = child;
+		}
+
+		return node;
+	}
+
+	// Cópia de caminho: devolve o nó novo; os nós fora do caminho são os mesmos
+	private static Node insert(Node node, Suggestion suggestion, int depth) {
+
+		if (depth == suggestion.suffixLength()) {
+			return new Node(node.label, node.firstChars, node.children, insertSorted(node.own, suggestion),
+					merge(node.best, suggestion));
+		}
+
+		char c = suggestion.charAt(depth);
+		int index = Arrays.binarySearch(node.firstChars, c);
+
+		if (index < 0) {
+			Suggestion[] own = { suggestion };
+			Node leaf = new Node(suggestion.suffix(depth), new char[0], new Node[0], own, own);
+			return node.withChild(-index - 1, leaf, true, merge(node.best, suggestion));
+		}
+
+		Node child = node.children[index];
+		int common = suggestion.commonPrefix(depth, child.label);
+
+		// Rótulo dividido: o nó do meio fica com o trecho comum
+		if (common < child.label.length()) {
+			Node tail = child.withLabel(child.label.substring(common));
+			child = new Node(child.label.substring(0, common), new char[] { tail.label.charAt(0) },
+					new Node[] { tail }, NONE, tail.best);
+		}
+
+		Node updated = insert(child, suggestion, depth + common);
+
+		return node.withChild(index, updated, false, merge(node.best, suggestion));
+	}
+
+	// Devolve null quando o nó fica vazio; o próprio nó quando a sugestão não existe
+	private static Node remove(Node node, Suggestion suggestion, int depth) {
+
+		Suggestion[] own = node.own;
+		Node[] children = node.children;
+		char[] firstChars = node.firstChars;
+
+		if (depth == suggestion.suffixLength()) {
+
+			int index = Arrays.binarySearch(own, suggestion);
+
+			if (index < 0) {
+				return node;
+			}
+
+			own = removeAt(own, index);
+		} else {
+
+			int index = Arrays.binarySearch(firstChars, suggestion.charAt(depth));
+
+			if (index < 0) {
+				return node;
+			}
+
+			Node child = children[index];
+
+			if (suggestion.commonPrefix(depth, child.label) < child.label.length()) {
+				return node;
+			}
+
+			Node updated = remove(child, suggestion, depth + child.label.length());
+
+			if (updated == child) {
+				return node;
+			}
+
+			if (updated == null) {
+				children = removeAt(children, index);
+				firstChars = removeAt(firstChars, index);
+			} else {
+				children = children.clone();
+				children[index] = updated;
+			}
+		}
+
+		if (own.length == 0 && children.length == 0) {
+			return null;
+		}
+
+		// Nó sem sugestões próprias e com um só filho é fundido com ele
+		// (a raiz, de rótulo vazio, nunca é fundida)
+		if (own.length == 0 && children.length == 1 && !node.label.isEmpty()) {
+			return children[0].withLabel(node.label + children[0].label);
+		}
+
+		Suggestion[] best = Arrays.asList(node.best).contains(suggestion) ? best(own, children) : node.best;
+
+		return new Node(node.label, firstChars, children, own, best);
+	}
+
+	// Entradas [from, to) ordenadas pelo sufixo e que compartilham "depth"
+	// caracteres. O rótulo do nó vai até o fim do trecho comum; a raiz tem
+	// rótulo vazio
+	private static Node build(List<Suggestion> entries, int from, int to, int depth, boolean root) {
+
+		Suggestion first = entries.get(from);
+		Suggestion last = entries.get(to - 1);
+
+		int end = root ? depth : depth + first.commonPrefix(depth, last);
+		String label = first.key.substring(first.offset + depth, first.offset + end);
+
+		// Sufixos que terminam neste nó vêm primeiro na ordenação
+		int firstChild = from;
+		while (firstChild < to && entries.get(firstChild).suffixLength() == end) {
+			firstChild++;
+		}
+
+		Suggestion[] own = entries.subList(from, firstChild).toArray(NONE);
+		Arrays.sort(own);
+
+		StringBuilder firstChars = new StringBuilder();
+		List<Node> children = new ArrayList<>();
+
+		int start = firstChild;
+		while (start < to) {
+
+			char c = entries.get(start).charAt(end);
+			int next = start + 1;
+
+			while (next < to && entries.get(next).charAt(end) == c) {
+				next++;
+			}
+
+			firstChars.append(c);
+			children.add(build(entries, start, next, end, false));
+			start = next;
+		}
+
+		Node[] childNodes = children.toArray(new Node[0]);
+
+		return new Node(label, firstChars.toString().toCharArray(), childNodes, own, best(own, childNodes));
+	}
+
+	// Melhores sugestões da subárvore, uma por nome. As próprias e as já
+	// calculadas nos filhos estão em ordem: a junção para nas MAX primeiras
+	private static Suggestion[] best(Suggestion[] own, Node[] children) {
+
+		// Folha: as próprias já estão em ordem e são de nomes distintos
+		if (children.length == 0 && own.length <= MAX_SUGGESTIONS) {
+			return own;
+		}
+
+		if (own.length == 0 && children.length == 1) {
+			return children[0].best;
+		}
+
+		Suggestion[][] lists = new Suggestion[children.length + 1][];
+		int[] positions = new int[lists.length];
+
+		lists[0] = own;
+		for (int i = 0; i < children.length; i++) {
+			lists[i + 1] = children[i].best;
+		}
+
+		List<Suggestion> best = new ArrayList<>(MAX_SUGGESTIONS);
+
+		while (best.size() < MAX_SUGGESTIONS) {
+
+			int next = -1;
+
+			for (int i = 0; i < lists.length; i++) {
+				if (positions[i] < lists[i].length
+						&& (next < 0 || lists[i][positions[i]].compareTo(lists[next][positions[next]]) < 0)) {
+					next = i;
+				}
+			}
+
+			if (next < 0) {
+				break;
+			}
+
+			Suggestion candidate = lists[next][positions[next]++];
+
+			// O mesmo nome pode aparecer por mais de uma palavra; a primeira é a melhor
+			if (!containsKey(best, candidate.key)) {
+				best.add(candidate);
+			}
+		}
+
+		return best.toArray(NONE);
+	}
+
+	// Inclui uma sugestão nas melhores já conhecidas sem olhar a subárvore
+	private static Suggestion[] merge(Suggestion[] best, Suggestion suggestion) {
+
+		List<Suggestion> merged = new ArrayList<>(Arrays.asList(best));
+
+		for (int i = 0; i < merged.size(); i++) {
+			if (merged.get(i).key.equals(suggestion.key)) {
+
+				if (merged.get(i).compareTo(suggestion) <= 0) {
+					return best;
+				}
+
+				merged.remove(i);
+				break;
+			}
+		}
+
+		int index = Collections.binarySearch(merged, suggestion);
+		merged.add(index < 0 ? -index - 1 : index, suggestion);
+
+		if (merged.size() > MAX_SUGGESTIONS) {
+			merged.remove(MAX_SUGGESTIONS);
+		}
+
+		return merged.toArray(NONE);
+	}
+
+	private static boolean containsKey(List<Suggestion> suggestions, String key) {
+		for (Suggestion suggestion : suggestions) {
+			if (suggestion.key.equals(key)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static Suggestion[] insertSorted(Suggestion[] array, Suggestion suggestion) {
+
+		int index = Arrays.binarySearch(array, suggestion);
+
+		if (index >= 0) {
+			return array;
+		}
+
+		index = -index - 1;
+
+		Suggestion[] result = Arrays.copyOf(array, array.length + 1);
+		System.arraycopy(array, index, result, index + 1, array.length - index);
+		result[index] = suggestion;
+
+		return result;
+	}
+
+	private static <T> T[] removeAt(T[] array, int index) {
+		T[] result = Arrays.copyOf(array, array.length - 1);
+		System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+		return result;
+	}
+
+	private static char[] removeAt(char[] array, int index) {
+		char[] result = Arrays.copyOf(array, array.length - 1);
+		System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+		return result;
+	}
+
+	private static List<Integer> wordStarts(String key) {
+
+		List<Integer> offsets = new ArrayList<>();
+
+		for (int offset = 0; offset < key.length(); offset++) {
+			if (Character.isLetterOrDigit(key.charAt(offset))
+					&& (offset == 0 || !Character.isLetterOrDigit(key.charAt(offset - 1)))) {
+				offsets.add(offset);
+			}
+		}
+
+		return offsets;
+	}
+
+	// Sufixo do nome normalizado a partir de uma palavra. A ordem natural é a
+	// de relevância: início do nome primeiro, depois nomes mais curtos e
+	// alfabética. O texto do sufixo não é copiado
+	private static final class Suggestion implements Comparable<Suggestion> {
+
+		private final String key;
+		private final String name;
+		private final int offset;
+
+		Suggestion(String key, String name, int offset) {
+			this.key = key;
+			this.name = name;
+			this.offset = offset;
+		}
+
+		int suffixLength() {
+			return key.length() - offset;
+		}
+
+		char charAt(int position) {
+			return key.charAt(offset + position);
+		}
+
+		String suffix(int position) {
+			return key.substring(offset + position);
+		}
+
+		// Caracteres iguais entre os dois sufixos a partir de "position"
+		int commonPrefix(int position, Suggestion other) {
+
+			int max = Math.min(suffixLength(), other.suffixLength());
+			int length = position;
+
+			while (length < max && charAt(length) == other.charAt(length)) {
+				length++;
+			}
+
+			return length - position;
+		}
+
+		// Caracteres iguais entre o sufixo (a partir de "position") e o texto
+		int commonPrefix(int position, String text) {
+
+			int max = Math.min(suffixLength() - position, text.length());
+			int length = 0;
+
+			while (length < max && charAt(position + length) == text.charAt(length)) {
+				length++;
+			}
+
+			return length;
+		}
+
+		static int compareSuffixes(Suggestion a, Suggestion b) {
+
+			int max = Math.min(a.suffixLength(), b.suffixLength());
+
+			for (int i = 0; i < max; i++) {
+				int diff = a.charAt(i) - b.charAt(i);
+				if (diff != 0) {
+					return diff;
+				}
+			}
+
+			return a.suffixLength() - b.suffixLength();
+		}
+
+		@Override
+		public int compareTo(Suggestion other) {
+
+			if ((offset == 0) != (other.offset == 0)) {
+				return offset == 0 ? -1 : 1;
+			}
+
+			int result = Integer.compare(key.length(), other.key.length());
+
+			if (result == 0) {
+				result = key.compareTo(other.key);
+			}
+			if (result == 0) {
+				result = Integer.compare(offset, other.offset);
+			}
+			if (result == 0) {
+				result = name.compareTo(other.name);
+			}
+
+			return result;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (!(obj instanceof Suggestion)) {
+				return false;
+			}
+
+			Suggestion other = (Suggestion) obj;
+
+			return offset == other.offset && key.equals(other.key) && name.equals(other.name);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(key, name, offset);
+		}
+
+	}
+
+	// Nó imutável da trie. "label" é o trecho entre o pai e este nó, "own" as
+	// sugestões cujo sufixo termina aqui e "best" as melhores da subárvore
+	private static final class Node {
+
+		private final String label;
+		private final char[] firstChars;
+		private final Node[] children;
+		private final Suggestion[] own;
+		private final Suggestion[] best;
+
+		Node(String label, char[] firstChars, Node[] children, Suggestion[] own, Suggestion[] best) {
+			this.label = label;
+			this.firstChars = firstChars;
+			this.children = children;
+			this.own = own;
+			this.best = best;
+		}
+
+		Node child(char c) {
+			int index = Arrays.binarySearch(firstChars, c);
+			return index < 0 ? null : children[index];
+		}
+
+		Node withLabel(String newLabel) {
+			return new Node(newLabel, firstChars, children, own, best);
+		}
+
+		// Troca (ou inclui, na posição informada) um filho
+		Node withChild(int index, Node child, boolean insert, Suggestion[] newBest) {
+
+			Node[] newChildren;
+			char[] newFirstChars;
+
+			if (insert) {
+				newChildren = new Node[children.length + 1];
+				System.arraycopy(children, 0, newChildren, 0, index);
+				System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+
+				newFirstChars = new char[firstChars.length + 1];
+				System.arraycopy(firstChars, 0, newFirstChars, 0, index);
+				System.arraycopy(firstChars, index, newFirstChars, index + 1, firstChars.length - index);
+				newFirstChars[index] = child.label.charAt(0);
+			} else {
+				// O primeiro caractere do filho não muda: o array é compartilhado
+				newChildren = children.clone();
+				newFirstChars = firstChars;
+			}
+
+			newChildren[index] = child;
+
+			return new Node(label, newFirstChars, newChildren, own, newBest);
+		}
+
+	}
+
+}
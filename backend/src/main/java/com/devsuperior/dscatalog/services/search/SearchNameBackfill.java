@@ -0,0 +1,70 @@
+package com.devsuperior.dscatalog.services.search;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.devsuperior.dscatalog.repositories.ProductRepository;
+
+// Migração única: preenche nm_product_search dos produtos gravados antes da
+// coluna existir. Roda em lotes, cada lote em sua própria transação, para não
+// travar a tabela inteira.
+// 2026-10-18 - A coluna é preenchida na gravação (hooks da entidade, import.sql
+// e trigger do db/07_product_search_trigger.sql para SQL direto), então o
+// backfill só roda quando ligado (catalog.backfill.search-name=true), uma vez,
+// ao migrar um banco antigo.
+@Component
+@ConditionalOnProperty(name = "catalog.backfill.search-name", havingValue = "true")
+public class SearchNameBackfill {
+
+	private static Logger logger = LoggerFactory.getLogger(SearchNameBackfill.class);
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Value("${catalog.backfill.batch-size:500}")
+	private Integer batchSize;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void run() {
+
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		long count = 0L;
+		int updated;
+
+		do {
+			updated = transactionTemplate.execute(status -> {
+
+				// Sempre a primeira página: as linhas atualizadas deixam de ser nulas
+				List<Object[]> rows = productRepository.findWithoutSearchName(PageRequest.of(0, batchSize));
+
+				for (Object[] row : rows) {
+					productRepository.updateSearchName((Long) row[0], SearchNormalizer.normalize((String) row[1]));
+				}
+
+				return rows.size();
+			});
+
+			count += updated;
+
+		} while (updated == batchSize);
+
+		if (count > 0) {
+			logger.info("Chave de busca preenchida em " + count + " produtos");
+		}
+	}
+
+}
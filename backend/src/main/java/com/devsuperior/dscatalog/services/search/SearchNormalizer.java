@@ -0,0 +1,47 @@
+package com.devsuperior.dscatalog.services.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+// Regras de normalização de texto compartilhadas pelos índices de busca.
+// "Eletrônicos  Usados" -> "eletronicos usados"
+public final class SearchNormalizer {
+
+	private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+	private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+	private static final Pattern TOKEN_SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+	private SearchNormalizer() {
+	}
+
+	// Minúsculas, sem acentos e com espaços colapsados
+	public static String normalize(String text) {
+
+		if (text == null) {
+			return "";
+		}
+
+		String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+		String withoutAccents = DIACRITICS.matcher(decomposed).replaceAll("");
+
+		return WHITESPACES.matcher(withoutAccents.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+	}
+
+	// Quebra o texto normalizado em termos alfanuméricos
+	public static List<String> tokenize(String text) {
+
+		List<String> tokens = new ArrayList<>();
+
+		for (String token : TOKEN_SEPARATORS.split(normalize(text))) {
+			if (!token.isEmpty()) {
+				tokens.add(token);
+			}
+		}
+
+		return tokens;
+	}
+
+}
@@ -0,0 +1,467 @@
+package com.devsuperior.dscatalog.services.stream;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.devsuperior.dscatalog.dto.CatalogEventDTO;
+import com.devsuperior.dscatalog.services.events.CategoryChangedEvent;
+import com.devsuperior.dscatalog.services.events.ProductChangedEvent;
+import com.devsuperior.dscatalog.services.exceptions.TooManyRequestsException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 2026-10-18 - Stream SSE das alterações de produtos e categorias, enviadas
+// após o commit (mesmos eventos dos índices e caches), para quem hoje faz
+// polling em /products.
+//
+// As conexões usam o processamento assíncrono do servlet: conexão parada não
+// ocupa thread. Um pool pequeno (catalog.stream.sender-threads) faz os envios
+// e cada assinante tem uma fila limitada (catalog.stream.buffer-size). Quando
+// a fila enche, conforme catalog.stream.overflow:
+// DROP_OLDEST - descarta os eventos mais antigos e avisa o cliente com um
+//               evento "overflow" (ressincronizar por /products/changes);
+// DISCONNECT  - encerra a conexão (o EventSource reconecta sozinho).
+// Comentários de heartbeat mantêm a conexão aberta em proxies e detectam
+// clientes que já foram embora.
+//
+// Um envio bloqueado (cliente que não lê, janela TCP cheia) prende a thread
+// até o timeout de escrita do Tomcat. Envio que passa de
+// catalog.stream.send-timeout-millis derruba o assinante e o pool ganha uma
+// thread no lugar da presa, até catalog.stream.max-stalled-senders: os
+// outros assinantes continuam recebendo. A thread extra sai quando o envio
+// preso termina. Cada cliente (IP) tem no máximo
+// catalog.stream.max-subscribers-per-client conexões.
+@Component
+public class CatalogEventStream {
+
+	private static Logger logger = LoggerFactory.getLogger(CatalogEventStream.class);
+
+	public enum OverflowPolicy {
+		DROP_OLDEST, DISCONNECT
+	}
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Value("${catalog.stream.buffer-size:256}")
+	private Integer bufferSize;
+
+	@Value("${catalog.stream.overflow:DROP_OLDEST}")
+	private OverflowPolicy overflowPolicy;
+
+	@Value("${catalog.stream.max-subscribers:20000}")
+	private Integer maxSubscribers;
+
+	@Value("${catalog.stream.max-subscribers-per-client:5}")
+	private Integer maxSubscribersPerClient;
+
+	@Value("${catalog.stream.sender-threads:4}")
+	private Integer senderThreads;
+
+	@Value("${catalog.stream.send-timeout-millis:5000}")
+	private Long sendTimeoutMillis;
+
+	// Threads extras no lugar das presas em envios lentos
+	@Value("${catalog.stream.max-stalled-senders:64}")
+	private Integer maxStalledSenders;
+
+	@Value("${catalog.stream.heartbeat-seconds:25}")
+	private Long heartbeatSeconds;
+
+	// Duração máxima da conexão; depois disso o cliente reconecta
+	@Value("${catalog.stream.timeout-minutes:30}")
+	private Long timeoutMinutes;
+
+	private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+	// Conexões abertas por cliente
+	private final Map<String, Integer> clients = new ConcurrentHashMap<>();
+
+	private final AtomicLong dropped = new AtomicLong();
+	private final AtomicLong disconnected = new AtomicLong();
+	private final AtomicLong stalled = new AtomicLong();
+
+	private ThreadPoolExecutor sender;
+	private ScheduledExecutorService heartbeat;
+
+	// Threads extras em uso no pool de envio (protegido pelo monitor do pool)
+	private int stalledSenders;
+
+	@PostConstruct
+	public void init() {
+
+		sender = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+				new LinkedBlockingQueue<>(), daemon("catalog-stream-sender"));
+		heartbeat = Executors.newSingleThreadScheduledExecutor(daemon("catalog-stream-heartbeat"));
+		heartbeat.scheduleWithFixedDelay(this::heartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+
+		long watchdogMillis = Math.max(sendTimeoutMillis / 2, 10L);
+		heartbeat.scheduleWithFixedDelay(this::evictStalled, watchdogMillis, watchdogMillis, TimeUnit.MILLISECONDS);
+
+		Gauge.builder("catalog.stream.subscribers", subscribers, Set::size)
+				.description("Conexões abertas no stream de alterações").register(meterRegistry);
+		FunctionCounter.builder("catalog.stream.dropped", dropped, AtomicLong::get)
+				.description("Eventos descartados por fila cheia").register(meterRegistry);
+		FunctionCounter.builder("catalog.stream.disconnected", disconnected, AtomicLong::get)
+				.description("Conexões encerradas por fila cheia").register(meterRegistry);
+		FunctionCounter.builder("catalog.stream.stalled", stalled, AtomicLong::get)
+				.description("Conexões encerradas por envio lento").register(meterRegistry);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		heartbeat.shutdownNow();
+		sender.shutdownNow();
+		subscribers.forEach(subscriber -> subscriber.emitter.complete());
+		subscribers.clear();
+		clients.clear();
+	}
+
+	// Categorias vazias recebem tudo. Devolve nulo quando o limite de conexões foi
+	// atingido; acima do limite do cliente lança TooManyRequestsException
+	public SseEmitter subscribe(Collection<Long> categoryIds, String client) {
+
+		if (subscribers.size() >= maxSubscribers) {
+			return null;
+		}
+
+		if (!acquire(client)) {
+			throw new TooManyRequestsException(
+					"Limite de " + maxSubscribersPerClient + " conexões no stream por cliente atingido");
+		}
+
+		SseEmitter emitter = newEmitter(TimeUnit.MINUTES.toMillis(timeoutMinutes));
+		Subscriber subscriber = new Subscriber(emitter, Set.copyOf(categoryIds), client, bufferSize);
+
+		emitter.onCompletion(() -> remove(subscriber));
+		emitter.onTimeout(() -> remove(subscriber));
+		emitter.onError(e -> remove(subscriber));
+
+		subscribers.add(subscriber);
+
+		return emitter;
+	}
+
+	SseEmitter newEmitter(long timeoutMillis) {
+		return new SseEmitter(timeoutMillis);
+	}
+
+	private boolean acquire(String client) {
+
+		AtomicBoolean acquired = new AtomicBoolean();
+
+		clients.compute(client, (key, count) -> {
+			int current = count == null ? 0 : count;
+			if (current >= maxSubscribersPerClient) {
+				return count;
+			}
+			acquired.set(true);
+			return current + 1;
+		});
+
+		return acquired.get();
+	}
+
+	// Tira o assinante uma única vez, devolvendo a vaga do cliente
+	private void remove(Subscriber subscriber) {
+		if (subscribers.remove(subscriber)) {
+			clients.computeIfPresent(subscriber.client, (key, count) -> count > 1 ? count - 1 : null);
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductChanged(ProductChangedEvent event) {
+
+		if (subscribers.isEmpty()) {
+			return;
+		}
+
+		// DELETE não informa as categorias do produto: vai para todos
+		Set<Long> categoryIds = event.getAffectedCategoryIds();
+
+		publish(new Message("product", toJson(new CatalogEventDTO<>(event.getType().name(), event.getProductId(),
+				event.getProduct()))), categoryIds);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onCategoryChanged(CategoryChangedEvent event) {
+
+		if (subscribers.isEmpty()) {
+			return;
+		}
+
+		publish(new Message("category", toJson(new CatalogEventDTO<>(event.getType().name(), event.getCategoryId(),
+				event.getCategory()))), Set.of(event.getCategoryId()));
+	}
+
+	// JSON gerado uma vez e compartilhado por todos os assinantes
+	private String toJson(Object event) {
+		try {
+			return objectMapper.writeValueAsString(event);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	// Nulo em categoryIds entrega para todos os assinantes
+	private void publish(Message message, Set<Long> categoryIds) {
+		for (Subscriber subscriber : subscribers) {
+			if (subscriber.accepts(categoryIds)) {
+				enqueue(subscriber, message);
+			}
+		}
+	}
+
+	private void enqueue(Subscriber subscriber, Message message) {
+
+		while (!subscriber.queue.offer(message)) {
+
+			if (overflowPolicy == OverflowPolicy.DISCONNECT) {
+				disconnected.incrementAndGet();
+				close(subscriber);
+				return;
+			}
+
+			if (subscriber.queue.poll() != null) {
+				subscriber.dropped.incrementAndGet();
+				dropped.incrementAndGet();
+			}
+		}
+
+		drain(subscriber);
+	}
+
+	// No máximo um envio em andamento por assinante: a ordem dos eventos é mantida
+	private void drain(Subscriber subscriber) {
+
+		if (!subscriber.draining.compareAndSet(false, true)) {
+			return;
+		}
+
+		sender.execute(() -> {
+			try {
+				long lost = subscriber.dropped.getAndSet(0);
+
+				if (lost > 0) {
+					send(subscriber, SseEmitter.event().name("overflow").data(lost));
+				}
+
+				Message message;
+
+				while ((message = subscriber.queue.poll()) != null) {
+					if (message == Message.HEARTBEAT) {
+						send(subscriber, SseEmitter.event().comment("heartbeat"));
+					} else {
+						send(subscriber, SseEmitter.event().name(message.name).data(message.json));
+					}
+				}
+			} catch (IOException | IllegalStateException e) {
+				// Cliente desconectado ou conexão já encerrada
+				close(subscriber);
+			} finally {
+				subscriber.draining.set(false);
+			}
+
+			// Derrubado por envio lento enquanto a thread estava presa: encerra a conexão
+			if (!subscribers.contains(subscriber)) {
+				close(subscriber);
+				return;
+			}
+
+			// Evento que chegou entre o último poll e a liberação do envio
+			if (!subscriber.queue.isEmpty()) {
+				drain(subscriber);
+			}
+		});
+	}
+
+	// Envio com o início marcado para o watchdog (evictStalled)
+	private void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) throws IOException {
+
+		synchronized (subscriber) {
+			subscriber.sendStartedNanos = System.nanoTime();
+		}
+
+		try {
+			subscriber.emitter.send(event);
+		} finally {
+			synchronized (subscriber) {
+				subscriber.sendStartedNanos = 0L;
+
+				// O envio preso terminou: a thread extra posta no lugar dela sai do pool
+				if (subscriber.stalled) {
+					subscriber.stalled = false;
+					resizeSender(-1);
+				}
+			}
+		}
+	}
+
+	// Derruba os assinantes com envio em andamento há mais que o limite. O
+	// emitter não é encerrado aqui (ficaria esperando o envio preso): quem
+	// encerra é a thread de envio quando a escrita terminar ou falhar
+	private void evictStalled() {
+		try {
+			long now = System.nanoTime();
+			long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+
+			for (Subscriber subscriber : subscribers) {
+				synchronized (subscriber) {
+
+					long started = subscriber.sendStartedNanos;
+
+					if (started == 0L || now - started < timeoutNanos) {
+						continue;
+					}
+
+					stalled.incrementAndGet();
+					remove(subscriber);
+					subscriber.queue.clear();
+					subscriber.stalled = resizeSender(1);
+				}
+			}
+		} catch (RuntimeException e) {
+			logger.warn("Falha ao verificar envios lentos do stream de alterações", e);
+		}
+	}
+
+	// Aumenta ou diminui as threads de envio. Devolve falso quando o limite
+	// de threads extras já foi atingido
+	private boolean resizeSender(int delta) {
+		synchronized (sender) {
+
+			if (delta > 0 && stalledSenders >= maxStalledSenders) {
+				logger.warn("Limite de threads extras do stream de alterações atingido (" + maxStalledSenders + ")");
+				return false;
+			}
+
+			stalledSenders += delta;
+			int threads = senderThreads + stalledSenders;
+
+			// O máximo nunca pode ficar abaixo do mínimo durante a troca
+			if (delta > 0) {
+				sender.setMaximumPoolSize(threads);
+				sender.setCorePoolSize(threads);
+			} else {
+				sender.setCorePoolSize(threads);
+				sender.setMaximumPoolSize(threads);
+			}
+
+			return true;
+		}
+	}
+
+	// Heartbeat só entra em fila vazia: com eventos pendentes ele não é necessário
+	private void heartbeat() {
+		try {
+			for (Subscriber subscriber : subscribers) {
+				if (subscriber.queue.isEmpty() && subscriber.queue.offer(Message.HEARTBEAT)) {
+					drain(subscriber);
+				}
+			}
+		} catch (RuntimeException e) {
+			logger.warn("Falha no heartbeat do stream de alterações", e);
+		}
+	}
+
+	private void close(Subscriber subscriber) {
+		remove(subscriber);
+		subscriber.queue.clear();
+		try {
+			subscriber.emitter.complete();
+		} catch (IllegalStateException e) {
+			// já encerrado
+		}
+	}
+
+	private static ThreadFactory daemon(String name) {
+		AtomicLong count = new AtomicLong();
+		return runnable -> {
+			Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	private static class Message {
+
+		static final Message HEARTBEAT = new Message(null, null);
+
+		final String name;
+		final String json;
+
+		Message(String name, String json) {
+			this.name = name;
+			this.json = json;
+		}
+	}
+
+	private static class Subscriber {
+
+		final SseEmitter emitter;
+		final Set<Long> categoryIds;
+		final String client;
+		final BlockingQueue<Message> queue;
+		final AtomicBoolean draining = new AtomicBoolean();
+		final AtomicLong dropped = new AtomicLong();
+
+		// Início do envio em andamento (zero sem envio) e se o watchdog já
+		// pôs uma thread no lugar dele. Protegidos pelo monitor do assinante
+		long sendStartedNanos;
+		boolean stalled;
+
+		Subscriber(SseEmitter emitter, Set<Long> categoryIds, String client, int bufferSize) {
+			this.emitter = emitter;
+			this.categoryIds = categoryIds;
+			this.client = client;
+			this.queue = new ArrayBlockingQueue<>(bufferSize);
+		}
+
+		boolean accepts(Set<Long> eventCategoryIds) {
+
+			if (categoryIds.isEmpty() || eventCategoryIds == null) {
+				return true;
+			}
+
+			for (Long categoryId : eventCategoryIds) {
+				if (categoryIds.contains(categoryId)) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+	}
+
+}
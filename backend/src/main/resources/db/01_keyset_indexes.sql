@@ -0,0 +1,7 @@
+-- Scripts manuais para os bancos PostgreSQL de dev e prod (ddl-auto=none)
+-- Executar uma vez antes de publicar a versão correspondente
+
+-- Paginação por cursor ordenada por nome: /products?after=&sort=name
+CREATE INDEX IF NOT EXISTS ix_product_name_id ON tb_product (nm_product, id_product);
+
+-- A paginação de usuários por email usa o índice único já existente em tb_user(email)
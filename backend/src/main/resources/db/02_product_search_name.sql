@@ -0,0 +1,9 @@
+-- Nome normalizado (minúsculas, sem acentos, espaços colapsados) para as buscas por nome
+-- A aplicação preenche a coluna ao gravar. As linhas antigas são preenchidas uma única
+-- vez pelo SearchNameBackfill (catalog.backfill.search-name=true), com a mesma
+-- normalização do código Java
+ALTER TABLE tb_product ADD COLUMN IF NOT EXISTS nm_product_search VARCHAR(255);
+
+-- A busca é por "contém" (LIKE '%termo%'), atendida por índice trigram
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS ix_product_search_trgm ON tb_product USING gin (nm_product_search gin_trgm_ops);
@@ -0,0 +1,4 @@
+-- Versão das entidades (@Version), usada no controle otimista e nos ETags
+-- Registros existentes começam na versão 0
+ALTER TABLE tb_product ADD COLUMN IF NOT EXISTS nr_version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tb_category ADD COLUMN IF NOT EXISTS nr_version BIGINT NOT NULL DEFAULT 0;
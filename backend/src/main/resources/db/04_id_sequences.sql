@@ -0,0 +1,19 @@
+-- Ids por sequence no lugar do IDENTITY (PooledSequenceGenerator, otimizador pooled-lo)
+-- O INCREMENT BY deve ser igual a catalog.id.allocation-size (application.properties)
+CREATE SEQUENCE IF NOT EXISTS sq_category INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS sq_product INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS sq_role INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS sq_user INCREMENT BY 50;
+
+-- Próximo nextval devolve o primeiro id livre de cada tabela
+SELECT setval('sq_category', (SELECT COALESCE(MAX(id_category), 0) + 1 FROM tb_category), false);
+SELECT setval('sq_product', (SELECT COALESCE(MAX(id_product), 0) + 1 FROM tb_product), false);
+SELECT setval('sq_role', (SELECT COALESCE(MAX(id_role), 0) + 1 FROM tb_role), false);
+SELECT setval('sq_user', (SELECT COALESCE(MAX(id_user), 0) + 1 FROM tb_user), false);
+
+-- A aplicação passa a informar o id: o DEFAULT do antigo bigserial deixa de ser usado.
+-- As sequences antigas (tb_*_id_*_seq) ficam no banco para eventual retorno
+ALTER TABLE tb_category ALTER COLUMN id_category DROP DEFAULT;
+ALTER TABLE tb_product ALTER COLUMN id_product DROP DEFAULT;
+ALTER TABLE tb_role ALTER COLUMN id_role DROP DEFAULT;
+ALTER TABLE tb_user ALTER COLUMN id_user DROP DEFAULT;
@@ -0,0 +1,26 @@
+-- Registro de alterações de produtos (GET /products/changes). id_change é a marca d'água
+-- e a chave primária atende a leitura em ordem (WHERE id_change > ? ORDER BY id_change)
+CREATE TABLE IF NOT EXISTS tb_product_change (
+	id_change BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+	id_product BIGINT NOT NULL,
+	tp_change VARCHAR(10) NOT NULL,
+	changed_at TIMESTAMP WITHOUT TIME ZONE NOT NULL
+);
+
+-- Carga inicial: os produtos atuais entram como UPSERT, assim a primeira
+-- sincronização (since=0) também pode ser feita pelo feed
+INSERT INTO tb_product_change (id_product, tp_change, changed_at)
+SELECT id_product, 'UPSERT', now() FROM tb_product ORDER BY id_product;
+
+-- Ordem e limpeza do registro (ProductChangeLog e ProductChangeRetention).
+-- A linha 1 é bloqueada por quem grava alterações até o commit, então os ids
+-- saem na ordem dos commits; purged_until guarda a maior lápide já apagada
+CREATE TABLE IF NOT EXISTS tb_product_change_control (
+	id_control BIGINT PRIMARY KEY,
+	purged_until BIGINT NOT NULL
+);
+
+INSERT INTO tb_product_change_control (id_control, purged_until) VALUES (1, 0) ON CONFLICT DO NOTHING;
+
+-- A limpeza procura, por produto, alteração mais nova que a linha apagada
+CREATE INDEX IF NOT EXISTS ix_product_change_product ON tb_product_change (id_product, id_change);
@@ -0,0 +1,10 @@
+-- Tokens JWT revogados (logout e refresh tokens já usados), pelo "jti".
+-- expires_at atende a limpeza periódica e revoked_at a sincronização entre instâncias
+CREATE TABLE IF NOT EXISTS tb_revoked_token (
+	id_token VARCHAR(64) PRIMARY KEY,
+	expires_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+	revoked_at TIMESTAMP WITHOUT TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS ix_revoked_token_expires_at ON tb_revoked_token (expires_at);
+CREATE INDEX IF NOT EXISTS ix_revoked_token_revoked_at ON tb_revoked_token (revoked_at);
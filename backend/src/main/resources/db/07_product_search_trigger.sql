@@ -0,0 +1,19 @@
+-- Chave de busca (nm_product_search) calculada pelo banco
+-- Gravações fora da aplicação (SQL direto, cargas) também preenchem a
+-- coluna: sem valor informado ou com o nome alterado sem a chave, o trigger calcula
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+CREATE OR REPLACE FUNCTION fn_product_search_name() RETURNS trigger AS $$
+BEGIN
+	IF NEW.nm_product_search IS NULL
+			OR (TG_OP = 'UPDATE' AND NEW.nm_product IS DISTINCT FROM OLD.nm_product
+				AND NEW.nm_product_search IS NOT DISTINCT FROM OLD.nm_product_search) THEN
+		NEW.nm_product_search := lower(regexp_replace(btrim(unaccent(NEW.nm_product)), '\s+', ' ', 'g'));
+	END IF;
+	RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS tg_product_search_name ON tb_product;
+CREATE TRIGGER tg_product_search_name BEFORE INSERT OR UPDATE ON tb_product
+	FOR EACH ROW EXECUTE FUNCTION fn_product_search_name();
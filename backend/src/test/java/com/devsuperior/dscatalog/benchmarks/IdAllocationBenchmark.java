@@ -0,0 +1,161 @@
+package com.devsuperior.dscatalog.benchmarks;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Vazão de INSERT com id IDENTITY (uma execução por linha para obter o id
+// gerado, como o Hibernate faz) contra id de sequence em blocos (um nextval
+// a cada ALLOCATION_SIZE linhas e INSERT em lote), que é o que o
+// PooledSequenceGenerator permite. Resultado em inserções por segundo.
+//
+// Bancos: H2 em memória e H2 no modo PostgreSQL. Para um Postgres local:
+// -p url=jdbc:postgresql://localhost:5432/dscatalog -p user=postgres -p password=admin
+//
+// Executar: rodar o método main pela IDE ou
+// java -cp target/test-classes:target/classes:<classpath de teste> com.devsuperior.dscatalog.benchmarks.IdAllocationBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdAllocationBenchmark {
+
+	private static final int ROWS = 1000;
+	private static final int ALLOCATION_SIZE = 50;
+
+	@Param({ "jdbc:h2:mem:ids_bench", "jdbc:h2:mem:ids_bench_pg;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE" })
+	private String url;
+
+	@Param({ "sa" })
+	private String user;
+
+	@Param({ "" })
+	private String password;
+
+	private Connection connection;
+
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException {
+
+		connection = DriverManager.getConnection(url, user, password);
+		connection.setAutoCommit(false);
+
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("DROP TABLE IF EXISTS bench_identity");
+			statement.execute("DROP TABLE IF EXISTS bench_sequence");
+			statement.execute("DROP SEQUENCE IF EXISTS sq_bench");
+			statement.execute("CREATE TABLE bench_identity (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+					+ " name VARCHAR(255), price DOUBLE PRECISION)");
+			statement.execute("CREATE TABLE bench_sequence (id BIGINT PRIMARY KEY, name VARCHAR(255), price DOUBLE PRECISION)");
+			statement.execute("CREATE SEQUENCE sq_bench INCREMENT BY " + ALLOCATION_SIZE);
+		}
+
+		connection.commit();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("DROP TABLE bench_identity");
+			statement.execute("DROP TABLE bench_sequence");
+			statement.execute("DROP SEQUENCE sq_bench");
+		}
+
+		connection.commit();
+		connection.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROWS)
+	public long identity() throws SQLException {
+
+		long lastId = 0L;
+
+		try (PreparedStatement insert = connection.prepareStatement(
+				"INSERT INTO bench_identity (name, price) VALUES (?, ?)", new String[] { "id" })) {
+
+			for (int i = 0; i < ROWS; i++) {
+				insert.setString(1, "Produto " + i);
+				insert.setDouble(2, i);
+				insert.executeUpdate();
+
+				try (ResultSet keys = insert.getGeneratedKeys()) {
+					keys.next();
+					lastId = keys.getLong(1);
+				}
+			}
+		}
+
+		connection.commit();
+		return lastId;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROWS)
+	public long pooledSequence() throws SQLException {
+
+		long next = 0L;
+		long blockEnd = 0L;
+
+		try (PreparedStatement nextval = connection.prepareStatement("SELECT nextval('sq_bench')");
+				PreparedStatement insert = connection.prepareStatement(
+						"INSERT INTO bench_sequence (id, name, price) VALUES (?, ?, ?)")) {
+
+			for (int i = 0; i < ROWS; i++) {
+
+				// pooled-lo: o valor da sequence é o primeiro id do bloco
+				if (next == blockEnd) {
+					try (ResultSet result = nextval.executeQuery()) {
+						result.next();
+						next = result.getLong(1);
+						blockEnd = next + ALLOCATION_SIZE;
+					}
+				}
+
+				insert.setLong(1, next++);
+				insert.setString(2, "Produto " + i);
+				insert.setDouble(3, i);
+				insert.addBatch();
+
+				if ((i + 1) % ALLOCATION_SIZE == 0) {
+					insert.executeBatch();
+				}
+			}
+
+			insert.executeBatch();
+		}
+
+		connection.commit();
+		return next;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(IdAllocationBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
@@ -0,0 +1,119 @@
+package com.devsuperior.dscatalog.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.ServletException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+import org.springframework.security.oauth2.provider.authentication.OAuth2AuthenticationManager;
+import org.springframework.security.oauth2.provider.authentication.OAuth2AuthenticationProcessingFilter;
+import org.springframework.security.oauth2.provider.token.DefaultTokenServices;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
+import org.springframework.security.oauth2.provider.token.store.JwtTokenStore;
+
+import com.devsuperior.dscatalog.components.CachingJwtTokenStore;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Custo do filtro do resource server (OAuth2AuthenticationProcessingFilter)
+// para uma requisição com Bearer token: JwtTokenStore, que verifica e
+// decodifica o JWT a cada chamada, contra CachingJwtTokenStore, que repete o
+// mesmo token já verificado (caso das ferramentas de administração).
+// Mesma montagem do ResourceServerConfig, sem subir a aplicação.
+//
+// Executar: rodar o método main pela IDE ou
+// java -cp target/test-classes:target/classes:<classpath de teste> com.devsuperior.dscatalog.benchmarks.JwtAuthenticationBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+
+	@Param({ "false", "true" })
+	private boolean cached;
+
+	private OAuth2AuthenticationProcessingFilter filter;
+	private String authorization;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+
+		JwtAccessTokenConverter converter = new JwtAccessTokenConverter();
+		converter.setSigningKey("MY-JWT-SECRET");
+		converter.afterPropertiesSet();
+
+		JwtTokenStore tokenStore = cached ? new CachingJwtTokenStore(converter, 10000, 86400000L, new SimpleMeterRegistry())
+				: new JwtTokenStore(converter);
+
+		DefaultTokenServices tokenServices = new DefaultTokenServices();
+		tokenServices.setTokenStore(tokenStore);
+		tokenServices.setTokenEnhancer(converter);
+		tokenServices.setAccessTokenValiditySeconds(86400);
+
+		// Token igual ao emitido pelo /oauth/token: cliente, escopos e perfis do usuário
+		List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_OPERATOR"),
+				new SimpleGrantedAuthority("ROLE_ADMIN"));
+		OAuth2Request request = new OAuth2Request(Map.of(), "dscatalog", authorities, true, Set.of("read", "write"),
+				null, null, null, null);
+		Authentication user = new UsernamePasswordAuthenticationToken("maria@gmail.com", null, authorities);
+
+		authorization = "Bearer " + tokenServices.createAccessToken(new OAuth2Authentication(request, user)).getValue();
+
+		OAuth2AuthenticationManager authenticationManager = new OAuth2AuthenticationManager();
+		authenticationManager.setTokenServices(tokenServices);
+
+		filter = new OAuth2AuthenticationProcessingFilter();
+		filter.setAuthenticationManager(authenticationManager);
+		filter.afterPropertiesSet();
+	}
+
+	@Benchmark
+	public Object authenticate() throws IOException, ServletException {
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/products");
+		request.addHeader("Authorization", authorization);
+
+		MockFilterChain chain = new MockFilterChain();
+
+		try {
+			filter.doFilter(request, new MockHttpServletResponse(), chain);
+			return SecurityContextHolder.getContext().getAuthentication();
+		} finally {
+			SecurityContextHolder.clearContext();
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(JwtAuthenticationBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
@@ -0,0 +1,96 @@
+package com.devsuperior.dscatalog.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.devsuperior.dscatalog.DscatalogApplication;
+import com.devsuperior.dscatalog.dto.ProductDTO;
+import com.devsuperior.dscatalog.entities.Product;
+import com.devsuperior.dscatalog.repositories.ProductRepository;
+
+// Compara a listagem antiga (página de entidades + COUNT + JOIN FETCH das
+// categorias + conversão para DTO) com a consulta única em DTO
+// (findProductListing), sobre o H2 do perfil test com o import.sql.
+// O GCProfiler mostra a alocação por operação (gc.alloc.rate.norm).
+//
+// Executar: rodar o método main pela IDE ou
+// java -cp target/test-classes:target/classes:<classpath de teste> com.devsuperior.dscatalog.benchmarks.ProductListingBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductListingBenchmark {
+
+	private ConfigurableApplicationContext context;
+	private ProductRepository productRepository;
+	private TransactionTemplate readOnlyTransaction;
+	private Pageable pageable;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+
+		context = SpringApplication.run(DscatalogApplication.class, "--spring.profiles.active=test",
+				"--spring.jpa.show-sql=false", "--logging.level.root=WARN");
+
+		productRepository = context.getBean(ProductRepository.class);
+
+		readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+		readOnlyTransaction.setReadOnly(true);
+
+		pageable = PageRequest.of(0, 12, Sort.by("name"));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public Page<ProductDTO> entityListing() {
+
+		return readOnlyTransaction.execute(status -> {
+
+			Page<Product> page = productRepository.findProductCategory(pageable, null, "");
+			productRepository.findProductsWithCategories(page.getContent());
+
+			return page.map(product -> new ProductDTO(product, product.getCategories()));
+		});
+	}
+
+	@Benchmark
+	public Page<ProductDTO> projectionListing() {
+		return readOnlyTransaction.execute(status -> productRepository.findProductListing(pageable, 0L, ""));
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(ProductListingBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class).build()).run();
+	}
+
+}
@@ -0,0 +1,181 @@
+package com.devsuperior.dscatalog.benchmarks;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.devsuperior.dscatalog.dto.CategoryDTO;
+import com.devsuperior.dscatalog.dto.ProductDTO;
+import com.devsuperior.dscatalog.services.search.ProductSearchIndex;
+
+// Compara a busca por nome atual (LOWER(nm_product) LIKE '%x%' + COUNT no H2)
+// com o índice invertido em memória, sobre 1M de produtos sintéticos.
+// Nos dois casos o resultado é a página de ids e o total. A hidratação
+// dos produtos da página é igual nos dois caminhos e fica de fora.
+//
+// Executar: rodar o método main pela IDE ou
+// java -cp target/test-classes:target/classes:<classpath de teste> com.devsuperior.dscatalog.benchmarks.ProductSearchBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = { "-Xmx4g" })
+public class ProductSearchBenchmark {
+
+	private static final String[] BRANDS = { "Dell", "Apple", "Samsung", "Lenovo", "Asus", "Acer", "Positivo",
+			"Multilaser", "Philco", "LG" };
+
+	private static final String[] TYPES = { "Notebook", "Smart TV", "PC Gamer", "Monitor", "Teclado", "Mouse",
+			"Headset", "Cadeira", "Livro", "Tablet", "Celular", "Impressora" };
+
+	private static final String[] ADJECTIVES = { "Pro", "Max", "Ultra", "Plus", "Lite", "Turbo", "Nitro", "Alfa",
+			"Hera", "Tera" };
+
+	private static final String LIKE_SQL = "SELECT DISTINCT p.id_product, p.nm_product FROM tb_product p "
+			+ "INNER JOIN tb_product_category pc ON pc.id_product = p.id_product "
+			+ "WHERE LOWER(p.nm_product) LIKE ? ORDER BY p.nm_product, p.id_product LIMIT 12";
+
+	private static final String COUNT_SQL = "SELECT COUNT(DISTINCT p.id_product) FROM tb_product p "
+			+ "INNER JOIN tb_product_category pc ON pc.id_product = p.id_product "
+			+ "WHERE LOWER(p.nm_product) LIKE ?";
+
+	@Param({ "1000000" })
+	private int products;
+
+	@Param({ "gamer", "dell notebook" })
+	private String query;
+
+	private Connection connection;
+	private ProductSearchIndex index;
+	private Pageable pageable;
+
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException {
+
+		connection = DriverManager.getConnection("jdbc:h2:mem:search-benchmark;DB_CLOSE_DELAY=-1", "sa", "");
+
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("CREATE TABLE tb_product (id_product BIGINT PRIMARY KEY, nm_product VARCHAR(255), "
+					+ "ds_product TEXT)");
+			statement.execute("CREATE TABLE tb_product_category (id_product BIGINT, id_category BIGINT, "
+					+ "PRIMARY KEY (id_product, id_category))");
+		}
+
+		index = new ProductSearchIndex();
+		Random random = new Random(42);
+
+		connection.setAutoCommit(false);
+
+		try (PreparedStatement insertProduct = connection.prepareStatement("INSERT INTO tb_product VALUES (?, ?, ?)");
+				PreparedStatement insertCategory = connection
+						.prepareStatement("INSERT INTO tb_product_category VALUES (?, ?)")) {
+
+			for (long id = 1; id <= products; id++) {
+
+				String name = BRANDS[random.nextInt(BRANDS.length)] + " " + TYPES[random.nextInt(TYPES.length)] + " "
+						+ ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + id;
+				String description = "Produto " + name + " com garantia de fábrica";
+				long categoryId = 1 + random.nextInt(3);
+
+				insertProduct.setLong(1, id);
+				insertProduct.setString(2, name);
+				insertProduct.setString(3, description);
+				insertProduct.addBatch();
+
+				insertCategory.setLong(1, id);
+				insertCategory.setLong(2, categoryId);
+				insertCategory.addBatch();
+
+				if (id % 10_000 == 0) {
+					insertProduct.executeBatch();
+					insertCategory.executeBatch();
+				}
+
+				ProductDTO product = new ProductDTO(id, name, description, 100.0, null, null);
+				product.getCategories().add(new CategoryDTO(categoryId, "Categoria " + categoryId));
+				index.index(product);
+			}
+
+			insertProduct.executeBatch();
+			insertCategory.executeBatch();
+		}
+
+		connection.commit();
+		index.markReady();
+
+		pageable = PageRequest.of(0, 12, Sort.by("name"));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		connection.close();
+	}
+
+	@Benchmark
+	public long likeScan() throws SQLException {
+
+		String pattern = "%" + query.toLowerCase() + "%";
+		List<Long> ids = new ArrayList<>();
+		long total = 0;
+
+		try (PreparedStatement statement = connection.prepareStatement(LIKE_SQL)) {
+			statement.setString(1, pattern);
+			try (ResultSet resultSet = statement.executeQuery()) {
+				while (resultSet.next()) {
+					ids.add(resultSet.getLong(1));
+				}
+			}
+		}
+
+		try (PreparedStatement statement = connection.prepareStatement(COUNT_SQL)) {
+			statement.setString(1, pattern);
+			try (ResultSet resultSet = statement.executeQuery()) {
+				resultSet.next();
+				total = resultSet.getLong(1);
+			}
+		}
+
+		return total + ids.size();
+	}
+
+	@Benchmark
+	public long invertedIndex() {
+
+		ProductSearchIndex.SearchResult result = index.page(index.match(query), pageable);
+
+		return result.getTotal() + result.getIds().size();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(ProductSearchBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
@@ -0,0 +1,88 @@
+package com.devsuperior.dscatalog.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.devsuperior.dscatalog.services.revocation.RevocationList;
+
+// Custo da consulta de revogação feita a cada requisição autenticada
+// (RevocationList.isRevoked) com "revoked" tokens revogados: jti não
+// revogado, que é o caso comum e para no filtro de Bloom, e jti revogado,
+// que passa pelo filtro e pelo conjunto exato.
+//
+// Executar: rodar o método main pela IDE ou
+// java -cp target/test-classes:target/classes:<classpath de teste> com.devsuperior.dscatalog.benchmarks.RevocationListBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RevocationListBenchmark {
+
+	private static final int SAMPLES = 1024;
+
+	@Param({ "10000", "1000000" })
+	private int revoked;
+
+	private RevocationList revocationList;
+
+	private String[] revokedIds;
+	private String[] activeIds;
+
+	private int next;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+
+		revocationList = new RevocationList(100000, 0.001);
+		revokedIds = new String[SAMPLES];
+		activeIds = new String[SAMPLES];
+
+		long expiresAt = System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1);
+
+		for (int i = 0; i < revoked; i++) {
+			String jti = UUID.randomUUID().toString();
+			revocationList.add(jti, expiresAt);
+
+			if (i < SAMPLES) {
+				revokedIds[i] = jti;
+			}
+		}
+
+		for (int i = 0; i < SAMPLES; i++) {
+			activeIds[i] = UUID.randomUUID().toString();
+		}
+	}
+
+	@Benchmark
+	public boolean notRevoked() {
+		return revocationList.isRevoked(activeIds[next++ & (SAMPLES - 1)]);
+	}
+
+	@Benchmark
+	public boolean revoked() {
+		return revocationList.isRevoked(revokedIds[next++ & (SAMPLES - 1)]);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(RevocationListBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
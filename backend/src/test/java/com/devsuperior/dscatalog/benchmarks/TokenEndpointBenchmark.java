@@ -0,0 +1,132 @@
+package com.devsuperior.dscatalog.benchmarks;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.devsuperior.dscatalog.DscatalogApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Vazão do POST /oauth/token (requisições por segundo) com grant_type=password,
+// que confere a senha do usuário no BCrypt, contra grant_type=refresh_token,
+// que não calcula nenhum hash lento (segredo do cliente em SHA-256 e nenhuma
+// senha). Aplicação completa no perfil test, chamada por HTTP em porta livre.
+//
+// Para medir com concorrência: -t 8 na linha de comando do JMH.
+//
+// Executar: rodar o método main pela IDE ou
+// java -cp target/test-classes:target/classes:<classpath de teste> com.devsuperior.dscatalog.benchmarks.TokenEndpointBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenEndpointBenchmark {
+
+	private static final String USERNAME = "maria@gmail.com";
+	private static final String PASSWORD = "123456";
+
+	private ConfigurableApplicationContext context;
+	private ObjectMapper objectMapper;
+	private HttpClient client;
+	private URI tokenUri;
+	private String basicAuth;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+
+		context = SpringApplication.run(DscatalogApplication.class, "--spring.profiles.active=test",
+				"--spring.jpa.show-sql=false", "--logging.level.root=WARN", "--server.port=0");
+
+		objectMapper = context.getBean(ObjectMapper.class);
+		client = HttpClient.newHttpClient();
+		tokenUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+				+ "/oauth/token");
+
+		String clientId = context.getEnvironment().getProperty("security.oauth2.client.client-id");
+		String clientSecret = context.getEnvironment().getProperty("security.oauth2.client.client-secret");
+		basicAuth = "Basic " + Base64.getEncoder()
+				.encodeToString((clientId + ":" + clientSecret).getBytes(StandardCharsets.UTF_8));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	// Refresh token de cada thread. A rotação devolve um novo a cada renovação
+	@State(Scope.Thread)
+	public static class Session {
+
+		String refreshToken;
+
+		@Setup(Level.Iteration)
+		public void login(TokenEndpointBenchmark benchmark) throws IOException, InterruptedException {
+			refreshToken = benchmark.passwordGrant().get("refresh_token").asText();
+		}
+	}
+
+	@Benchmark
+	public JsonNode passwordGrant() throws IOException, InterruptedException {
+		return token("grant_type=password&username=" + encode(USERNAME) + "&password=" + encode(PASSWORD));
+	}
+
+	@Benchmark
+	public JsonNode refreshGrant(Session session) throws IOException, InterruptedException {
+
+		JsonNode token = token("grant_type=refresh_token&refresh_token=" + encode(session.refreshToken));
+		session.refreshToken = token.get("refresh_token").asText();
+
+		return token;
+	}
+
+	private JsonNode token(String form) throws IOException, InterruptedException {
+
+		HttpRequest request = HttpRequest.newBuilder(tokenUri).header("Authorization", basicAuth)
+				.header("Content-Type", "application/x-www-form-urlencoded")
+				.POST(HttpRequest.BodyPublishers.ofString(form)).build();
+
+		HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+		if (response.statusCode() != 200) {
+			throw new IllegalStateException("POST /oauth/token: " + response.statusCode() + " " + response.body());
+		}
+
+		return objectMapper.readTree(response.body());
+	}
+
+	private static String encode(String value) {
+		return URLEncoder.encode(value, StandardCharsets.UTF_8);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(TokenEndpointBenchmark.class.getSimpleName()).build()).run();
+	}
+
+}
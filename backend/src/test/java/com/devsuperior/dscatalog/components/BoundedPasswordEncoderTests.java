@@ -0,0 +1,112 @@
+package com.devsuperior.dscatalog.components;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.devsuperior.dscatalog.services.exceptions.ServiceBusyException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class BoundedPasswordEncoderTests {
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private BlockingEncoder delegate;
+
+	private BoundedPasswordEncoder encoder;
+
+	private ExecutorService callers;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		meterRegistry = new SimpleMeterRegistry();
+		delegate = new BlockingEncoder();
+		callers = Executors.newFixedThreadPool(2);
+
+		// Uma thread de hash, um lugar na fila e 200 ms de espera
+		encoder = new BoundedPasswordEncoder(delegate, 1, 1, 200L, meterRegistry);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		delegate.release.countDown();
+		callers.shutdownNow();
+		encoder.shutdown();
+	}
+
+	@Test
+	public void matchesShouldReturnDelegateResult() {
+
+		delegate.release.countDown();
+
+		Assertions.assertTrue(encoder.matches("123456", "123456"));
+		Assertions.assertFalse(encoder.matches("123456", "654321"));
+	}
+
+	@Test
+	public void matchesShouldThrowServiceBusyExceptionWhenHashExceedsTimeout() {
+
+		long start = System.nanoTime();
+
+		Assertions.assertThrows(ServiceBusyException.class, () -> encoder.matches("123456", "123456"));
+
+		// A requisição é liberada no tempo de espera, sem esperar o hash terminar
+		Assertions.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 2000L);
+		Assertions.assertEquals(1.0, meterRegistry.get("catalog.password.timeouts").counter().count());
+	}
+
+	@Test
+	public void matchesShouldThrowServiceBusyExceptionWhenQueueIsFull() throws Exception {
+
+		// Espera longa: aqui só a fila cheia deve recusar
+		encoder.shutdown();
+		meterRegistry = new SimpleMeterRegistry();
+		encoder = new BoundedPasswordEncoder(delegate, 1, 1, 10000L, meterRegistry);
+
+		// Um hash em execução e outro na fila
+		callers.submit(() -> encoder.matches("a", "a"));
+		Assertions.assertTrue(delegate.started.await(5, TimeUnit.SECONDS));
+		callers.submit(() -> encoder.matches("b", "b"));
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (meterRegistry.get("catalog.password.queue").gauge().value() < 1.0 && System.nanoTime() < deadline) {
+			Thread.sleep(5L);
+		}
+
+		Assertions.assertThrows(ServiceBusyException.class, () -> encoder.matches("c", "c"));
+		Assertions.assertEquals(1.0, meterRegistry.get("catalog.password.rejected").counter().count());
+	}
+
+	// Hash que só termina quando o teste libera
+	private static class BlockingEncoder implements PasswordEncoder {
+
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+
+		@Override
+		public String encode(CharSequence rawPassword) {
+			return rawPassword.toString();
+		}
+
+		@Override
+		public boolean matches(CharSequence rawPassword, String encodedPassword) {
+			started.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return rawPassword.toString().equals(encodedPassword);
+		}
+	}
+
+}
@@ -0,0 +1,148 @@
+package com.devsuperior.dscatalog.components;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.common.DefaultExpiringOAuth2RefreshToken;
+import org.springframework.security.oauth2.common.DefaultOAuth2AccessToken;
+import org.springframework.security.oauth2.common.OAuth2AccessToken;
+import org.springframework.security.oauth2.common.exceptions.InvalidGrantException;
+import org.springframework.security.oauth2.common.exceptions.InvalidTokenException;
+import org.springframework.security.oauth2.provider.OAuth2Authentication;
+import org.springframework.security.oauth2.provider.OAuth2Request;
+import org.springframework.security.oauth2.provider.token.store.JwtAccessTokenConverter;
+
+import com.devsuperior.dscatalog.services.exceptions.ValidationException;
+import com.devsuperior.dscatalog.services.revocation.TokenRevocationService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class CachingJwtTokenStoreTests {
+
+	private CachingJwtTokenStore tokenStore;
+
+	private TokenRevocationService revocationService;
+
+	private JwtAccessTokenConverter converter;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		converter = new JwtAccessTokenConverter();
+		converter.setSigningKey("MY-JWT-SECRET");
+		converter.afterPropertiesSet();
+
+		revocationService = Mockito.mock(TokenRevocationService.class);
+
+		tokenStore = new CachingJwtTokenStore(converter, 100, 60000L, new SimpleMeterRegistry(), revocationService);
+	}
+
+	@Test
+	public void readAccessTokenShouldThrowInvalidTokenExceptionWhenTokenIsRevoked() {
+
+		OAuth2AccessToken token = issue("maria@gmail.com");
+
+		Assertions.assertNotNull(tokenStore.readAccessToken(token.getValue()));
+
+		// Revogado depois de já estar no cache
+		Mockito.when(revocationService.isRevoked(ArgumentMatchers.anyString())).thenReturn(true);
+
+		Assertions.assertThrows(InvalidTokenException.class, () -> tokenStore.readAccessToken(token.getValue()));
+	}
+
+	@Test
+	public void readAuthenticationShouldReturnCopyOfCachedAuthentication() {
+
+		OAuth2AccessToken token = issue("maria@gmail.com");
+
+		OAuth2Authentication first = tokenStore.readAuthentication(token.getValue());
+		OAuth2Authentication second = tokenStore.readAuthentication(token.getValue());
+
+		Assertions.assertNotSame(first, second);
+		Assertions.assertEquals("maria@gmail.com", second.getName());
+	}
+
+	@Test
+	public void readRefreshTokenShouldReturnNullWhenRefreshTokenIsRevoked() {
+
+		String refreshToken = issue("maria@gmail.com").getRefreshToken().getValue();
+
+		Assertions.assertNotNull(tokenStore.readRefreshToken(refreshToken));
+
+		Mockito.when(revocationService.isRevoked(ArgumentMatchers.anyString())).thenReturn(true);
+
+		Assertions.assertNull(tokenStore.readRefreshToken(refreshToken));
+	}
+
+	@Test
+	public void removeRefreshTokenShouldThrowInvalidGrantExceptionWhenAlreadyRevoked() {
+
+		OAuth2AccessToken token = issue("maria@gmail.com");
+
+		Mockito.when(revocationService.revoke(ArgumentMatchers.anyString(), ArgumentMatchers.any()))
+				.thenReturn(true, false);
+
+		// A primeira renovação revoga; a segunda, com o mesmo refresh token, é recusada
+		Assertions.assertDoesNotThrow(() -> tokenStore.removeRefreshToken(token.getRefreshToken()));
+		Assertions.assertThrows(InvalidGrantException.class,
+				() -> tokenStore.removeRefreshToken(token.getRefreshToken()));
+	}
+
+	@Test
+	public void revokeRefreshTokenShouldThrowValidationExceptionWhenTokenBelongsToAnotherUser() {
+
+		String refreshToken = issue("maria@gmail.com").getRefreshToken().getValue();
+
+		Assertions.assertThrows(ValidationException.class,
+				() -> tokenStore.revokeRefreshToken(refreshToken, "alex@gmail.com"));
+
+		Mockito.verify(revocationService, Mockito.never()).revoke(ArgumentMatchers.anyString(),
+				ArgumentMatchers.any());
+	}
+
+	@Test
+	public void revokeRefreshTokenShouldThrowValidationExceptionWhenTokenIsInvalid() {
+		Assertions.assertThrows(ValidationException.class,
+				() -> tokenStore.revokeRefreshToken("invalid", "maria@gmail.com"));
+	}
+
+	@Test
+	public void revokeAccessTokenShouldRevokeByJtiAndEvictFromCache() {
+
+		OAuth2AccessToken token = issue("maria@gmail.com");
+		String jti = (String) tokenStore.readAccessToken(token.getValue()).getAdditionalInformation().get("jti");
+
+		tokenStore.revokeAccessToken(token.getValue());
+
+		Mockito.verify(revocationService).revoke(ArgumentMatchers.eq(jti), ArgumentMatchers.any());
+	}
+
+	// Token assinado como o authorization server emite: jti, exp e refresh token
+	private OAuth2AccessToken issue(String username) {
+
+		OAuth2Request request = new OAuth2Request(Map.of(), "dscatalog", List.of(), true, Set.of("read", "write"),
+				Set.of(), null, Set.of(), Map.of());
+		UsernamePasswordAuthenticationToken user = new UsernamePasswordAuthenticationToken(username, null,
+				List.of(new SimpleGrantedAuthority("ROLE_OPERATOR")));
+		OAuth2Authentication authentication = new OAuth2Authentication(request, user);
+
+		Date expiration = new Date(System.currentTimeMillis() + 60000L);
+
+		DefaultOAuth2AccessToken token = new DefaultOAuth2AccessToken(UUID.randomUUID().toString());
+		token.setExpiration(expiration);
+		token.setRefreshToken(new DefaultExpiringOAuth2RefreshToken(UUID.randomUUID().toString(), expiration));
+
+		return converter.enhance(token, authentication);
+	}
+
+}
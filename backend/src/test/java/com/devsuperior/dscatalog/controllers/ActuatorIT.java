@@ -0,0 +1,53 @@
+package com.devsuperior.dscatalog.controllers;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.devsuperior.dscatalog.tests.TokenUtil;
+
+//Teste de Integração da segurança dos endpoints do actuator
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ActuatorIT {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private TokenUtil tokenUtil;
+
+	@Test
+	public void healthShouldReturnOkWhenAnonymous() throws Exception {
+		mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+	}
+
+	@Test
+	public void metricsShouldReturnUnauthorizedWhenAnonymous() throws Exception {
+		mockMvc.perform(get("/actuator/metrics")).andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	public void metricsShouldReturnForbiddenWhenOperator() throws Exception {
+
+		String accessToken = tokenUtil.obtainAccessToken(mockMvc, "alex@gmail.com", "123456");
+
+		mockMvc.perform(get("/actuator/metrics").header("Authorization", "Bearer " + accessToken))
+				.andExpect(status().isForbidden());
+	}
+
+	@Test
+	public void metricsShouldReturnOkWhenAdmin() throws Exception {
+
+		String accessToken = tokenUtil.obtainAccessToken(mockMvc, "maria@gmail.com", "123456");
+
+		mockMvc.perform(get("/actuator/metrics").header("Authorization", "Bearer " + accessToken))
+				.andExpect(status().isOk());
+	}
+
+}
@@ -0,0 +1,194 @@
+package com.devsuperior.dscatalog.controllers;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.json.JacksonJsonParser;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import com.devsuperior.dscatalog.tests.TokenUtil;
+
+//Teste de Integração do POST /oauth/token
+//As estatísticas do Hibernate contam os comandos SQL executados na emissão do token
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+public class OAuthTokenIT {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private TokenUtil tokenUtil;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Value("${security.oauth2.client.client-id}")
+	private String clientId;
+
+	@Value("${security.oauth2.client.client-secret}")
+	private String clientSecret;
+
+	private Statistics statistics;
+	private String username;
+	private String password;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		username = "maria@gmail.com";
+		password = "123456";
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	// Login custa uma única consulta: usuário e perfis juntos (findByEmail com
+	// EntityGraph) e o JwtTokenEnhancer reaproveita o usuário autenticado
+	@Test
+	public void passwordGrantShouldExecuteExactlyOneQuery() throws Exception {
+
+		statistics.clear();
+
+		String accessToken = tokenUtil.obtainAccessToken(mockMvc, username, password);
+
+		Assertions.assertNotNull(accessToken);
+		Assertions.assertEquals(1L, statistics.getPrepareStatementCount());
+	}
+
+	// Renovação pelo refresh token: o CachingJwtTokenStore lê o refresh token
+	// sem passar pelo cache de tokens de acesso
+	@Test
+	public void refreshGrantShouldIssueNewAccessToken() throws Exception {
+
+		Map<String, Object> tokens = body(tokenRequest(passwordGrant()).andExpect(status().isOk()));
+
+		Map<String, Object> refreshed = body(
+				tokenRequest(refreshGrant(tokens.get("refresh_token").toString())).andExpect(status().isOk()));
+
+		Assertions.assertNotNull(refreshed.get("access_token"));
+		Assertions.assertNotEquals(tokens.get("access_token"), refreshed.get("access_token"));
+
+		mockMvc.perform(get("/users/2").header("Authorization", "Bearer " + refreshed.get("access_token")))
+				.andExpect(status().isOk());
+	}
+
+	// O refresh token usado na renovação é revogado: reutilizá-lo é recusado
+	@Test
+	public void refreshGrantShouldReturnBadRequestWhenRefreshTokenIsReused() throws Exception {
+
+		String refreshToken = body(tokenRequest(passwordGrant()).andExpect(status().isOk())).get("refresh_token")
+				.toString();
+
+		tokenRequest(refreshGrant(refreshToken)).andExpect(status().isOk());
+		tokenRequest(refreshGrant(refreshToken)).andExpect(status().isBadRequest());
+	}
+
+	// Duas renovações simultâneas com o mesmo refresh token: só uma recebe tokens novos
+	@Test
+	public void refreshGrantShouldSucceedOnceWhenRefreshTokenIsUsedConcurrently() throws Exception {
+
+		String refreshToken = body(tokenRequest(passwordGrant()).andExpect(status().isOk())).get("refresh_token")
+				.toString();
+
+		int requests = 4;
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(requests);
+
+		try {
+			List<Future<Integer>> statuses = new ArrayList<>();
+
+			for (int i = 0; i < requests; i++) {
+				Callable<Integer> refresh = () -> {
+					start.await();
+					return tokenRequest(refreshGrant(refreshToken)).andReturn().getResponse().getStatus();
+				};
+				statuses.add(executor.submit(refresh));
+			}
+
+			start.countDown();
+
+			int ok = 0;
+
+			for (Future<Integer> status : statuses) {
+				int code = status.get(30, TimeUnit.SECONDS);
+
+				if (code == 200) {
+					ok++;
+				} else {
+					Assertions.assertEquals(400, code);
+				}
+			}
+
+			Assertions.assertEquals(1, ok);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	// Logout revoga o token de acesso e o refresh token informado
+	@Test
+	public void logoutShouldRevokeAccessAndRefreshTokens() throws Exception {
+
+		Map<String, Object> tokens = body(tokenRequest(passwordGrant()).andExpect(status().isOk()));
+		String accessToken = tokens.get("access_token").toString();
+		String refreshToken = tokens.get("refresh_token").toString();
+
+		mockMvc.perform(get("/users/2").header("Authorization", "Bearer " + accessToken)).andExpect(status().isOk());
+
+		mockMvc.perform(post("/auth/logout").header("Authorization", "Bearer " + accessToken)
+				.param("refresh_token", refreshToken)).andExpect(status().isNoContent());
+
+		mockMvc.perform(get("/users/2").header("Authorization", "Bearer " + accessToken))
+				.andExpect(status().isUnauthorized());
+		tokenRequest(refreshGrant(refreshToken)).andExpect(status().isBadRequest());
+	}
+
+	private MultiValueMap<String, String> passwordGrant() {
+		MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+		params.add("grant_type", "password");
+		params.add("username", username);
+		params.add("password", password);
+		return params;
+	}
+
+	private MultiValueMap<String, String> refreshGrant(String refreshToken) {
+		MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+		params.add("grant_type", "refresh_token");
+		params.add("refresh_token", refreshToken);
+		return params;
+	}
+
+	private Map<String, Object> body(ResultActions result) throws Exception {
+		return new JacksonJsonParser().parseMap(result.andReturn().getResponse().getContentAsString());
+	}
+
+	private ResultActions tokenRequest(MultiValueMap<String, String> params) throws Exception {
+		return mockMvc.perform(post("/oauth/token").params(params).with(httpBasic(clientId, clientSecret))
+				.accept("application/json;charset=UTF-8"));
+	}
+
+}
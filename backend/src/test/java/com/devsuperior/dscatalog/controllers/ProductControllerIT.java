@@ -1,6 +1,7 @@
 package com.devsuperior.dscatalog.controllers;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -193,6 +194,55 @@ public class ProductControllerIT {
 		result.andExpect(status().isNotFound());
 		
 	}
-	
-	
+
+	// Valida o PATCH (JSON Merge Patch): só os campos enviados mudam e null apaga
+	@Test
+	public void patchShouldUpdateOnlyInformedFieldsWhenIdExists() throws Exception {
+
+		String accessToken = tokenUtil.obtainAccessToken(mockMvc, username, password);
+
+		ResultActions result = mockMvc.perform(patch("/products/{id}", existingId)
+				.content("{\"price\": 100.0, \"imgUrl\": null}")
+				.header("Authorization", "Bearer " + accessToken)
+				.contentType("application/merge-patch+json").accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isOk());
+		result.andExpect(jsonPath("$.id").value(existingId));
+		result.andExpect(jsonPath("$.name").value("The Lord of the Rings"));
+		result.andExpect(jsonPath("$.description").exists());
+		result.andExpect(jsonPath("$.price").value(100.0));
+		result.andExpect(jsonPath("$.imgUrl").isEmpty());
+		result.andExpect(jsonPath("$.categories[0].id").value(2L));
+
+	}
+
+	@Test
+	public void patchShouldReturnUnprocessableEntityWhenRequiredFieldIsNull() throws Exception {
+
+		String accessToken = tokenUtil.obtainAccessToken(mockMvc, username, password);
+
+		ResultActions result = mockMvc.perform(patch("/products/{id}", existingId)
+				.content("{\"name\": null}")
+				.header("Authorization", "Bearer " + accessToken)
+				.contentType("application/merge-patch+json").accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isUnprocessableEntity());
+		result.andExpect(jsonPath("$.errors[0].fieldName").value("name"));
+
+	}
+
+	@Test
+	public void patchShouldReturnNotFoundWhenIdDoesNotExists() throws Exception {
+
+		String accessToken = tokenUtil.obtainAccessToken(mockMvc, username, password);
+
+		ResultActions result = mockMvc.perform(patch("/products/{id}", nonExistingId)
+				.content("{\"price\": 100.0}")
+				.header("Authorization", "Bearer " + accessToken)
+				.contentType("application/merge-patch+json").accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isNotFound());
+
+	}
+
 }
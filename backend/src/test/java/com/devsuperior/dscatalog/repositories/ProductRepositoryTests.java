@@ -1,6 +1,9 @@
 package com.devsuperior.dscatalog.repositories;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import java.util.TimeZone;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,7 +11,10 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 
+import com.devsuperior.dscatalog.dto.ProductDTO;
 import com.devsuperior.dscatalog.entities.Product;
 import com.devsuperior.dscatalog.tests.Factory;
 
@@ -22,6 +28,9 @@ public class ProductRepositoryTests {
 	@Autowired
 	private ProductRepository productRepository;
 
+	@Autowired
+	private CategoryRepository categoryRepository;
+
 	@BeforeEach
 	void setUp() throws Exception {
 
@@ -114,4 +123,69 @@ public class ProductRepositoryTests {
 
 	}
 
+	// 2026-10-18 - Paginação por cursor: nomes iguais são desempatados pelo id,
+	// sem repetir nem pular produtos entre as páginas
+	@Test
+	public void findProductCategoryAfterNameShouldBreakTiesById() {
+
+		// Arrange. Dois produtos com o mesmo nome do produto 4 ("PC Gamer")
+		Product first = createProductNamed("PC Gamer");
+		Product second = createProductNamed("PC Gamer");
+
+		// Act. Página depois de ("PC Gamer", 4) e depois de ("PC Gamer", first)
+		List<Product> afterExisting = productRepository.findProductCategoryAfterName(null, "pc gamer", "PC Gamer",
+				4L, PageRequest.of(0, 3));
+		List<Product> afterFirst = productRepository.findProductCategoryAfterName(null, "pc gamer", "PC Gamer",
+				first.getId(), PageRequest.of(0, 2));
+
+		// Assert. Mesmo nome em ordem de id e, depois, o próximo nome
+		Assertions.assertEquals(first.getId(), afterExisting.get(0).getId());
+		Assertions.assertEquals(second.getId(), afterExisting.get(1).getId());
+		Assertions.assertEquals("PC Gamer Alfa", afterExisting.get(2).getName());
+		Assertions.assertEquals(second.getId(), afterFirst.get(0).getId());
+		Assertions.assertEquals("PC Gamer Alfa", afterFirst.get(1).getName());
+	}
+
+	@Test
+	public void findProductCategoryAfterIdShouldReturnNextIdsInOrder() {
+
+		List<Product> result = productRepository.findProductCategoryAfterId(null, "", 23L, PageRequest.of(0, 10));
+
+		Assertions.assertEquals(2, result.size());
+		Assertions.assertEquals(24L, result.get(0).getId());
+		Assertions.assertEquals(25L, result.get(1).getId());
+	}
+
+	private Product createProductNamed(String name) {
+
+		Product product = Factory.createProduct();
+		product.setId(null);
+		product.setName(name);
+		product.getCategories().clear();
+		product.getCategories().add(categoryRepository.getById(2L));
+
+		return productRepository.save(product);
+	}
+
+	@Test
+	public void findProductListingShouldReturnDescriptionAndMomentInUtcWhenJvmZoneIsNotUtc() {
+
+		// Arrange. Preparar os dados
+		TimeZone original = TimeZone.getDefault();
+		TimeZone.setDefault(TimeZone.getTimeZone("America/Sao_Paulo"));
+
+		try {
+			// Act. Acoes Necessarias
+			Page<ProductDTO> result = productRepository.findProductListing(PageRequest.of(0, 1), 0L, "");
+
+			// Assert. Resultado Esperado
+			ProductDTO product = result.getContent().get(0);
+			Assertions.assertEquals(existingId, product.getId());
+			Assertions.assertNotNull(product.getDescription());
+			Assertions.assertEquals(Instant.parse("2020-07-13T20:50:07.12345Z"), product.getMoment());
+		} finally {
+			TimeZone.setDefault(original);
+		}
+	}
+
 }
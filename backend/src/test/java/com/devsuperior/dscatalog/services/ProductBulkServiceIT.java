@@ -0,0 +1,205 @@
+package com.devsuperior.dscatalog.services;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.transaction.Transactional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import com.devsuperior.dscatalog.dto.BulkOperationResultDTO;
+import com.devsuperior.dscatalog.dto.CategoryDTO;
+import com.devsuperior.dscatalog.dto.CategoryReassignmentDTO;
+import com.devsuperior.dscatalog.dto.PriceAdjustmentDTO;
+import com.devsuperior.dscatalog.dto.ProductBulkDeleteDTO;
+import com.devsuperior.dscatalog.dto.ProductDTO;
+import com.devsuperior.dscatalog.repositories.ProductRepository;
+import com.devsuperior.dscatalog.services.events.ProductChangedEvent;
+import com.devsuperior.dscatalog.services.exceptions.ValidationException;
+
+//Teste de Integração das operações em lote.
+//Blocos pequenos (chunk-size=2) para exercitar a divisão em blocos
+//com a massa de dados do import.sql
+@SpringBootTest(properties = "catalog.bulk.chunk-size=2")
+
+//Rollback ao fim de cada teste. Os eventos ficam registrados pelo
+//@RecordApplicationEvents, sem chegar aos índices (não há commit)
+@Transactional
+@RecordApplicationEvents
+public class ProductBulkServiceIT {
+
+	@Autowired
+	private ProductBulkService productBulkService;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private ApplicationEvents applicationEvents;
+
+	@Test
+	public void adjustPricesShouldUpdateEveryChunkAndPublishNewState() {
+
+		BulkOperationResultDTO result = productBulkService.adjustPrices(adjustment(List.of(3L),
+				PriceAdjustmentDTO.Type.PERCENT, 10.0));
+
+		Assertions.assertEquals(23L, result.getAffected());
+		Assertions.assertEquals(0L, result.getSkipped());
+		Assertions.assertEquals(1320.0, productRepository.findById(4L).get().getPrice(), 0.001);
+
+		Map<Long, ProductDTO> published = upserts();
+
+		Assertions.assertEquals(23, published.size());
+		Assertions.assertEquals(1320.0, published.get(4L).getPrice(), 0.001);
+		Assertions.assertEquals("PC Gamer", published.get(4L).getName());
+		Assertions.assertNotNull(published.get(4L).getDescription());
+		Assertions.assertEquals("Computadores", published.get(4L).getCategories().get(0).getName());
+
+		// Produto com duas categorias: o evento traz as duas
+		Assertions.assertEquals(2, published.get(2L).getCategories().size());
+	}
+
+	@Test
+	public void adjustPricesShouldSkipProductsWhosePriceWouldNotBePositive() {
+
+		BulkOperationResultDTO result = productBulkService.adjustPrices(adjustment(List.of(2L),
+				PriceAdjustmentDTO.Type.ABSOLUTE, -95.0));
+
+		Assertions.assertEquals(1L, result.getAffected());
+		Assertions.assertEquals(1L, result.getSkipped());
+		Assertions.assertEquals(90.5, productRepository.findById(1L).get().getPrice(), 0.001);
+		Assertions.assertEquals(5.99, upserts().get(5L).getPrice(), 0.001);
+
+		// O produto ignorado não gera evento
+		Assertions.assertEquals(Set.of(5L), upserts().keySet());
+	}
+
+	@Test
+	public void adjustPricesShouldThrowValidationExceptionWhenCategoryDoesNotExist() {
+
+		Assertions.assertThrows(ValidationException.class, () -> productBulkService
+				.adjustPrices(adjustment(List.of(1000L), PriceAdjustmentDTO.Type.PERCENT, 10.0)));
+
+		Assertions.assertEquals(0L, applicationEvents.stream(ProductChangedEvent.class).count());
+	}
+
+	@Test
+	public void deleteProductsShouldDeleteExistingIdsAndSkipTheOthers() {
+
+		ProductBulkDeleteDTO request = new ProductBulkDeleteDTO();
+		request.setIds(Arrays.asList(5L, 1L, 1000L, null, 1L, 7L));
+
+		BulkOperationResultDTO result = productBulkService.deleteProducts(request);
+
+		// Repetidos e nulos não contam: 1, 5, 7 e 1000
+		Assertions.assertEquals(3L, result.getAffected());
+		Assertions.assertEquals(1L, result.getSkipped());
+		Assertions.assertFalse(productRepository.existsById(1L));
+		Assertions.assertFalse(productRepository.existsById(5L));
+		Assertions.assertFalse(productRepository.existsById(7L));
+		Assertions.assertEquals(22L, productRepository.count());
+
+		List<Long> deleted = applicationEvents.stream(ProductChangedEvent.class)
+				.filter(event -> event.getType() == ProductChangedEvent.Type.DELETE)
+				.map(ProductChangedEvent::getProductId).collect(Collectors.toList());
+
+		Assertions.assertEquals(List.of(1L, 5L, 7L), deleted);
+	}
+
+	@Test
+	public void deleteProductsShouldDoNothingWhenNoIdExists() {
+
+		ProductBulkDeleteDTO request = new ProductBulkDeleteDTO();
+		request.setIds(List.of(1000L, 1001L));
+
+		BulkOperationResultDTO result = productBulkService.deleteProducts(request);
+
+		Assertions.assertEquals(0L, result.getAffected());
+		Assertions.assertEquals(2L, result.getSkipped());
+		Assertions.assertEquals(25L, productRepository.count());
+		Assertions.assertEquals(0L, applicationEvents.stream(ProductChangedEvent.class).count());
+	}
+
+	@Test
+	public void reassignCategoryShouldMoveProductsToTargetCategory() {
+
+		BulkOperationResultDTO result = productBulkService.reassignCategory(reassignment(2L, 1L));
+
+		// Produtos 1 e 5 estavam só na categoria 2
+		Assertions.assertEquals(2L, result.getAffected());
+		Assertions.assertEquals(Set.of(1L), categoryIds(1L));
+		Assertions.assertEquals(Set.of(1L), categoryIds(5L));
+
+		Map<Long, ProductDTO> published = upserts();
+
+		Assertions.assertEquals(Set.of(1L, 5L), published.keySet());
+		Assertions.assertEquals("Livros", published.get(1L).getCategories().get(0).getName());
+
+		// A categoria de origem entra nas afetadas para as listagens dela serem invalidadas
+		applicationEvents.stream(ProductChangedEvent.class)
+				.forEach(event -> Assertions.assertTrue(event.getAffectedCategoryIds().contains(2L)));
+	}
+
+	@Test
+	public void reassignCategoryShouldNotDuplicateLinkWhenProductAlreadyHasTargetCategory() {
+
+		// Produto 2 está nas categorias 1 e 3
+		BulkOperationResultDTO result = productBulkService.reassignCategory(reassignment(1L, 3L));
+
+		Assertions.assertEquals(1L, result.getAffected());
+		Assertions.assertEquals(Set.of(3L), categoryIds(2L));
+	}
+
+	@Test
+	public void reassignCategoryShouldThrowValidationExceptionWhenCategoriesAreEqual() {
+		Assertions.assertThrows(ValidationException.class,
+				() -> productBulkService.reassignCategory(reassignment(3L, 3L)));
+	}
+
+	@Test
+	public void reassignCategoryShouldThrowValidationExceptionWhenCategoryDoesNotExist() {
+		Assertions.assertThrows(ValidationException.class,
+				() -> productBulkService.reassignCategory(reassignment(1000L, 3L)));
+	}
+
+	// Categorias do produto como estão no banco
+	private Set<Long> categoryIds(Long productId) {
+		return productRepository.findProductDTOsByIds(List.of(productId)).get(0).getCategories().stream()
+				.map(CategoryDTO::getId).collect(Collectors.toSet());
+	}
+
+	// Estado publicado por produto nos eventos de inclusão/alteração
+	private Map<Long, ProductDTO> upserts() {
+		return applicationEvents.stream(ProductChangedEvent.class)
+				.filter(event -> event.getType() != ProductChangedEvent.Type.DELETE).map(ProductChangedEvent::getProduct)
+				.collect(Collectors.toMap(ProductDTO::getId, product -> product));
+	}
+
+	private static CategoryReassignmentDTO reassignment(Long fromCategoryId, Long toCategoryId) {
+
+		CategoryReassignmentDTO request = new CategoryReassignmentDTO();
+		request.setFromCategoryId(fromCategoryId);
+		request.setToCategoryId(toCategoryId);
+
+		return request;
+	}
+
+	private static PriceAdjustmentDTO adjustment(List<Long> categoryIds, PriceAdjustmentDTO.Type type, Double value) {
+
+		PriceAdjustmentDTO adjustment = new PriceAdjustmentDTO();
+		adjustment.setCategoryIds(categoryIds);
+		adjustment.setType(type);
+		adjustment.setValue(value);
+
+		return adjustment;
+	}
+
+}
@@ -0,0 +1,218 @@
+package com.devsuperior.dscatalog.services;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.transaction.Transactional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.devsuperior.dscatalog.dto.ProductChangeDTO;
+import com.devsuperior.dscatalog.dto.ProductDTO;
+import com.devsuperior.dscatalog.dto.ProductChangeFeedDTO;
+import com.devsuperior.dscatalog.entities.ProductChange;
+import com.devsuperior.dscatalog.repositories.ProductChangeRepository;
+import com.devsuperior.dscatalog.services.changes.ProductChangeFeedService;
+import com.devsuperior.dscatalog.services.changes.ProductChangeRetention;
+import com.devsuperior.dscatalog.services.events.ProductChangedEvent;
+import com.devsuperior.dscatalog.services.exceptions.ValidationException;
+import com.devsuperior.dscatalog.tests.Factory;
+
+//Teste de Integração do feed de alterações e da limpeza do registro.
+//As alterações são gravadas direto no registro, com a data desejada
+@SpringBootTest
+@Transactional
+public class ProductChangeFeedServiceIT {
+
+	@Autowired
+	private ProductChangeFeedService productChangeFeedService;
+
+	@Autowired
+	private ProductChangeRetention productChangeRetention;
+
+	@Autowired
+	private ProductChangeRepository productChangeRepository;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	private Long baseline;
+	private Instant old;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		// Marca d'água antes das alterações do teste (outros testes podem ter gravado)
+		baseline = productChangeRepository.findAll().stream().map(ProductChange::getId).max(Long::compare)
+				.orElse(0L);
+
+		old = Instant.now().minus(40, ChronoUnit.DAYS);
+	}
+
+	@Test
+	public void findChangesShouldReturnLatestChangeOfEachProductInWatermarkOrder() {
+
+		record(1L, ProductChange.Type.UPSERT, Instant.now());
+		record(4L, ProductChange.Type.UPSERT, Instant.now());
+		record(1L, ProductChange.Type.UPSERT, Instant.now());
+		record(1000L, ProductChange.Type.DELETE, Instant.now());
+
+		ProductChangeFeedDTO feed = productChangeFeedService.findChanges(baseline, 100);
+
+		Assertions.assertEquals(List.of(4L, 1L, 1000L), productIds(feed));
+		Assertions.assertEquals("PC Gamer", feed.getChanges().get(0).getProduct().getName());
+		Assertions.assertEquals(ProductChange.Type.DELETE, feed.getChanges().get(2).getType());
+		Assertions.assertNull(feed.getChanges().get(2).getProduct());
+		Assertions.assertEquals(feed.getChanges().get(2).getChangeId(), feed.getWatermark());
+		Assertions.assertFalse(feed.isHasMore());
+	}
+
+	@Test
+	public void findChangesShouldDeliverRecentChangesWithoutWaiting() {
+
+		record(4L, ProductChange.Type.UPSERT, Instant.now());
+
+		ProductChangeFeedDTO feed = productChangeFeedService.findChanges(baseline, 100);
+
+		Assertions.assertEquals(List.of(4L), productIds(feed));
+	}
+
+	@Test
+	public void findChangesShouldResumeFromWatermark() {
+
+		record(1L, ProductChange.Type.UPSERT, Instant.now());
+		record(4L, ProductChange.Type.UPSERT, Instant.now());
+
+		ProductChangeFeedDTO first = productChangeFeedService.findChanges(baseline, 1);
+		ProductChangeFeedDTO second = productChangeFeedService.findChanges(first.getWatermark(), 1);
+
+		Assertions.assertEquals(List.of(1L), productIds(first));
+		Assertions.assertTrue(first.isHasMore());
+		Assertions.assertEquals(List.of(4L), productIds(second));
+	}
+
+	// Fora da transação do teste: o registro grava no commit da transação que
+	// publicou o evento, passando pela linha de controle
+	@Test
+	@Transactional(Transactional.TxType.NOT_SUPPORTED)
+	public void productChangeLogShouldWriteChangeThroughControlRow() {
+
+		transactionTemplate.executeWithoutResult(status -> eventPublisher.publishEvent(ProductChangedEvent.delete(1000L)));
+
+		List<ProductChange> rows = productChangeRepository.findChangesAfter(baseline, PageRequest.of(0, 10));
+
+		try {
+			Assertions.assertEquals(1, rows.size());
+			Assertions.assertEquals(1000L, rows.get(0).getProductId());
+			Assertions.assertEquals(ProductChange.Type.DELETE, rows.get(0).getType());
+		} finally {
+			productChangeRepository.deleteAll(rows);
+		}
+	}
+
+	// Sem transação a alteração se perderia em uma queda entre a escrita e o registro
+	@Test
+	@Transactional(Transactional.TxType.NOT_SUPPORTED)
+	public void productChangeLogShouldThrowIllegalStateExceptionWhenEventIsPublishedOutsideTransaction() {
+
+		Assertions.assertThrows(IllegalStateException.class,
+				() -> eventPublisher.publishEvent(ProductChangedEvent.delete(1000L)));
+
+		Assertions.assertTrue(productChangeRepository.findChangesAfter(baseline, PageRequest.of(0, 10)).isEmpty());
+	}
+
+	// A exclusão e a lápide são confirmadas juntas
+	@Test
+	@Transactional(Transactional.TxType.NOT_SUPPORTED)
+	public void deleteShouldRecordTombstoneInDeleteTransaction() {
+
+		ProductDTO productDTO = Factory.createProductDTO();
+		productDTO.setId(null);
+
+		Long id = productService.insert(productDTO).getId();
+
+		try {
+			productService.delete(id);
+
+			List<ProductChange> rows = productChangeRepository.findChangesAfter(baseline, PageRequest.of(0, 10));
+			ProductChange last = rows.get(rows.size() - 1);
+
+			Assertions.assertEquals(id, last.getProductId());
+			Assertions.assertEquals(ProductChange.Type.DELETE, last.getType());
+		} finally {
+			productChangeRepository.deleteAll(productChangeRepository.findChangesAfter(baseline, PageRequest.of(0, 10)));
+		}
+	}
+
+	@Test
+	public void purgeShouldDeleteOldTombstonesAndSupersededChangesOnly() {
+
+		Long superseded = record(1L, ProductChange.Type.UPSERT, old);
+		Long latestOld = record(1L, ProductChange.Type.UPSERT, old);
+		Long tombstone = record(1000L, ProductChange.Type.DELETE, old);
+		Long recent = record(4L, ProductChange.Type.UPSERT, Instant.now());
+
+		int deleted = productChangeRetention.purge();
+
+		Assertions.assertEquals(2, deleted);
+		Assertions.assertFalse(productChangeRepository.existsById(superseded));
+		Assertions.assertFalse(productChangeRepository.existsById(tombstone));
+		Assertions.assertTrue(productChangeRepository.existsById(latestOld));
+		Assertions.assertTrue(productChangeRepository.existsById(recent));
+		Assertions.assertEquals(tombstone, productChangeRepository.findPurgedUntil());
+	}
+
+	@Test
+	public void findChangesShouldThrowValidationExceptionWhenWatermarkIsBeforePurgedTombstone() {
+
+		Long first = record(1L, ProductChange.Type.UPSERT, old);
+		record(1L, ProductChange.Type.UPSERT, old);
+		Long tombstone = record(1000L, ProductChange.Type.DELETE, old);
+
+		productChangeRetention.purge();
+
+		Assertions.assertThrows(ValidationException.class, () -> productChangeFeedService.findChanges(first, 100));
+
+		// A partir da lápide apagada, ou do início, o feed continua atendendo
+		Assertions.assertDoesNotThrow(() -> productChangeFeedService.findChanges(tombstone, 100));
+		Assertions.assertTrue(productIds(productChangeFeedService.findChanges(0L, ProductChangeFeedService.MAX_SIZE))
+				.contains(1L));
+	}
+
+	@Test
+	public void findChangesShouldThrowValidationExceptionWhenSizeIsOutOfRange() {
+		Assertions.assertThrows(ValidationException.class,
+				() -> productChangeFeedService.findChanges(0L, ProductChangeFeedService.MAX_SIZE + 1));
+	}
+
+	// Grava uma alteração no registro e devolve o id dela
+	private Long record(Long productId, ProductChange.Type type, Instant changedAt) {
+
+		productChangeRepository.insertChanges(List.of(new ProductChange(null, productId, type, changedAt)));
+
+		List<ProductChange> rows = productChangeRepository.findChangesAfter(baseline,
+				PageRequest.of(0, ProductChangeFeedService.MAX_SIZE));
+
+		return rows.get(rows.size() - 1).getId();
+	}
+
+	private static List<Long> productIds(ProductChangeFeedDTO feed) {
+		return feed.getChanges().stream().map(ProductChangeDTO::getProductId).collect(Collectors.toList());
+	}
+
+}
@@ -1,5 +1,8 @@
 package com.devsuperior.dscatalog.services;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import javax.transaction.Transactional;
 
 import org.junit.jupiter.api.Assertions;
@@ -12,8 +15,12 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 
 import com.devsuperior.dscatalog.dto.ProductDTO;
+import com.devsuperior.dscatalog.entities.Category;
+import com.devsuperior.dscatalog.repositories.CategoryRepository;
 import com.devsuperior.dscatalog.repositories.ProductRepository;
 import com.devsuperior.dscatalog.services.exceptions.ResourceNotFoundException;
+import com.devsuperior.dscatalog.services.search.ProductSearchIndex;
+import com.devsuperior.dscatalog.services.search.SearchNormalizer;
 
 //Teste de Integração
 //Carregar contexto da aplicação utilizando anotação @SpringBootTest
@@ -34,6 +41,12 @@ public class ProductServiceIT {
 	@Autowired
 	private ProductRepository productRepository;
 
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private ProductSearchIndex productSearchIndex;
+
 	private Long existingId;
 	private Long nonExistingId;
 	private Long countTotalProducts;
@@ -116,8 +129,55 @@ public class ProductServiceIT {
 		Assertions.assertEquals("PC Gamer Alfa", productDTO.getContent().get(2).getName()); /* Valida nome */
 		
 	}
-	
-	
-	
-	
+
+	// 2026-10-18 - O filtro por nome é um trecho do nome normalizado, seja a
+	// consulta respondida pelo índice em memória ou pelo banco
+	@Test
+	public void findAllPagedShouldMatchTextAnywhereInTheName() {
+
+		PageRequest pageRequest = PageRequest.of(0, 10);
+
+		Page<ProductDTO> gamer = productService.findAllPaged(pageRequest, 0L, "pc gam");
+		Page<ProductDTO> middleOfWord = productService.findAllPaged(pageRequest, 0L, "amer");
+
+		Assertions.assertEquals(21L, gamer.getTotalElements());
+		Assertions.assertTrue(gamer.getContent().stream().allMatch(product -> product.getName().startsWith("PC Gamer")));
+		Assertions.assertEquals(21L, middleOfWord.getTotalElements());
+	}
+
+	// Mesma consulta pelo índice (findAllPaged ordenado por nome) e pelo banco
+	// (cursor, sempre no banco): mesmos produtos, na mesma ordem, e mesmas facetas
+	@Test
+	public void indexAndDatabaseShouldReturnSameResultsForNameFilter() {
+
+		Assertions.assertTrue(productSearchIndex.canAnswer(PageRequest.of(0, 50, Sort.by("name"))));
+
+		for (Long categoryId : List.of(0L, 1L, 3L)) {
+			for (String name : List.of("amer", "pc gam", "gamer pc", "tv", "a", "o ", "-", "MÁCBOOK", "zzz")) {
+
+				String filter = categoryId + " / " + name;
+
+				List<Long> fromIndex = ids(
+						productService.findAllPaged(PageRequest.of(0, 50, Sort.by("name")), categoryId, name).getContent());
+				List<Long> fromDatabase = ids(productService
+						.findAllByCursor(null, PageRequest.of(0, 50, Sort.by("name")), categoryId, name).getContent());
+
+				Assertions.assertEquals(fromDatabase, fromIndex, filter);
+
+				List<Category> categories = categoryId == 0 ? null : List.of(categoryRepository.getById(categoryId));
+				List<String> facetsFromDatabase = productRepository
+						.countProductsByCategory(categories, SearchNormalizer.normalize(name)).stream()
+						.map(row -> row[0] + "=" + row[1]).collect(Collectors.toList());
+				List<String> facetsFromIndex = productService.findCategoryFacets(categoryId, name).stream()
+						.map(facet -> facet.getCategoryId() + "=" + facet.getCount()).collect(Collectors.toList());
+
+				Assertions.assertEquals(facetsFromDatabase, facetsFromIndex, filter);
+			}
+		}
+	}
+
+	private static List<Long> ids(List<ProductDTO> products) {
+		return products.stream().map(ProductDTO::getId).collect(Collectors.toList());
+	}
+
 }
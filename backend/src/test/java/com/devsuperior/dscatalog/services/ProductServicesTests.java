@@ -4,6 +4,7 @@ import static org.mockito.ArgumentMatchers.any;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import javax.persistence.EntityNotFoundException;
 
@@ -15,6 +16,7 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.Page;
@@ -22,14 +24,24 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import com.devsuperior.dscatalog.dto.ProductDTO;
 import com.devsuperior.dscatalog.entities.Category;
 import com.devsuperior.dscatalog.entities.Product;
 import com.devsuperior.dscatalog.repositories.CategoryRepository;
 import com.devsuperior.dscatalog.repositories.ProductRepository;
+import com.devsuperior.dscatalog.services.cache.CategorySnapshot;
+import com.devsuperior.dscatalog.services.cache.ProductCache;
+import com.devsuperior.dscatalog.services.cache.ProductSearchCache;
 import com.devsuperior.dscatalog.services.exceptions.DatabaseException;
 import com.devsuperior.dscatalog.services.exceptions.ResourceNotFoundException;
+import com.devsuperior.dscatalog.services.exceptions.ValidationException;
+import com.devsuperior.dscatalog.services.pagination.ApproximateCounter;
+import com.devsuperior.dscatalog.services.patch.MergePatcher;
+import com.devsuperior.dscatalog.services.search.CategoryBitmapIndex;
+import com.devsuperior.dscatalog.services.search.ProductSearchIndex;
+import com.devsuperior.dscatalog.services.search.ProductSuggestIndex;
 import com.devsuperior.dscatalog.tests.Factory;
 
 @ExtendWith(SpringExtension.class)
@@ -44,6 +56,37 @@ public class ProductServicesTests {
 	@Mock
 	private CategoryRepository categoryRepository;
 
+	// Índice em memória e publicador de eventos adicionados ao ProductService
+	@Mock
+	private ProductSearchIndex productSearchIndex;
+
+	@Mock
+	private CategoryBitmapIndex categoryBitmapIndex;
+
+	@Mock
+	private ProductSuggestIndex productSuggestIndex;
+
+	@Mock
+	private ApproximateCounter approximateCounter;
+
+	@Mock
+	private ProductCache productCache;
+
+	@Mock
+	private CategorySnapshot categorySnapshot;
+
+	@Mock
+	private ProductSearchCache productSearchCache;
+
+	@Mock
+	private MergePatcher mergePatcher;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
 	private long existingId;
 	private long nonExistingId;
 	private long existingCategoryId;
@@ -108,6 +151,14 @@ public class ProductServicesTests {
 		// Método findProductCategory adicionado após refatoração do ProductService e ProductRepository 
 		Mockito.when(productRepository.findProductCategory(any(), any(), any())).thenReturn(page);
 
+		// Listagem em DTO (consulta única) usada pelo findAllPaged para ordenações suportadas
+		Mockito.when(productRepository.findProductListing(any(), any(), any()))
+				.thenReturn(new PageImpl<>(List.of(productDto)));
+
+		// Cache das listagens sempre em falta: executa a consulta recebida
+		Mockito.when(productSearchCache.get(any(), any(), any(), any()))
+				.thenAnswer(invocation -> invocation.<Supplier<Page<ProductDTO>>>getArgument(3).get());
+
 		// Método getById com Id existente para retornar um produto
 		Mockito.when(productRepository.getById(existingId)).thenReturn(product);
 		// Mockito.when(productRepository.getOne(existingId)).thenReturn(product);
@@ -116,6 +167,10 @@ public class ProductServicesTests {
 		Mockito.when(productRepository.getById(nonExistingId)).thenThrow(EntityNotFoundException.class);
 		// Mockito.when(productRepository.getOne(nonExistingId)).thenThrow(EntityNotFoundException.class);
 
+		// Categorias conferidas na cópia em memória pelo copyDtoToEntity
+		Mockito.when(categorySnapshot.contains(existingCategoryId)).thenReturn(true);
+		Mockito.when(categorySnapshot.contains(nonExistingCategoryId)).thenReturn(false);
+
 		// Método getById com Id existente para retornar uma categoria
 		Mockito.when(categoryRepository.getById(existingCategoryId)).thenReturn(category);
 		// Mockito.when(categoryRepository.getOne(existingId)).thenReturn(category);
@@ -213,6 +268,32 @@ public class ProductServicesTests {
 
 	}
 
+	@Test
+	public void findByIdShouldNotOpenTransactionWhenProductIsCached() {
+
+		// Arrange. Preparar os dados
+		Mockito.when(productCache.get(existingId)).thenReturn(productDto);
+
+		// Act. Ações Necessárias
+		ProductDTO result = productService.findById(existingId);
+
+		// Assert. Resultado Esperado
+		Assertions.assertSame(productDto, result);
+		Mockito.verify(productRepository, Mockito.never()).findById(existingId);
+		Mockito.verifyNoInteractions(transactionManager);
+	}
+
+	@Test
+	public void findByIdShouldLoadInsideTransactionWhenProductIsNotCached() {
+
+		// Act. Ações Necessárias
+		productService.findById(existingId);
+
+		// Assert. Resultado Esperado
+		Mockito.verify(transactionManager, Mockito.times(1)).getTransaction(any());
+		Mockito.verify(productCache, Mockito.times(1)).put(any(), ArgumentMatchers.anyLong());
+	}
+
 	@Test
 	public void findByIdShouldThrowResourceNotFoundExceptionWhenIdDoesNotExists() {
 		// Usar padrao AAA. Arrange/Act/Assert
@@ -267,6 +348,19 @@ public class ProductServicesTests {
 
 	}
 
+	@Test
+	public void updateShouldThrowValidationExceptionWhenCategoryDoesNotExists() {
+
+		productDto.getCategories().get(0).setId(nonExistingCategoryId);
+
+		Assertions.assertThrows(ValidationException.class, () -> {
+			productService.update(existingId, productDto);
+		});
+
+		// Nada é gravado quando a categoria não existe
+		Mockito.verify(productRepository, Mockito.never()).save(ArgumentMatchers.any());
+	}
+
 	@Test
 	public void updateShouldThrowResourceNotFoundExceptionWhenIdDoesNotExists() {
 
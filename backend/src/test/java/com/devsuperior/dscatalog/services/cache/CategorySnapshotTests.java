@@ -0,0 +1,82 @@
+package com.devsuperior.dscatalog.services.cache;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.devsuperior.dscatalog.dto.CategoryDTO;
+import com.devsuperior.dscatalog.entities.Category;
+import com.devsuperior.dscatalog.repositories.CategoryRepository;
+import com.devsuperior.dscatalog.services.events.CategoryChangedEvent;
+
+@ExtendWith(SpringExtension.class)
+public class CategorySnapshotTests {
+
+	@InjectMocks
+	private CategorySnapshot categorySnapshot;
+
+	@Mock
+	private CategoryRepository categoryRepository;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		ReflectionTestUtils.setField(categorySnapshot, "ttlSeconds", 3600L);
+
+		Mockito.when(categoryRepository.findAll()).thenReturn(List.of(new Category(1L, "Livros")));
+	}
+
+	@Test
+	public void findByIdShouldLoadOnceWhileSnapshotIsFresh() {
+
+		Assertions.assertEquals("Livros", categorySnapshot.findById(1L).getName());
+		Assertions.assertEquals("Livros", categorySnapshot.findById(1L).getName());
+
+		Mockito.verify(categoryRepository, Mockito.times(1)).findAll();
+	}
+
+	@Test
+	public void findByIdShouldSeeWritesFromOtherInstancesAfterTtl() {
+
+		categorySnapshot.findById(1L);
+
+		// Escrita feita em outra instância: nenhum evento chega a esta
+		Mockito.when(categoryRepository.findAll())
+				.thenReturn(List.of(new Category(1L, "Livros e Revistas"), new Category(2L, "Eletrônicos")));
+		ReflectionTestUtils.setField(categorySnapshot, "ttlSeconds", 0L);
+
+		Assertions.assertEquals("Livros e Revistas", categorySnapshot.findById(1L).getName());
+		Assertions.assertTrue(categorySnapshot.contains(2L));
+	}
+
+	@Test
+	public void findByIdShouldKeepStaleSnapshotWhenReloadFails() {
+
+		categorySnapshot.findById(1L);
+
+		Mockito.when(categoryRepository.findAll()).thenThrow(new IllegalStateException("banco indisponível"));
+		ReflectionTestUtils.setField(categorySnapshot, "ttlSeconds", 0L);
+
+		Assertions.assertEquals("Livros", categorySnapshot.findById(1L).getName());
+	}
+
+	@Test
+	public void onCategoryChangedShouldApplyLocalWriteWithoutReload() {
+
+		categorySnapshot.findById(1L);
+
+		categorySnapshot.onCategoryChanged(CategoryChangedEvent.upsert(new CategoryDTO(3L, "Computadores", 0L)));
+
+		Assertions.assertEquals("Computadores", categorySnapshot.findById(3L).getName());
+		Mockito.verify(categoryRepository, Mockito.times(1)).findAll();
+	}
+
+}
@@ -0,0 +1,73 @@
+package com.devsuperior.dscatalog.services.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.devsuperior.dscatalog.dto.CategoryDTO;
+import com.devsuperior.dscatalog.dto.ProductDTO;
+import com.devsuperior.dscatalog.tests.Factory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class ProductCacheTests {
+
+	private ProductCache productCache;
+
+	private ProductDTO productDto;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		productCache = new ProductCache();
+		ReflectionTestUtils.setField(productCache, "meterRegistry", new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(productCache, "maxSize", 100);
+		ReflectionTestUtils.setField(productCache, "ttlSeconds", 60L);
+		productCache.init();
+
+		productDto = Factory.createProductDTO();
+		productCache.put(productDto, productCache.generation());
+	}
+
+	@Test
+	public void getShouldReturnNullWhenIdIsNotCached() {
+		Assertions.assertNull(productCache.get(1000L));
+	}
+
+	@Test
+	public void getShouldReturnEqualCopyWhenIdIsCached() {
+
+		ProductDTO result = productCache.get(productDto.getId());
+
+		Assertions.assertNotSame(productDto, result);
+		Assertions.assertEquals(productDto.getName(), result.getName());
+		Assertions.assertEquals(productDto.getVersion(), result.getVersion());
+		Assertions.assertEquals(productDto.getCategories().size(), result.getCategories().size());
+		Assertions.assertNotSame(productDto.getCategories().get(0), result.getCategories().get(0));
+	}
+
+	@Test
+	public void getShouldNotSeeChangesMadeToReturnedCopy() {
+
+		ProductDTO first = productCache.get(productDto.getId());
+		first.setName("Alterado");
+		first.getCategories().get(0).setName("Alterada");
+		first.getCategories().add(new CategoryDTO(99L, "Nova"));
+
+		ProductDTO second = productCache.get(productDto.getId());
+
+		Assertions.assertEquals(productDto.getName(), second.getName());
+		Assertions.assertEquals(productDto.getCategories().get(0).getName(), second.getCategories().get(0).getName());
+		Assertions.assertEquals(productDto.getCategories().size(), second.getCategories().size());
+	}
+
+	@Test
+	public void getShouldNotSeeChangesMadeToStoredProductAfterPut() {
+
+		productDto.setName("Alterado depois do put");
+
+		Assertions.assertNotEquals("Alterado depois do put", productCache.get(productDto.getId()).getName());
+	}
+
+}
@@ -0,0 +1,209 @@
+package com.devsuperior.dscatalog.services.cache;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.devsuperior.dscatalog.dto.ProductDTO;
+import com.devsuperior.dscatalog.services.events.ProductChangedEvent;
+import com.devsuperior.dscatalog.tests.Factory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class ProductSearchCacheTests {
+
+	private ProductSearchCache productSearchCache;
+
+	private Pageable pageable;
+
+	private AtomicInteger loads;
+
+	private ExecutorService executor;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		pageable = PageRequest.of(0, 12);
+		loads = new AtomicInteger();
+		executor = Executors.newFixedThreadPool(2);
+
+		productSearchCache = create(60L, 2000L);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void getShouldLoadOnceWhenPageIsCached() {
+
+		Page<ProductDTO> first = productSearchCache.get(0L, "PC", pageable, counting(page()));
+		Page<ProductDTO> second = productSearchCache.get(0L, "pc", pageable, counting(page()));
+
+		Assertions.assertSame(first, second);
+		Assertions.assertEquals(1, loads.get());
+	}
+
+	@Test
+	public void getShouldLoadAgainWhenTtlExpired() {
+
+		productSearchCache = create(0L, 2000L);
+
+		productSearchCache.get(0L, "", pageable, counting(page()));
+		productSearchCache.get(0L, "", pageable, counting(page()));
+
+		Assertions.assertEquals(2, loads.get());
+	}
+
+	@Test
+	public void getShouldLoadAgainWhenProductChanged() {
+
+		productSearchCache.get(0L, "", pageable, counting(page()));
+		productSearchCache.onProductChanged(ProductChangedEvent.delete(1L));
+		productSearchCache.get(0L, "", pageable, counting(page()));
+
+		Assertions.assertEquals(2, loads.get());
+	}
+
+	@Test
+	public void getShouldShareRunningLoadWhenSameKeyArrivesTogether() throws Exception {
+
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Page<ProductDTO> page = page();
+
+		Future<Page<ProductDTO>> first = executor.submit(() -> productSearchCache.get(0L, "", pageable,
+				counting(blocking(page, started, release))));
+
+		Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		Future<Page<ProductDTO>> second = executor.submit(() -> productSearchCache.get(0L, "", pageable,
+				counting(page())));
+
+		// O segundo fica esperando a consulta do primeiro
+		Thread.sleep(100L);
+		Assertions.assertFalse(second.isDone());
+
+		release.countDown();
+
+		Assertions.assertSame(page, first.get(5, TimeUnit.SECONDS));
+		Assertions.assertSame(page, second.get(5, TimeUnit.SECONDS));
+		Assertions.assertEquals(1, loads.get());
+	}
+
+	@Test
+	public void getShouldLoadDirectlyWhenRunningLoadExceedsWaitTime() throws Exception {
+
+		productSearchCache = create(60L, 50L);
+
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		executor.submit(() -> productSearchCache.get(0L, "", pageable,
+				counting(blocking(page(), started, release))));
+
+		Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		try {
+			Page<ProductDTO> own = page();
+			Page<ProductDTO> result = productSearchCache.get(0L, "", pageable, counting(() -> own));
+
+			Assertions.assertSame(own, result);
+			Assertions.assertEquals(2, loads.get());
+		} finally {
+			release.countDown();
+		}
+	}
+
+	@Test
+	public void getShouldPropagateLoaderExceptionToWaiters() throws Exception {
+
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		Future<Page<ProductDTO>> first = executor.submit(() -> productSearchCache.get(0L, "", pageable, () -> {
+			started.countDown();
+			await(release);
+			throw new IllegalArgumentException("Ordenação não suportada");
+		}));
+
+		Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		Future<Page<ProductDTO>> second = executor.submit(() -> productSearchCache.get(0L, "", pageable,
+				counting(page())));
+
+		Thread.sleep(100L);
+		release.countDown();
+
+		Assertions.assertThrows(Exception.class, () -> first.get(5, TimeUnit.SECONDS));
+
+		try {
+			second.get(5, TimeUnit.SECONDS);
+			Assertions.fail("Esperava a exceção da consulta compartilhada");
+		} catch (ExecutionException e) {
+			Assertions.assertTrue(e.getCause() instanceof IllegalArgumentException);
+		}
+	}
+
+	private ProductSearchCache create(Long ttlSeconds, Long waitMillis) {
+
+		ProductSearchCache cache = new ProductSearchCache();
+		ReflectionTestUtils.setField(cache, "meterRegistry", new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(cache, "maxSize", 100);
+		ReflectionTestUtils.setField(cache, "ttlSeconds", ttlSeconds);
+		ReflectionTestUtils.setField(cache, "waitMillis", waitMillis);
+		cache.init();
+
+		return cache;
+	}
+
+	private Supplier<Page<ProductDTO>> counting(Page<ProductDTO> page) {
+		return counting(() -> page);
+	}
+
+	private Supplier<Page<ProductDTO>> counting(Supplier<Page<ProductDTO>> loader) {
+		return () -> {
+			loads.incrementAndGet();
+			return loader.get();
+		};
+	}
+
+	private static Supplier<Page<ProductDTO>> blocking(Page<ProductDTO> page, CountDownLatch started,
+			CountDownLatch release) {
+		return () -> {
+			started.countDown();
+			await(release);
+			return page;
+		};
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static Page<ProductDTO> page() {
+		return new PageImpl<>(List.of(Factory.createProductDTO()));
+	}
+
+}
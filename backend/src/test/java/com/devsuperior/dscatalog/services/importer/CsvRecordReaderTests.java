@@ -0,0 +1,83 @@
+package com.devsuperior.dscatalog.services.importer;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CsvRecordReaderTests {
+
+	@Test
+	public void nextShouldSplitFieldsByComma() throws IOException {
+
+		CsvRecordReader csv = reader("name,price\nPC Gamer,1200.0\n");
+
+		Assertions.assertEquals(List.of("name", "price"), csv.next());
+		Assertions.assertEquals(List.of("PC Gamer", "1200.0"), csv.next());
+		Assertions.assertNull(csv.next());
+	}
+
+	@Test
+	public void nextShouldReadLastRecordWithoutLineBreak() throws IOException {
+
+		CsvRecordReader csv = reader("a,b\nc,d");
+
+		csv.next();
+
+		Assertions.assertEquals(List.of("c", "d"), csv.next());
+		Assertions.assertNull(csv.next());
+	}
+
+	@Test
+	public void nextShouldKeepEmptyFields() throws IOException {
+		Assertions.assertEquals(List.of("", "x", ""), reader(",x,\n").next());
+	}
+
+	@Test
+	public void nextShouldKeepCommaAndEscapedQuotesInsideQuotedField() throws IOException {
+
+		CsvRecordReader csv = reader("\"Tela 15\"\", Full HD\",10\n");
+
+		Assertions.assertEquals(List.of("Tela 15\", Full HD", "10"), csv.next());
+	}
+
+	@Test
+	public void nextShouldKeepLineBreakInsideQuotedFieldAndCountLines() throws IOException {
+
+		CsvRecordReader csv = reader("a,b\n\"linha 1\nlinha 2\",c\nd,e\n");
+
+		csv.next();
+
+		Assertions.assertEquals(List.of("linha 1\nlinha 2", "c"), csv.next());
+		Assertions.assertEquals(2L, csv.getRecordLine());
+
+		Assertions.assertEquals(List.of("d", "e"), csv.next());
+		Assertions.assertEquals(4L, csv.getRecordLine());
+	}
+
+	@Test
+	public void nextShouldSkipBlankLinesAndAcceptCrLf() throws IOException {
+
+		CsvRecordReader csv = reader("a,b\r\n\r\n\r\nc,d\r\n");
+
+		Assertions.assertEquals(List.of("a", "b"), csv.next());
+		Assertions.assertEquals(1L, csv.getRecordLine());
+
+		Assertions.assertEquals(List.of("c", "d"), csv.next());
+		Assertions.assertEquals(4L, csv.getRecordLine());
+
+		Assertions.assertNull(csv.next());
+	}
+
+	@Test
+	public void nextShouldReturnNullWhenInputIsEmpty() throws IOException {
+		Assertions.assertNull(reader("").next());
+	}
+
+	private static CsvRecordReader reader(String content) {
+		return new CsvRecordReader(new StringReader(content));
+	}
+
+}
@@ -0,0 +1,151 @@
+package com.devsuperior.dscatalog.services.importer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.List;
+
+import javax.validation.Validation;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.devsuperior.dscatalog.dto.CategoryDTO;
+import com.devsuperior.dscatalog.dto.ProductDTO;
+import com.devsuperior.dscatalog.dto.ProductImportReportDTO;
+import com.devsuperior.dscatalog.repositories.ProductRepository;
+import com.devsuperior.dscatalog.services.cache.CategorySnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+@ExtendWith(SpringExtension.class)
+public class ProductImportServiceTests {
+
+	private static final String HEADER = "name,description,price,imgUrl,moment,categories\n";
+
+	@InjectMocks
+	private ProductImportService productImportService;
+
+	@Mock
+	private ProductRepository productRepository;
+
+	@Mock
+	private CategorySnapshot categorySnapshot;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		ReflectionTestUtils.setField(productImportService, "validator",
+				Validation.buildDefaultValidatorFactory().getValidator());
+		ReflectionTestUtils.setField(productImportService, "objectMapper",
+				new ObjectMapper().registerModule(new JavaTimeModule()));
+		ReflectionTestUtils.setField(productImportService, "batchSize", 10);
+		ReflectionTestUtils.setField(productImportService, "maxErrors", 100);
+
+		Mockito.when(categorySnapshot.findById(1L)).thenReturn(new CategoryDTO(1L, "Livros", 0L));
+
+		// O banco recusa qualquer gravação que contenha o produto "Duplicado"
+		Mockito.doAnswer(invocation -> {
+			List<ProductDTO> products = invocation.getArgument(0);
+			if (products.stream().anyMatch(product -> product.getName().equals("Duplicado"))) {
+				throw new DataIntegrityViolationException("could not execute batch",
+						new SQLException("chave duplicada: Duplicado"));
+			}
+			return null;
+		}).when(productRepository).insertProducts(anyList());
+	}
+
+	@Test
+	public void importCsvShouldImportValidRows() {
+
+		ProductImportReportDTO report = productImportService.importCsv(csv(
+				"Livro A,Descrição A,10.5,,2020-07-13T20:50:07Z,1\n"
+				+ "Livro B,Descrição B,20.0,,,1\n"));
+
+		Assertions.assertEquals(2L, report.getRows());
+		Assertions.assertEquals(2L, report.getImported());
+		Assertions.assertEquals(0L, report.getRejected());
+		Mockito.verify(productRepository, Mockito.times(1)).insertProducts(anyList());
+		Mockito.verify(eventPublisher, Mockito.times(2)).publishEvent(any(Object.class));
+	}
+
+	@Test
+	public void importCsvShouldRejectInvalidRowsWithTheirLineNumber() {
+
+		ProductImportReportDTO report = productImportService.importCsv(csv(
+				"Livro A,Descrição A,abc,,,1\n"
+				+ "Livro B,,20.0,,,1\n"
+				+ "Livro C,Descrição C,30.0,,,99\n"
+				+ "Livro D,Descrição D,40.0,,,1\n"));
+
+		Assertions.assertEquals(4L, report.getRows());
+		Assertions.assertEquals(1L, report.getImported());
+		Assertions.assertEquals(3L, report.getRejected());
+		Assertions.assertEquals(2L, report.getErrors().get(0).getRow());
+		Assertions.assertEquals(3L, report.getErrors().get(1).getRow());
+		Assertions.assertEquals(4L, report.getErrors().get(2).getRow());
+	}
+
+	@Test
+	public void importCsvShouldRejectOnlyFailingRowWhenBatchIsRefused() {
+
+		ProductImportReportDTO report = productImportService.importCsv(csv(
+				"Livro A,Descrição A,10.0,,,1\n"
+				+ "Duplicado,Descrição,20.0,,,1\n"
+				+ "Livro C,Descrição C,30.0,,,1\n"));
+
+		Assertions.assertEquals(3L, report.getRows());
+		Assertions.assertEquals(2L, report.getImported());
+		Assertions.assertEquals(1L, report.getRejected());
+		Assertions.assertEquals(3L, report.getErrors().get(0).getRow());
+		Assertions.assertTrue(report.getErrors().get(0).getMessage().contains("chave duplicada"));
+
+		// Um lote recusado e três gravações linha a linha
+		Mockito.verify(productRepository, Mockito.times(4)).insertProducts(anyList());
+		Mockito.verify(eventPublisher, Mockito.times(2)).publishEvent(any(Object.class));
+	}
+
+	@Test
+	public void importNdjsonShouldRejectMalformedLineAndImportTheOthers() {
+
+		ProductImportReportDTO report = productImportService.importNdjson(stream(
+				"{\"name\":\"Livro A\",\"description\":\"Descrição\",\"price\":10.0,\"categories\":[{\"id\":1}]}\n"
+				+ "\n"
+				+ "{\"name\":\n"
+				+ "{\"name\":\"Livro B\",\"description\":\"Descrição\",\"price\":20.0,\"categories\":[{\"id\":1}]}\n"));
+
+		Assertions.assertEquals(3L, report.getRows());
+		Assertions.assertEquals(2L, report.getImported());
+		Assertions.assertEquals(1L, report.getRejected());
+		Assertions.assertEquals(3L, report.getErrors().get(0).getRow());
+	}
+
+	private static InputStream csv(String rows) {
+		return stream(HEADER + rows);
+	}
+
+	private static InputStream stream(String content) {
+		return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
@@ -0,0 +1,95 @@
+package com.devsuperior.dscatalog.services.pagination;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+public class ApproximatePageTests {
+
+	private static final List<Integer> FULL_PAGE = List.of(1, 2, 3);
+
+	@Test
+	public void ofShouldBeExactWhenFirstPageHasNoNext() {
+
+		ApproximatePage<Integer> page = ApproximatePage.of(slice(FULL_PAGE, PageRequest.of(0, 3), false), 100L);
+
+		Assertions.assertFalse(page.isApproximate());
+		Assertions.assertEquals(3L, page.getTotalElements());
+	}
+
+	@Test
+	public void ofShouldBeExactWhenFirstPageIsEmpty() {
+
+		ApproximatePage<Integer> page = ApproximatePage.of(slice(Collections.emptyList(), PageRequest.of(0, 3), false),
+				100L);
+
+		Assertions.assertFalse(page.isApproximate());
+		Assertions.assertEquals(0L, page.getTotalElements());
+	}
+
+	@Test
+	public void ofShouldUseEstimateWhenMiddlePageHasNext() {
+
+		ApproximatePage<Integer> page = ApproximatePage.of(slice(FULL_PAGE, PageRequest.of(2, 3), true), 100L);
+
+		Assertions.assertTrue(page.isApproximate());
+		Assertions.assertEquals(100L, page.getTotalElements());
+	}
+
+	@Test
+	public void ofShouldNotEstimateBelowSeenRowsWhenPageHasNext() {
+
+		ApproximatePage<Integer> page = ApproximatePage.of(slice(FULL_PAGE, PageRequest.of(2, 3), true), 5L);
+
+		Assertions.assertTrue(page.isApproximate());
+		Assertions.assertEquals(10L, page.getTotalElements());
+	}
+
+	@Test
+	public void ofShouldBeExactWhenLastPageHasRows() {
+
+		ApproximatePage<Integer> page = ApproximatePage.of(slice(List.of(7, 8), PageRequest.of(2, 3), false), 100L);
+
+		Assertions.assertFalse(page.isApproximate());
+		Assertions.assertEquals(8L, page.getTotalElements());
+	}
+
+	@Test
+	public void ofShouldBeApproximateWhenPageIsPastTheEnd() {
+
+		ApproximatePage<Integer> page = ApproximatePage.of(slice(Collections.emptyList(), PageRequest.of(10, 3), false),
+				8L);
+
+		Assertions.assertTrue(page.isApproximate());
+		Assertions.assertEquals(8L, page.getTotalElements());
+	}
+
+	@Test
+	public void ofShouldNotEstimateAboveOffsetWhenPageIsPastTheEnd() {
+
+		ApproximatePage<Integer> page = ApproximatePage.of(slice(Collections.emptyList(), PageRequest.of(10, 3), false),
+				500L);
+
+		Assertions.assertTrue(page.isApproximate());
+		Assertions.assertEquals(30L, page.getTotalElements());
+	}
+
+	@Test
+	public void isExactShouldBeFalseOnlyWhenEstimateIsNeeded() {
+
+		Assertions.assertTrue(ApproximatePage.isExact(slice(FULL_PAGE, PageRequest.of(0, 3), false)));
+		Assertions.assertTrue(ApproximatePage.isExact(slice(List.of(7), PageRequest.of(2, 3), false)));
+		Assertions.assertFalse(ApproximatePage.isExact(slice(FULL_PAGE, PageRequest.of(0, 3), true)));
+		Assertions.assertFalse(ApproximatePage.isExact(slice(Collections.emptyList(), PageRequest.of(4, 3), false)));
+	}
+
+	private static SliceImpl<Integer> slice(List<Integer> content, Pageable pageable, boolean hasNext) {
+		return new SliceImpl<>(content, pageable, hasNext);
+	}
+
+}
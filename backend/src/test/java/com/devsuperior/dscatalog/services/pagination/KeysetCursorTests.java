@@ -0,0 +1,82 @@
+package com.devsuperior.dscatalog.services.pagination;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import com.devsuperior.dscatalog.services.exceptions.InvalidCursorException;
+
+public class KeysetCursorTests {
+
+	private static final Set<String> PROPERTIES = Set.of("id", "name");
+
+	@Test
+	public void decodeShouldReturnTheEncodedCursor() {
+
+		KeysetCursor cursor = KeysetCursor.decode(new KeysetCursor("name", "PC Gamer", 4L).encode());
+
+		Assertions.assertEquals("name", cursor.getProperty());
+		Assertions.assertEquals("PC Gamer", cursor.getValue());
+		Assertions.assertEquals(4L, cursor.getId());
+	}
+
+	@Test
+	public void decodeShouldKeepSeparatorsAndAccentsInsideTheValue() {
+
+		KeysetCursor cursor = KeysetCursor.decode(new KeysetCursor("name", "Ação\nlinha 2", 7L).encode());
+
+		Assertions.assertEquals("Ação\nlinha 2", cursor.getValue());
+		Assertions.assertEquals(7L, cursor.getId());
+	}
+
+	@Test
+	public void encodeShouldBeUrlSafe() {
+
+		String token = new KeysetCursor("name", "???>>>", 1L).encode();
+
+		Assertions.assertTrue(token.matches("[A-Za-z0-9_-]+"));
+	}
+
+	@Test
+	public void decodeShouldThrowInvalidCursorExceptionWhenTokenIsMalformed() {
+
+		Assertions.assertThrows(InvalidCursorException.class, () -> KeysetCursor.decode("%%%"));
+		Assertions.assertThrows(InvalidCursorException.class, () -> KeysetCursor.decode("bm9tZQ"));
+		// Id que não é número
+		Assertions.assertThrows(InvalidCursorException.class,
+				() -> KeysetCursor.decode(new KeysetCursor("id", "", null).encode()));
+	}
+
+	@Test
+	public void ofShouldStartBeforeEveryRecordWhenCursorIsEmpty() {
+
+		KeysetCursor cursor = KeysetCursor.of(null, Sort.by("name"), PROPERTIES);
+
+		Assertions.assertEquals("name", cursor.getProperty());
+		Assertions.assertEquals("", cursor.getValue());
+		Assertions.assertEquals(0L, cursor.getId());
+		Assertions.assertEquals("id", KeysetCursor.of("", Sort.unsorted(), PROPERTIES).getProperty());
+	}
+
+	@Test
+	public void ofShouldThrowInvalidCursorExceptionWhenSortChangesBetweenPages() {
+
+		String token = new KeysetCursor("id", "", 10L).encode();
+
+		Assertions.assertThrows(InvalidCursorException.class, () -> KeysetCursor.of(token, Sort.by("name"), PROPERTIES));
+		Assertions.assertEquals(10L, KeysetCursor.of(token, Sort.unsorted(), PROPERTIES).getId());
+	}
+
+	@Test
+	public void ofShouldThrowInvalidCursorExceptionWhenSortIsNotSupported() {
+
+		Assertions.assertThrows(InvalidCursorException.class,
+				() -> KeysetCursor.of(null, Sort.by(Sort.Direction.DESC, "name"), PROPERTIES));
+		Assertions.assertThrows(InvalidCursorException.class, () -> KeysetCursor.of(null, Sort.by("price"), PROPERTIES));
+		Assertions.assertThrows(InvalidCursorException.class,
+				() -> KeysetCursor.of(null, Sort.by("name", "id"), PROPERTIES));
+	}
+
+}
@@ -0,0 +1,113 @@
+package com.devsuperior.dscatalog.services.patch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.validation.Validation;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.devsuperior.dscatalog.dto.CategoryDTO;
+import com.devsuperior.dscatalog.dto.ProductDTO;
+import com.devsuperior.dscatalog.services.exceptions.ValidationException;
+import com.devsuperior.dscatalog.tests.Factory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+public class MergePatcherTests {
+
+	private MergePatcher mergePatcher;
+
+	private ObjectMapper objectMapper;
+
+	private ProductDTO productDto;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+		mergePatcher = new MergePatcher();
+		ReflectionTestUtils.setField(mergePatcher, "objectMapper", objectMapper);
+		ReflectionTestUtils.setField(mergePatcher, "validator", Validation.buildDefaultValidatorFactory().getValidator());
+
+		productDto = Factory.createProductDTO();
+	}
+
+	@Test
+	public void applyShouldChangeOnlyInformedFields() throws Exception {
+
+		ProductDTO result = mergePatcher.apply(json("{\"price\": 950.0}"), productDto);
+
+		Assertions.assertSame(productDto, result);
+		Assertions.assertEquals(950.0, result.getPrice());
+		Assertions.assertEquals("Phone", result.getName());
+		Assertions.assertEquals("Good Phone", result.getDescription());
+		Assertions.assertEquals("https://img.com/img.png", result.getImgUrl());
+		Assertions.assertEquals(1, result.getCategories().size());
+	}
+
+	@Test
+	public void applyShouldClearFieldWhenValueIsExplicitNull() throws Exception {
+
+		ProductDTO result = mergePatcher.apply(json("{\"imgUrl\": null}"), productDto);
+
+		Assertions.assertNull(result.getImgUrl());
+		Assertions.assertEquals("Phone", result.getName());
+	}
+
+	@Test
+	public void applyShouldReplaceWholeList() throws Exception {
+
+		ProductDTO result = mergePatcher.apply(json("{\"categories\": [{\"id\": 1}, {\"id\": 3}]}"), productDto);
+
+		Assertions.assertEquals(List.of(1L, 3L), ids(result.getCategories()));
+	}
+
+	@Test
+	public void applyShouldThrowValidationExceptionWhenRequiredFieldIsNulled() throws Exception {
+
+		ValidationException e = Assertions.assertThrows(ValidationException.class,
+				() -> mergePatcher.apply(json("{\"description\": null}"), productDto));
+
+		Assertions.assertEquals("description", e.getErrors().get(0).getFieldName());
+	}
+
+	@Test
+	public void applyShouldThrowValidationExceptionWhenValueBreaksConstraint() throws Exception {
+
+		ValidationException e = Assertions.assertThrows(ValidationException.class,
+				() -> mergePatcher.apply(json("{\"price\": -1}"), productDto));
+
+		Assertions.assertEquals("price", e.getErrors().get(0).getFieldName());
+	}
+
+	@Test
+	public void applyShouldThrowValidationExceptionWhenPatchIsNotObject() throws Exception {
+
+		Assertions.assertThrows(ValidationException.class, () -> mergePatcher.apply(json("[1, 2]"), productDto));
+		Assertions.assertThrows(ValidationException.class, () -> mergePatcher.apply(null, productDto));
+	}
+
+	@Test
+	public void applyShouldThrowValidationExceptionWhenValueHasWrongType() throws Exception {
+
+		Assertions.assertThrows(ValidationException.class,
+				() -> mergePatcher.apply(json("{\"price\": \"caro\"}"), productDto));
+	}
+
+	private JsonNode json(String content) throws Exception {
+		return objectMapper.readTree(content);
+	}
+
+	private static List<Long> ids(List<CategoryDTO> categories) {
+		List<Long> ids = new ArrayList<>();
+		categories.forEach(category -> ids.add(category.getId()));
+		return ids;
+	}
+
+}
@@ -0,0 +1,62 @@
+package com.devsuperior.dscatalog.services.revocation;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class BloomFilterTests {
+
+	@Test
+	public void mightContainShouldReturnTrueForEveryAddedValue() {
+
+		BloomFilter filter = new BloomFilter(10000, 0.01);
+
+		for (int i = 0; i < 10000; i++) {
+			filter.add("jti-" + i);
+		}
+
+		for (int i = 0; i < 10000; i++) {
+			Assertions.assertTrue(filter.mightContain("jti-" + i));
+		}
+	}
+
+	@Test
+	public void mightContainShouldStayNearFalsePositiveRateWithinCapacity() {
+
+		BloomFilter filter = new BloomFilter(10000, 0.01);
+
+		for (int i = 0; i < 10000; i++) {
+			filter.add("jti-" + i);
+		}
+
+		int falsePositives = 0;
+
+		for (int i = 0; i < 100000; i++) {
+			if (filter.mightContain("other-" + i)) {
+				falsePositives++;
+			}
+		}
+
+		// 1% esperado; folga para a variação do hash
+		Assertions.assertTrue(falsePositives < 2000, "Falsos positivos: " + falsePositives);
+	}
+
+	@Test
+	public void mightContainShouldReturnFalseWhenFilterIsEmpty() {
+
+		BloomFilter filter = new BloomFilter(100, 0.001);
+
+		Assertions.assertFalse(filter.mightContain("jti"));
+		Assertions.assertFalse(filter.mightContain(""));
+	}
+
+	@Test
+	public void constructorShouldAcceptCapacityBelowOne() {
+
+		BloomFilter filter = new BloomFilter(0, 0.001);
+		filter.add("jti");
+
+		Assertions.assertEquals(1, filter.getCapacity());
+		Assertions.assertTrue(filter.mightContain("jti"));
+	}
+
+}
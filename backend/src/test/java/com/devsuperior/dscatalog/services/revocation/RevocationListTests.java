@@ -0,0 +1,80 @@
+package com.devsuperior.dscatalog.services.revocation;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RevocationListTests {
+
+	private RevocationList revocationList;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		revocationList = new RevocationList(4, 0.01);
+	}
+
+	@Test
+	public void isRevokedShouldReturnTrueOnlyForAddedTokens() {
+
+		revocationList.add("jti-1", 1000L);
+
+		Assertions.assertTrue(revocationList.isRevoked("jti-1"));
+		Assertions.assertFalse(revocationList.isRevoked("jti-2"));
+		Assertions.assertEquals(1, revocationList.size());
+	}
+
+	@Test
+	public void addShouldKeepEveryTokenWhenFilterGrowsPastCapacity() {
+
+		for (int i = 0; i < 100; i++) {
+			revocationList.add("jti-" + i, 1000L);
+		}
+
+		for (int i = 0; i < 100; i++) {
+			Assertions.assertTrue(revocationList.isRevoked("jti-" + i));
+		}
+
+		Assertions.assertEquals(100, revocationList.size());
+	}
+
+	@Test
+	public void addShouldNotDuplicateTokenAlreadyRevoked() {
+
+		revocationList.add("jti-1", 1000L);
+		revocationList.add("jti-1", 1000L);
+
+		Assertions.assertEquals(1, revocationList.size());
+	}
+
+	@Test
+	public void removeExpiredShouldRemoveOnlyExpiredTokens() {
+
+		revocationList.add("expired", 1000L);
+		revocationList.add("at-limit", 2000L);
+		revocationList.add("active", 3000L);
+
+		int removed = revocationList.removeExpired(2000L);
+
+		Assertions.assertEquals(2, removed);
+		Assertions.assertFalse(revocationList.isRevoked("expired"));
+		Assertions.assertFalse(revocationList.isRevoked("at-limit"));
+		Assertions.assertTrue(revocationList.isRevoked("active"));
+		Assertions.assertEquals(1, revocationList.size());
+	}
+
+	@Test
+	public void isRevokedShouldNotReportFalsePositiveAsRevoked() {
+
+		for (int i = 0; i < 4; i++) {
+			revocationList.add("jti-" + i, 1000L);
+		}
+
+		for (int i = 0; i < 10000; i++) {
+			Assertions.assertFalse(revocationList.isRevoked("other-" + i));
+		}
+
+		// O filtro pode responder talvez; o conjunto exato decide e a consulta é contada
+		Assertions.assertTrue(revocationList.getFalsePositives() < 1000);
+	}
+
+}
@@ -0,0 +1,185 @@
+package com.devsuperior.dscatalog.services.search;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+// Resultados do CompactBitmap conferidos contra um TreeSet, com valores
+// nos dois tipos de container (lista até 4096 valores, bitmap acima disso)
+public class CompactBitmapTests {
+
+	private TreeSet<Integer> sparse;
+	private TreeSet<Integer> dense;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		Random random = new Random(42);
+
+		// Poucos valores por container: containers de lista
+		sparse = new TreeSet<>();
+		for (int i = 0; i < 3000; i++) {
+			sparse.add(random.nextInt(5 << 16));
+		}
+
+		// Containers 0 e 1 cheios (bitmap) e alguns valores no container 2
+		dense = new TreeSet<>();
+		for (int i = 0; i < 2 << 16; i += 3) {
+			dense.add(i);
+		}
+		for (int i = 0; i < 100; i++) {
+			dense.add((2 << 16) + random.nextInt(1 << 16));
+		}
+	}
+
+	@Test
+	public void addShouldIgnoreDuplicatesAndKeepValuesInAscendingOrder() {
+
+		CompactBitmap bitmap = CompactBitmap.of(70000, 5, 65535, 5, 65536, 0);
+
+		Assertions.assertArrayEquals(new int[] { 0, 5, 65535, 65536, 70000 }, bitmap.toArray());
+		Assertions.assertEquals(5, bitmap.cardinality());
+	}
+
+	@Test
+	public void containsShouldHandleContainerBoundaries() {
+
+		CompactBitmap bitmap = CompactBitmap.of(0, 65535, 65536, Integer.MAX_VALUE);
+
+		Assertions.assertTrue(bitmap.contains(0));
+		Assertions.assertTrue(bitmap.contains(65535));
+		Assertions.assertTrue(bitmap.contains(65536));
+		Assertions.assertTrue(bitmap.contains(Integer.MAX_VALUE));
+		Assertions.assertFalse(bitmap.contains(1));
+		Assertions.assertFalse(bitmap.contains(65537));
+		Assertions.assertFalse(bitmap.contains(Integer.MAX_VALUE - 1));
+	}
+
+	@Test
+	public void forEachShouldVisitEveryValueOnceInAscendingOrder() {
+
+		Assertions.assertArrayEquals(toArray(sparse), bitmap(sparse).toArray());
+		Assertions.assertArrayEquals(toArray(dense), bitmap(dense).toArray());
+	}
+
+	@Test
+	public void containerShouldSwitchToBitmapAndBackToListWhenCrossingTheLimit() {
+
+		CompactBitmap bitmap = new CompactBitmap();
+
+		for (int i = 0; i <= 4096; i++) {
+			bitmap.add(i * 2);
+		}
+
+		Assertions.assertEquals(4097, bitmap.cardinality());
+		Assertions.assertTrue(bitmap.contains(8192));
+
+		bitmap.remove(8192);
+		bitmap.remove(0);
+
+		Assertions.assertEquals(4095, bitmap.cardinality());
+		Assertions.assertFalse(bitmap.contains(0));
+		Assertions.assertTrue(bitmap.contains(2));
+		Assertions.assertTrue(bitmap.contains(8190));
+	}
+
+	@Test
+	public void removeShouldDropEmptyContainers() {
+
+		CompactBitmap bitmap = CompactBitmap.of(1, 65536);
+
+		bitmap.remove(1);
+		bitmap.remove(65536);
+		bitmap.remove(123456);
+
+		Assertions.assertTrue(bitmap.isEmpty());
+		Assertions.assertEquals(0, bitmap.toArray().length);
+	}
+
+	@Test
+	public void andShouldReturnIntersectionForEveryContainerCombination() {
+
+		TreeSet<Integer> expected = new TreeSet<>(sparse);
+		expected.retainAll(dense);
+
+		Assertions.assertArrayEquals(toArray(expected), bitmap(sparse).and(bitmap(dense)).toArray());
+		Assertions.assertArrayEquals(toArray(expected), bitmap(dense).and(bitmap(sparse)).toArray());
+		Assertions.assertArrayEquals(toArray(dense), bitmap(dense).and(bitmap(dense)).toArray());
+		Assertions.assertEquals(expected.size(), bitmap(sparse).andCardinality(bitmap(dense)));
+		Assertions.assertEquals(expected.size(), bitmap(dense).andCardinality(bitmap(sparse)));
+	}
+
+	@Test
+	public void orShouldReturnUnionForEveryContainerCombination() {
+
+		TreeSet<Integer> expected = new TreeSet<>(sparse);
+		expected.addAll(dense);
+
+		CompactBitmap sparseOrDense = bitmap(sparse);
+		sparseOrDense.or(bitmap(dense));
+
+		CompactBitmap denseOrSparse = bitmap(dense);
+		denseOrSparse.or(bitmap(sparse));
+
+		Assertions.assertArrayEquals(toArray(expected), sparseOrDense.toArray());
+		Assertions.assertArrayEquals(toArray(expected), denseOrSparse.toArray());
+		Assertions.assertEquals(expected.size(), sparseOrDense.cardinality());
+	}
+
+	@Test
+	public void andNotShouldReturnDifferenceForEveryContainerCombination() {
+
+		TreeSet<Integer> sparseMinusDense = new TreeSet<>(sparse);
+		sparseMinusDense.removeAll(dense);
+
+		TreeSet<Integer> denseMinusSparse = new TreeSet<>(dense);
+		denseMinusSparse.removeAll(sparse);
+
+		Assertions.assertArrayEquals(toArray(sparseMinusDense), bitmap(sparse).andNot(bitmap(dense)).toArray());
+		Assertions.assertArrayEquals(toArray(denseMinusSparse), bitmap(dense).andNot(bitmap(sparse)).toArray());
+		Assertions.assertTrue(bitmap(dense).andNot(bitmap(dense)).isEmpty());
+		Assertions.assertArrayEquals(toArray(dense), bitmap(dense).andNot(new CompactBitmap()).toArray());
+	}
+
+	@Test
+	public void operationsShouldNotChangeTheOperands() {
+
+		CompactBitmap left = bitmap(sparse);
+		CompactBitmap right = bitmap(dense);
+
+		left.and(right);
+		left.andNot(right);
+		left.copy().or(right);
+
+		Assertions.assertArrayEquals(toArray(sparse), left.toArray());
+		Assertions.assertArrayEquals(toArray(dense), right.toArray());
+	}
+
+	@Test
+	public void copyShouldBeIndependentOfTheOriginal() {
+
+		CompactBitmap original = bitmap(dense);
+		CompactBitmap copy = original.copy();
+
+		copy.add(Integer.MAX_VALUE);
+		copy.remove(0);
+
+		Assertions.assertTrue(original.contains(0));
+		Assertions.assertFalse(original.contains(Integer.MAX_VALUE));
+		Assertions.assertEquals(dense.size(), original.cardinality());
+	}
+
+	private static CompactBitmap bitmap(TreeSet<Integer> values) {
+		CompactBitmap bitmap = new CompactBitmap();
+		values.forEach(bitmap::add);
+		return bitmap;
+	}
+
+	private static int[] toArray(TreeSet<Integer> values) {
+		return values.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+}
@@ -0,0 +1,102 @@
+package com.devsuperior.dscatalog.services.search;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.devsuperior.dscatalog.dto.ProductDTO;
+import com.devsuperior.dscatalog.entities.Product;
+import com.devsuperior.dscatalog.repositories.ProductRepository;
+import com.devsuperior.dscatalog.services.events.ProductChangedEvent;
+
+public class ProductIndexLoaderTests {
+
+	private ProductIndexLoader loader;
+
+	private ProductRepository productRepository;
+
+	private ProductSearchIndex productSearchIndex;
+	private CategoryBitmapIndex categoryBitmapIndex;
+	private ProductSuggestIndex productSuggestIndex;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		productRepository = Mockito.mock(ProductRepository.class);
+		productSearchIndex = new ProductSearchIndex();
+		categoryBitmapIndex = new CategoryBitmapIndex();
+		productSuggestIndex = new ProductSuggestIndex();
+
+		loader = new ProductIndexLoader();
+		ReflectionTestUtils.setField(loader, "productRepository", productRepository);
+		ReflectionTestUtils.setField(loader, "productSearchIndex", productSearchIndex);
+		ReflectionTestUtils.setField(loader, "categoryBitmapIndex", categoryBitmapIndex);
+		ReflectionTestUtils.setField(loader, "productSuggestIndex", productSuggestIndex);
+		ReflectionTestUtils.setField(loader, "batchSize", 10);
+
+		Mockito.when(productRepository.findIdsAfter(ArgumentMatchers.eq(0L), ArgumentMatchers.any()))
+				.thenReturn(List.of(1L, 2L));
+	}
+
+	// O lote foi lido antes do commit da exclusão e chega aos índices depois do evento
+	@Test
+	public void loadShouldNotBringBackProductDeletedDuringLoad() {
+
+		Mockito.when(productRepository.findProductsWithCategoriesByIds(List.of(1L, 2L))).thenAnswer(invocation -> {
+			publish(ProductChangedEvent.delete(2L));
+			return List.of(product(1L, "PC Gamer"), product(2L, "Smart TV"));
+		});
+
+		loader.load();
+
+		Assertions.assertArrayEquals(new int[] { 1 }, productSearchIndex.match("").toArray());
+		Assertions.assertTrue(productSuggestIndex.suggest("smart", 10).isEmpty());
+		Assertions.assertTrue(productSearchIndex.isReady());
+	}
+
+	@Test
+	public void loadShouldKeepVersionUpdatedDuringLoad() {
+
+		Mockito.when(productRepository.findProductsWithCategoriesByIds(List.of(1L, 2L))).thenAnswer(invocation -> {
+			publish(ProductChangedEvent.upsert(new ProductDTO(product(2L, "Smart TV OLED"))));
+			return List.of(product(1L, "PC Gamer"), product(2L, "Smart TV"));
+		});
+		Mockito.when(productRepository.findProductsWithCategoriesByIds(List.of(2L)))
+				.thenReturn(List.of(product(2L, "Smart TV OLED")));
+
+		loader.load();
+
+		Assertions.assertArrayEquals(new int[] { 2 }, productSearchIndex.match("oled").toArray());
+		Assertions.assertEquals(List.of("Smart TV OLED"), productSuggestIndex.suggest("smart", 10));
+	}
+
+	// Depois da carga os índices seguem só com os próprios listeners
+	@Test
+	public void onProductChangedShouldNotKeepIdsAfterLoad() {
+
+		loader.load();
+		loader.onProductChanged(ProductChangedEvent.delete(1L));
+
+		Assertions.assertTrue(((Set<?>) ReflectionTestUtils.getField(loader, "changedDuringLoad")).isEmpty());
+	}
+
+	// Mesma ordem dos listeners após o commit: os índices e depois o loader
+	private void publish(ProductChangedEvent event) {
+		productSearchIndex.onProductChanged(event);
+		categoryBitmapIndex.onProductChanged(event);
+		productSuggestIndex.onProductChanged(event);
+		loader.onProductChanged(event);
+	}
+
+	private static Product product(Long id, String name) {
+		return new Product(id, name, "", 100.0, null, Instant.parse("2020-07-13T20:50:07Z"));
+	}
+
+}
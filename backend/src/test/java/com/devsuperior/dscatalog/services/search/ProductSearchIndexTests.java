@@ -0,0 +1,133 @@
+package com.devsuperior.dscatalog.services.search;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.devsuperior.dscatalog.dto.ProductDTO;
+
+public class ProductSearchIndexTests {
+
+	private ProductSearchIndex index;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		index = new ProductSearchIndex();
+
+		index.index(product(1L, "PC Gamer", "Computador para jogos", 1200.0));
+		index.index(product(2L, "Smart TV", "Televisão 50 polegadas", 2190.0));
+		index.index(product(3L, "PC Gamer Alfa", "Placa de vídeo dedicada", 1850.0));
+		index.index(product(4L, "Notebook Gamer", "Tela de 15 polegadas", 3500.0));
+
+		index.markReady();
+	}
+
+	@Test
+	public void matchShouldFindTextAnywhereInTheName() {
+		Assertions.assertArrayEquals(new int[] { 1, 3, 4 }, index.match("gam").toArray());
+		Assertions.assertArrayEquals(new int[] { 1, 3, 4 }, index.match("amer").toArray());
+	}
+
+	@Test
+	public void matchShouldRequireContiguousText() {
+		Assertions.assertArrayEquals(new int[] { 1, 3 }, index.match("pc gamer").toArray());
+		Assertions.assertTrue(index.match("gamer pc").isEmpty());
+		Assertions.assertTrue(index.match("pc notebook").isEmpty());
+	}
+
+	@Test
+	public void matchShouldIgnoreCaseAndAccentsButNotDescription() {
+		Assertions.assertArrayEquals(new int[] { 2 }, index.match("SMÁRT").toArray());
+		Assertions.assertTrue(index.match("polegadas").isEmpty());
+	}
+
+	@Test
+	public void matchShouldAnswerQueriesShorterThanATrigram() {
+		Assertions.assertArrayEquals(new int[] { 2 }, index.match("tv").toArray());
+		Assertions.assertArrayEquals(new int[] { 1, 3 }, index.match("c ").toArray());
+	}
+
+	@Test
+	public void matchShouldReturnEveryProductWhenQueryIsBlank() {
+		Assertions.assertEquals(4, index.match("").cardinality());
+		Assertions.assertEquals(4, index.match("   ").cardinality());
+	}
+
+	@Test
+	public void indexShouldReplaceGramsOfAnUpdatedProduct() {
+
+		index.index(product(2L, "Smart TV OLED", "Televisão 65", 5000.0));
+
+		Assertions.assertArrayEquals(new int[] { 2 }, index.match("oled").toArray());
+		Assertions.assertArrayEquals(new int[] { 2 }, index.match("tv ole").toArray());
+
+		index.index(product(2L, "Monitor", "", 900.0));
+
+		Assertions.assertTrue(index.match("smart").isEmpty());
+	}
+
+	@Test
+	public void removeShouldDropProductFromEveryGram() {
+
+		index.remove(3L);
+
+		Assertions.assertArrayEquals(new int[] { 1, 4 }, index.match("gamer").toArray());
+		Assertions.assertTrue(index.match("alfa").isEmpty());
+		Assertions.assertEquals(3, index.match("").cardinality());
+	}
+
+	@Test
+	public void pageShouldReturnIdsInIdOrderWhenUnsorted() {
+
+		ProductSearchIndex.SearchResult result = index.page(index.match("gamer"), PageRequest.of(1, 2));
+
+		Assertions.assertEquals(List.of(4L), result.getIds());
+		Assertions.assertEquals(3L, result.getTotal());
+	}
+
+	@Test
+	public void pageShouldSortByRequestedPropertyWithIdAsTieBreaker() {
+
+		index.index(product(5L, "PC Gamer Beta", "", 1200.0));
+
+		ProductSearchIndex.SearchResult byPrice = index.page(index.match("gamer"),
+				PageRequest.of(0, 3, Sort.by("price")));
+		ProductSearchIndex.SearchResult byNameDesc = index.page(index.match("gamer"),
+				PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "name")));
+
+		Assertions.assertEquals(List.of(1L, 5L, 3L), byPrice.getIds());
+		Assertions.assertEquals(4L, byPrice.getTotal());
+		Assertions.assertEquals(List.of(5L, 3L, 1L, 4L), byNameDesc.getIds());
+	}
+
+	@Test
+	public void pageShouldBeEmptyAfterTheLastPage() {
+
+		ProductSearchIndex.SearchResult result = index.page(index.match("gamer"),
+				PageRequest.of(5, 2, Sort.by("name")));
+
+		Assertions.assertTrue(result.getIds().isEmpty());
+		Assertions.assertEquals(3L, result.getTotal());
+	}
+
+	@Test
+	public void canAnswerShouldRejectUnsupportedSortAndUnpagedRequests() {
+
+		Assertions.assertTrue(index.canAnswer(PageRequest.of(0, 10, Sort.by("name", "price"))));
+		Assertions.assertFalse(index.canAnswer(PageRequest.of(0, 10, Sort.by("moment"))));
+		Assertions.assertFalse(index.canAnswer(Pageable.unpaged()));
+		Assertions.assertFalse(new ProductSearchIndex().canAnswer(PageRequest.of(0, 10)));
+	}
+
+	private static ProductDTO product(Long id, String name, String description, Double price) {
+		return new ProductDTO(id, name, description, price, null, Instant.parse("2020-07-13T20:50:07Z"));
+	}
+
+}
@@ -0,0 +1,137 @@
+package com.devsuperior.dscatalog.services.search;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.devsuperior.dscatalog.dto.ProductDTO;
+
+public class ProductSuggestIndexTests {
+
+	private ProductSuggestIndex index;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		index = new ProductSuggestIndex();
+
+		index.index(product(1L, "PC Gamer"));
+		index.index(product(2L, "Smart TV"));
+		index.index(product(3L, "Notebook Gamer"));
+		index.index(product(4L, "PC Gamer Alfa"));
+
+		index.refresh();
+	}
+
+	@Test
+	public void suggestShouldReturnNamesStartingWithPrefixFirst() {
+
+		List<String> result = index.suggest("gam", 10);
+
+		Assertions.assertEquals(Arrays.asList("PC Gamer", "PC Gamer Alfa", "Notebook Gamer"), result);
+	}
+
+	@Test
+	public void suggestShouldIgnoreCaseAndAccents() {
+		Assertions.assertEquals(Arrays.asList("Smart TV"), index.suggest("SMÁRT", 10));
+	}
+
+	@Test
+	public void suggestShouldReturnEmptyWhenPrefixIsBlank() {
+		Assertions.assertTrue(index.suggest("  ", 10).isEmpty());
+	}
+
+	@Test
+	public void suggestShouldRespectLimit() {
+		Assertions.assertEquals(1, index.suggest("gam", 1).size());
+	}
+
+	// 2026-10-18 - Escritas aparecem na hora, sem reconstruir a trie
+	@Test
+	public void suggestShouldFindNewProductRightAfterIndex() {
+
+		index.index(product(5L, "Gamepad"));
+
+		Assertions.assertEquals(Arrays.asList("Gamepad"), index.suggest("gamep", 10));
+		Assertions.assertEquals(Arrays.asList("Gamepad", "PC Gamer", "PC Gamer Alfa", "Notebook Gamer"),
+				index.suggest("gam", 10));
+	}
+
+	@Test
+	public void suggestShouldFindNewNameAfterUpdate() {
+
+		index.index(product(2L, "Smart TV OLED"));
+
+		Assertions.assertEquals(Arrays.asList("Smart TV OLED"), index.suggest("ole", 10));
+		Assertions.assertEquals(Arrays.asList("Smart TV OLED"), index.suggest("smart", 10));
+		Assertions.assertTrue(index.suggest("tv o", 10).contains("Smart TV OLED"));
+	}
+
+	@Test
+	public void suggestShouldNotFindRemovedProduct() {
+
+		index.remove(4L);
+
+		Assertions.assertTrue(index.suggest("alf", 10).isEmpty());
+		Assertions.assertEquals(Arrays.asList("PC Gamer", "Notebook Gamer"), index.suggest("gam", 10));
+	}
+
+	@Test
+	public void suggestShouldKeepNameWhileAnotherProductHasIt() {
+
+		index.index(product(5L, "pc gamer"));
+		index.remove(1L);
+
+		Assertions.assertEquals(Arrays.asList("pc gamer", "PC Gamer Alfa"), index.suggest("pc", 10));
+
+		index.remove(5L);
+
+		Assertions.assertEquals(Arrays.asList("PC Gamer Alfa"), index.suggest("pc", 10));
+	}
+
+	// Sequência aleatória de escritas aplicadas na trie publicada: o resultado
+	// é o mesmo de uma trie montada do zero com os mesmos nomes
+	@Test
+	public void incrementalWritesShouldMatchFullBuild() {
+
+		String[] words = { "pc", "gamer", "smart", "tv", "note", "notebook", "game", "g", "alfa", "alf" };
+		Random random = new Random(42);
+
+		for (int i = 0; i < 2000; i++) {
+
+			long id = 1 + random.nextInt(60);
+
+			if (random.nextInt(4) == 0) {
+				index.remove(id);
+			} else {
+				String name = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)];
+				index.index(product(id, random.nextBoolean() ? name : name.toUpperCase()));
+			}
+		}
+
+		List<List<String>> incremental = new ArrayList<>();
+		List<List<String>> rebuilt = new ArrayList<>();
+
+		for (String prefix : words) {
+			incremental.add(index.suggest(prefix, ProductSuggestIndex.MAX_SUGGESTIONS));
+		}
+
+		index.refresh();
+
+		for (String prefix : words) {
+			rebuilt.add(index.suggest(prefix, ProductSuggestIndex.MAX_SUGGESTIONS));
+		}
+
+		Assertions.assertEquals(rebuilt, incremental);
+	}
+
+	private static ProductDTO product(Long id, String name) {
+		return new ProductDTO(id, name, "", 100.0, null, Instant.parse("2020-07-13T20:50:07Z"));
+	}
+}
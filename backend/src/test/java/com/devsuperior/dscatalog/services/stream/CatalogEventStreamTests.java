@@ -0,0 +1,181 @@
+package com.devsuperior.dscatalog.services.stream;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.devsuperior.dscatalog.services.events.CategoryChangedEvent;
+import com.devsuperior.dscatalog.services.exceptions.TooManyRequestsException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class CatalogEventStreamTests {
+
+	private static final String CLIENT = "10.0.0.1";
+
+	private CatalogEventStream catalogEventStream;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	// Emitters entregues pelo stream, na ordem das assinaturas
+	private Deque<SseEmitter> emitters;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		meterRegistry = new SimpleMeterRegistry();
+		emitters = new ArrayDeque<>();
+
+		catalogEventStream = new CatalogEventStream() {
+			@Override
+			SseEmitter newEmitter(long timeoutMillis) {
+				return emitters.isEmpty() ? new RecordingEmitter() : emitters.poll();
+			}
+		};
+
+		ReflectionTestUtils.setField(catalogEventStream, "objectMapper", new ObjectMapper());
+		ReflectionTestUtils.setField(catalogEventStream, "meterRegistry", meterRegistry);
+		ReflectionTestUtils.setField(catalogEventStream, "bufferSize", 16);
+		ReflectionTestUtils.setField(catalogEventStream, "overflowPolicy", CatalogEventStream.OverflowPolicy.DROP_OLDEST);
+		ReflectionTestUtils.setField(catalogEventStream, "maxSubscribers", 100);
+		ReflectionTestUtils.setField(catalogEventStream, "maxSubscribersPerClient", 2);
+		ReflectionTestUtils.setField(catalogEventStream, "senderThreads", 1);
+		ReflectionTestUtils.setField(catalogEventStream, "sendTimeoutMillis", 100L);
+		ReflectionTestUtils.setField(catalogEventStream, "maxStalledSenders", 4);
+		ReflectionTestUtils.setField(catalogEventStream, "heartbeatSeconds", 3600L);
+		ReflectionTestUtils.setField(catalogEventStream, "timeoutMinutes", 30L);
+		catalogEventStream.init();
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		catalogEventStream.shutdown();
+	}
+
+	@Test
+	public void subscribeShouldThrowTooManyRequestsExceptionWhenClientReachesLimit() {
+
+		catalogEventStream.subscribe(List.of(), CLIENT);
+		catalogEventStream.subscribe(List.of(), CLIENT);
+
+		Assertions.assertThrows(TooManyRequestsException.class, () -> catalogEventStream.subscribe(List.of(), CLIENT));
+
+		// Outro cliente tem as próprias vagas
+		Assertions.assertNotNull(catalogEventStream.subscribe(List.of(), "10.0.0.2"));
+	}
+
+	@Test
+	public void subscribeShouldReturnNullWhenGlobalLimitIsReached() {
+
+		ReflectionTestUtils.setField(catalogEventStream, "maxSubscribers", 1);
+
+		Assertions.assertNotNull(catalogEventStream.subscribe(List.of(), CLIENT));
+		Assertions.assertNull(catalogEventStream.subscribe(List.of(), "10.0.0.2"));
+	}
+
+	@Test
+	public void stalledSendShouldDropSubscriberAndKeepOthersReceiving() throws Exception {
+
+		BlockingEmitter slow = new BlockingEmitter();
+		RecordingEmitter fast = new RecordingEmitter();
+		emitters.add(slow);
+		emitters.add(fast);
+
+		catalogEventStream.subscribe(List.of(1L), CLIENT);
+		catalogEventStream.subscribe(List.of(2L), CLIENT);
+
+		// A única thread de envio fica presa no cliente lento
+		catalogEventStream.onCategoryChanged(CategoryChangedEvent.delete(1L));
+		Assertions.assertTrue(slow.started.await(5, TimeUnit.SECONDS));
+
+		try {
+			catalogEventStream.onCategoryChanged(CategoryChangedEvent.delete(2L));
+
+			// O watchdog derruba o lento e põe outra thread no lugar
+			Assertions.assertTrue(fast.received.await(5, TimeUnit.SECONDS));
+			Assertions.assertEquals(1.0, meterRegistry.get("catalog.stream.stalled").functionCounter().count());
+			Assertions.assertEquals(1.0, meterRegistry.get("catalog.stream.subscribers").gauge().value());
+
+			// A vaga do cliente lento foi devolvida
+			Assertions.assertNotNull(catalogEventStream.subscribe(List.of(), CLIENT));
+		} finally {
+			slow.release.countDown();
+		}
+
+		// Quando o envio preso termina, a conexão é encerrada e a thread extra sai do pool
+		Assertions.assertTrue(slow.completed.await(5, TimeUnit.SECONDS));
+
+		ThreadPoolExecutor sender = (ThreadPoolExecutor) ReflectionTestUtils.getField(catalogEventStream, "sender");
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+		while (sender.getCorePoolSize() != 1 && System.nanoTime() < deadline) {
+			Thread.sleep(10L);
+		}
+
+		Assertions.assertEquals(1, sender.getCorePoolSize());
+	}
+
+	@Test
+	public void fastSubscriberShouldNotBeDroppedByWatchdog() throws Exception {
+
+		RecordingEmitter fast = new RecordingEmitter();
+		emitters.add(fast);
+
+		catalogEventStream.subscribe(List.of(), CLIENT);
+		catalogEventStream.onCategoryChanged(CategoryChangedEvent.delete(1L));
+
+		Assertions.assertTrue(fast.received.await(5, TimeUnit.SECONDS));
+
+		// Bem mais que o limite de envio sem nada pendente
+		Thread.sleep(300L);
+
+		Assertions.assertEquals(0.0, meterRegistry.get("catalog.stream.stalled").functionCounter().count());
+		Assertions.assertEquals(1.0, meterRegistry.get("catalog.stream.subscribers").gauge().value());
+	}
+
+	private static class RecordingEmitter extends SseEmitter {
+
+		final CountDownLatch received = new CountDownLatch(1);
+
+		@Override
+		public void send(SseEventBuilder builder) throws IOException {
+			received.countDown();
+		}
+	}
+
+	// Cliente que não lê: o envio fica preso até o teste liberar
+	private static class BlockingEmitter extends SseEmitter {
+
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final CountDownLatch completed = new CountDownLatch(1);
+
+		@Override
+		public void send(SseEventBuilder builder) throws IOException {
+			started.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		@Override
+		public synchronized void complete() {
+			completed.countDown();
+		}
+	}
+
+}